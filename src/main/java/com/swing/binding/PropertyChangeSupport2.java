@@ -1,8 +1,14 @@
 package com.swing.binding;
 
+import java.beans.IndexedPropertyChangeEvent;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeSupport;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.ObjectUtils;
 import org.slf4j.Logger;
@@ -11,6 +17,14 @@ import org.slf4j.LoggerFactory;
 /**
  * Extends {@link PropertyChangeSupport} to not fire a property change event when the old and new values are {@code null}. It also allows firing of events to be paused by setting
  * {@code paused} to {@code true}.
+ * <p>
+ * How events are held while paused is determined by the {@link PauseMode}. By default every event is queued and fired when no longer paused, in
+ * {@link PauseMode#COALESCE} mode one event per property is held (first old value, last new value).
+ * </p>
+ * <p>
+ * Each event is either logged at the configured {@link EventLogLevel} (messages are only formatted if the level is enabled) or, in
+ * {@link EventLogMode#COUNT} mode, counted per property by {@link EventCounters} without any logging.
+ * </p>
  * 
  * @author Stephen Neal
  */
@@ -19,36 +33,162 @@ public class PropertyChangeSupport2 extends PropertyChangeSupport {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(PropertyChangeSupport2.class);
 
+    /**
+     * Determines how property change events are held while paused.
+     */
+    public enum PauseMode {
+        /**
+         * Queue every event, all queued events are fired when no longer paused.
+         */
+        QUEUE,
+        /**
+         * Hold one event per property name with the first old value and the last new value, when no longer paused one
+         * event per property is fired. Indexed events are not coalesced.
+         */
+        COALESCE
+    }
+
+    /**
+     * Determines what is recorded for each event passed to {@link PropertyChangeSupport2#firePropertyChange(PropertyChangeEvent)}.
+     */
+    public enum EventLogMode {
+        /**
+         * Log each event at the {@link EventLogLevel}.
+         */
+        LOG,
+        /**
+         * Count FIRE/IGNORE/PAUSE events per property, nothing is logged.
+         */
+        COUNT,
+        /**
+         * Record nothing.
+         */
+        OFF
+    }
+
+    /**
+     * The level events are logged at in {@link EventLogMode#LOG} mode.
+     */
+    public enum EventLogLevel {
+        TRACE, DEBUG, INFO
+    }
+
+    private static final String PAUSE_FORMAT = "firePropertyChange: PAUSE property change (disabled); source = {}; property = {}; oldValue = {}; newValue = {}";
+    private static final String IGNORE_FORMAT = "firePropertyChange: IGNORE property change (new and old values equal); source = {}; property = {}; oldValue = newValue ({})";
+    private static final String FIRE_FORMAT = "firePropertyChange: FIRE source = {}; property = {}; oldValue = {}; newValue = {}";
+
     private boolean paused;
+    private PauseMode pauseMode;
+    private EventLogMode eventLogMode;
+    private EventLogLevel eventLogLevel;
+    private transient EventCounters eventCounters;
     private final ConcurrentLinkedQueue<PropertyChangeEvent> pausedEventQueue;
+    private transient CoalescedEvents coalescedEvents;
+    private transient CoalescedEvents coalescedEventsSpare;
 
     public PropertyChangeSupport2(Object sourceBean) {
+        this(sourceBean, PauseMode.QUEUE);
+    }
+
+    public PropertyChangeSupport2(Object sourceBean, PauseMode pauseMode) {
         super(sourceBean);
         this.paused = false;
         this.pausedEventQueue = new ConcurrentLinkedQueue<PropertyChangeEvent>();
+        this.eventLogMode = EventLogMode.LOG;
+        this.eventLogLevel = EventLogLevel.INFO;
+        setPauseMode(pauseMode);
     }
 
     /**
-     * Fire a property change event if oldValue is not equal to new value.
+     * Fire a property change event if oldValue is not equal to new value. An event without a property name (i.e. all
+     * properties changed) is always fired.
      */
     @Override
     public void firePropertyChange(PropertyChangeEvent evt) {
         if (isPaused()) {
-            LOGGER.info("firePropertyChange: PAUSE property change (disabled); source = " + getSimpleClassName(evt.getSource()) + "; property = "
-                    + evt.getPropertyName() + "; oldValue = " + evt.getOldValue() + "; newValue = "
-                    + evt.getNewValue());
-            this.pausedEventQueue.add(evt);
-        } else if (ObjectUtils.equals(evt.getOldValue(), evt.getNewValue())) {
-            LOGGER.info("firePropertyChange: IGNORE property change (new and old values equal); source = " + getSimpleClassName(evt.getSource()) + "; property = "
-                    + evt.getPropertyName() + "; oldValue = newValue (" + evt.getNewValue() + ")");
+            if (this.eventLogMode == EventLogMode.COUNT) {
+                getEventCounters().pause(evt.getPropertyName());
+            } else if (isEventLogEnabled()) {
+                logEvent(PAUSE_FORMAT, new Object[] { getSimpleClassName(evt.getSource()), evt.getPropertyName(), evt.getOldValue(),
+                        evt.getNewValue() });
+            }
+            pause(evt);
+        } else if (evt.getPropertyName() != null && ObjectUtils.equals(evt.getOldValue(), evt.getNewValue())) {
+            if (this.eventLogMode == EventLogMode.COUNT) {
+                getEventCounters().ignore(evt.getPropertyName());
+            } else if (isEventLogEnabled()) {
+                logEvent(IGNORE_FORMAT, new Object[] { getSimpleClassName(evt.getSource()), evt.getPropertyName(), evt.getNewValue() });
+            }
         } else {
-            LOGGER.info("firePropertyChange: FIRE source = " + getSimpleClassName(evt.getSource()) + "; property = "
-                    + evt.getPropertyName() + "; oldValue = " + evt.getOldValue() + "; newValue = "
-                    + evt.getNewValue());
+            if (this.eventLogMode == EventLogMode.COUNT) {
+                getEventCounters().fire(evt.getPropertyName());
+            } else if (isEventLogEnabled()) {
+                logEvent(FIRE_FORMAT, new Object[] { getSimpleClassName(evt.getSource()), evt.getPropertyName(), evt.getOldValue(),
+                        evt.getNewValue() });
+            }
             super.firePropertyChange(evt);
         }
     }
 
+    /**
+     * Get the value of {@code eventLogMode}.
+     * 
+     * @return the value of {@code eventLogMode}.
+     */
+    public EventLogMode getEventLogMode() {
+        return this.eventLogMode;
+    }
+
+    /**
+     * Set the value of {@code eventLogMode}.
+     * 
+     * @param newValue
+     *            what is recorded for each event, {@code null} is the same as {@link EventLogMode#OFF}.
+     */
+    public void setEventLogMode(EventLogMode newValue) {
+        this.eventLogMode = newValue == null ? EventLogMode.OFF : newValue;
+    }
+
+    /**
+     * Get the value of {@code eventLogLevel}.
+     * 
+     * @return the value of {@code eventLogLevel}.
+     */
+    public EventLogLevel getEventLogLevel() {
+        return this.eventLogLevel;
+    }
+
+    /**
+     * Set the value of {@code eventLogLevel}, the level events are logged at in {@link EventLogMode#LOG} mode.
+     * 
+     * @param newValue
+     *            the level to log events at, must not be {@code null}.
+     */
+    public void setEventLogLevel(EventLogLevel newValue) {
+        if (newValue == null) {
+            throw new IllegalArgumentException("eventLogLevel must not be null");
+        }
+        this.eventLogLevel = newValue;
+    }
+
+    /**
+     * Get the event counters. Counters are only updated in {@link EventLogMode#COUNT} mode.
+     * 
+     * @return the event counters.
+     */
+    public EventCounters getEventCounters() {
+        EventCounters counters = this.eventCounters;
+        if (counters == null) {
+            synchronized (this) {
+                if (this.eventCounters == null) {
+                    this.eventCounters = new EventCounters();
+                }
+                counters = this.eventCounters;
+            }
+        }
+        return counters;
+    }
+
     /**
      * Get the value of {@code paused}. If it is {@code false} property change events will fire.
      * 
@@ -59,7 +199,34 @@ public class PropertyChangeSupport2 extends PropertyChangeSupport {
     }
 
     /**
-     * Set the value of {@code paused}. When paused events are not fired but added to a queue, when no longer paused all queued events are fired.
+     * Get the value of {@code pauseMode}.
+     * 
+     * @return the value of {@code pauseMode}.
+     */
+    public PauseMode getPauseMode() {
+        return this.pauseMode;
+    }
+
+    /**
+     * Set the value of {@code pauseMode}. The mode cannot be changed while paused.
+     * 
+     * @param newValue
+     *            how events are held while paused, {@code null} is the same as {@link PauseMode#QUEUE}.
+     * @throws IllegalStateException
+     *             if paused.
+     */
+    public void setPauseMode(PauseMode newValue) {
+        synchronized (this) {
+            if (this.paused) {
+                throw new IllegalStateException("cannot change the pause mode while paused");
+            }
+            this.pauseMode = newValue == null ? PauseMode.QUEUE : newValue;
+        }
+    }
+
+    /**
+     * Set the value of {@code paused}. When paused events are not fired but held according to the {@link PauseMode}, when no longer paused all held
+     * events are fired.
      * 
      * @param newValue
      *            {@code true} to pause firing property change events otherwise {@code false}.
@@ -67,13 +234,78 @@ public class PropertyChangeSupport2 extends PropertyChangeSupport {
     public void setPaused(boolean newValue) {
         synchronized (this) {
             this.paused = newValue;
-            if (!this.paused && !this.pausedEventQueue.isEmpty()) {
+            // A listener may pause again, the events not yet fired are then held again
+            while (!this.paused) {
                 PropertyChangeEvent e = this.pausedEventQueue.poll();
-                while (e != null) {
-                    firePropertyChange(e);
-                    e = this.pausedEventQueue.poll();
+                if (e == null) {
+                    break;
+                }
+                firePropertyChange(e);
+            }
+            if (!this.paused && this.coalescedEvents != null && !this.coalescedEvents.isEmpty()) {
+                // Hold the events of listeners that pause again in another buffer. The spare buffer is taken while the
+                // events are fired so a listener that pauses and resumes again (re-entrant) does not hold events in the
+                // buffer being fired
+                CoalescedEvents events = this.coalescedEvents;
+                this.coalescedEvents = this.coalescedEventsSpare != null ? this.coalescedEventsSpare
+                                : new CoalescedEvents(CoalescedEvents.DEFAULT_CAPACITY);
+                this.coalescedEventsSpare = null;
+                try {
+                    for (int i = 0, n = events.size(); i < n; i++) {
+                        firePropertyChange(events.get(i));
+                    }
+                } finally {
+                    events.clear();
+                    if (this.coalescedEventsSpare == null) {
+                        this.coalescedEventsSpare = events;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hold an event while paused.
+     */
+    private void pause(PropertyChangeEvent evt) {
+        if (this.pauseMode == PauseMode.COALESCE) {
+            synchronized (this) {
+                if (this.coalescedEvents == null) {
+                    this.coalescedEvents = new CoalescedEvents(CoalescedEvents.DEFAULT_CAPACITY);
+                    this.coalescedEventsSpare = new CoalescedEvents(CoalescedEvents.DEFAULT_CAPACITY);
                 }
+                this.coalescedEvents.add(evt);
             }
+        } else {
+            this.pausedEventQueue.add(evt);
+        }
+    }
+
+    private boolean isEventLogEnabled() {
+        if (this.eventLogMode != EventLogMode.LOG) {
+            return false;
+        }
+        switch (this.eventLogLevel) {
+        case TRACE:
+            return LOGGER.isTraceEnabled();
+        case DEBUG:
+            return LOGGER.isDebugEnabled();
+        default:
+            return LOGGER.isInfoEnabled();
+        }
+    }
+
+    private void logEvent(String format, Object[] args) {
+        switch (this.eventLogLevel) {
+        case TRACE:
+            LOGGER.trace(format, args);
+            break;
+        case DEBUG:
+            LOGGER.debug(format, args);
+            break;
+        default:
+            LOGGER.info(format, args);
+            break;
         }
     }
 
@@ -81,4 +313,190 @@ public class PropertyChangeSupport2 extends PropertyChangeSupport {
         return o == null ? null : o.getClass().getSimpleName();
     }
 
+    /**
+     * Holds one event per property name in preallocated arrays, indexed by property name. The capacity only grows when
+     * a bean has more distinct properties changed while paused than the current capacity, therefore it is bounded by
+     * the number of properties of the bean not by the number of changes. Indexed events are held as they are, an
+     * indexed event for a property ends the coalescing of the events of the property before it so the order of the
+     * events is kept.
+     */
+    private static final class CoalescedEvents {
+        static final int DEFAULT_CAPACITY = 16;
+
+        private final Map<String, Integer> indexes;
+        private PropertyChangeEvent[] first;
+        private Object[] newValues;
+        private boolean[] coalesced;
+        private int size;
+
+        CoalescedEvents(int capacity) {
+            this.indexes = new HashMap<String, Integer>(capacity * 2);
+            this.first = new PropertyChangeEvent[capacity];
+            this.newValues = new Object[capacity];
+            this.coalesced = new boolean[capacity];
+            this.size = 0;
+        }
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        void add(PropertyChangeEvent evt) {
+            if (evt instanceof IndexedPropertyChangeEvent) {
+                this.indexes.remove(evt.getPropertyName());
+            } else {
+                Integer i = this.indexes.get(evt.getPropertyName());
+                if (i != null) {
+                    this.newValues[i.intValue()] = evt.getNewValue();
+                    this.coalesced[i.intValue()] = true;
+                    return;
+                }
+                this.indexes.put(evt.getPropertyName(), Integer.valueOf(this.size));
+            }
+            if (this.size == this.first.length) {
+                grow();
+            }
+            this.first[this.size] = evt;
+            this.newValues[this.size] = evt.getNewValue();
+            this.coalesced[this.size] = false;
+            this.size++;
+        }
+
+        /**
+         * Get the event to fire for the property at the index. The original event is returned if the property only
+         * changed once.
+         */
+        PropertyChangeEvent get(int i) {
+            PropertyChangeEvent evt = this.first[i];
+            if (!this.coalesced[i]) {
+                return evt;
+            }
+            return new PropertyChangeEvent(evt.getSource(), evt.getPropertyName(), evt.getOldValue(), this.newValues[i]);
+        }
+
+        void clear() {
+            for (int i = 0; i < this.size; i++) {
+                this.first[i] = null;
+                this.newValues[i] = null;
+            }
+            this.size = 0;
+            this.indexes.clear();
+        }
+
+        private void grow() {
+            int capacity = this.first.length * 2;
+            PropertyChangeEvent[] newFirst = new PropertyChangeEvent[capacity];
+            Object[] newNewValues = new Object[capacity];
+            boolean[] newCoalesced = new boolean[capacity];
+            System.arraycopy(this.first, 0, newFirst, 0, this.size);
+            System.arraycopy(this.newValues, 0, newNewValues, 0, this.size);
+            System.arraycopy(this.coalesced, 0, newCoalesced, 0, this.size);
+            this.first = newFirst;
+            this.newValues = newNewValues;
+            this.coalesced = newCoalesced;
+        }
+    }
+
+    /**
+     * Counts the FIRE/IGNORE/PAUSE events per property name. Counts are held in arrays of atomic counters, counting an
+     * event for a property already counted neither allocates nor locks.
+     */
+    public static final class EventCounters {
+        private static final int FIRE = 0;
+        private static final int IGNORE = 1;
+        private static final int PAUSE = 2;
+        private static final String ALL_PROPERTIES = "";
+
+        private final ConcurrentMap<String, AtomicLong[]> counts;
+
+        EventCounters() {
+            this.counts = new ConcurrentHashMap<String, AtomicLong[]>();
+        }
+
+        /**
+         * Get the number of events fired for the property.
+         * 
+         * @param propertyName
+         *            property name, {@code null} for events that apply to all properties.
+         * @return the number of events fired.
+         */
+        public long getFireCount(String propertyName) {
+            return get(propertyName, FIRE);
+        }
+
+        /**
+         * Get the number of events ignored for the property because the old and new values were equal.
+         * 
+         * @param propertyName
+         *            property name, {@code null} for events that apply to all properties.
+         * @return the number of events ignored.
+         */
+        public long getIgnoreCount(String propertyName) {
+            return get(propertyName, IGNORE);
+        }
+
+        /**
+         * Get the number of events held for the property while paused.
+         * 
+         * @param propertyName
+         *            property name, {@code null} for events that apply to all properties.
+         * @return the number of events held while paused.
+         */
+        public long getPauseCount(String propertyName) {
+            return get(propertyName, PAUSE);
+        }
+
+        /**
+         * Reset all counts to zero.
+         */
+        public void reset() {
+            this.counts.clear();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("EventCounters[");
+            for (Map.Entry<String, AtomicLong[]> e : this.counts.entrySet()) {
+                AtomicLong[] c = e.getValue();
+                sb.append(e.getKey()).append("=(fire=").append(c[FIRE].get()).append(", ignore=").append(c[IGNORE].get()).append(", pause=")
+                        .append(c[PAUSE].get()).append(")");
+            }
+            return sb.append("]").toString();
+        }
+
+        void fire(String propertyName) {
+            increment(propertyName, FIRE);
+        }
+
+        void ignore(String propertyName) {
+            increment(propertyName, IGNORE);
+        }
+
+        void pause(String propertyName) {
+            increment(propertyName, PAUSE);
+        }
+
+        private void increment(String propertyName, int type) {
+            String key = propertyName == null ? ALL_PROPERTIES : propertyName;
+            AtomicLong[] c = this.counts.get(key);
+            if (c == null) {
+                c = new AtomicLong[] { new AtomicLong(), new AtomicLong(), new AtomicLong() };
+                AtomicLong[] existing = this.counts.putIfAbsent(key, c);
+                if (existing != null) {
+                    c = existing;
+                }
+            }
+            c[type].incrementAndGet();
+        }
+
+        private long get(String propertyName, int type) {
+            AtomicLong[] c = this.counts.get(propertyName == null ? ALL_PROPERTIES : propertyName);
+            return c == null ? 0L : c[type].get();
+        }
+    }
+
 }
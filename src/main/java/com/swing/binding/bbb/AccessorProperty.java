@@ -0,0 +1,210 @@
+package com.swing.binding.bbb;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jdesktop.beansbinding.BeanProperty;
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+
+/**
+ * A {@link org.jdesktop.beansbinding.Property} for a single, named property of a Java bean. It is an alternative to
+ * {@link BeanProperty} that can be used wherever a {@link org.jdesktop.beansbinding.Property} is accepted.
+ * <p>
+ * {@link BeanProperty} resolves each value through introspection of the source class. This resolves the getter, setter
+ * and property change listener methods once per source class with a {@link PropertyAccessor} cached by the property,
+ * and caches the accessor of the last source class so reading or writing a value is a single reflective method
+ * invocation.
+ * </p>
+ * <p>
+ * Only simple property names are supported, use {@link BeanProperty} for paths (e.g. "a.b") and for {@link Map}
+ * sources. Changes are observed via the bean's {@code addPropertyChangeListener} method, Swing component properties
+ * that need a BetterBeansBinding adapter (e.g. the "text" of a {@link javax.swing.text.JTextComponent}) should use
+ * {@link BeanProperty}.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <S> the type of source object that this {@code AccessorProperty} operates on
+ * @param <V> the type of value that this {@code AccessorProperty} represents
+ */
+public final class AccessorProperty<S, V> extends PropertyHelper<S, V> {
+
+    /**
+     * Creates an instance of {@code AccessorProperty} for the given property name.
+     *
+     * @param name the property name
+     * @return an instance of {@code AccessorProperty} for the given property name
+     * @throws IllegalArgumentException if the name is {@code null}, empty or is a path
+     */
+    public static final <S, V> AccessorProperty<S, V> create(String name) {
+        return new AccessorProperty<S, V>(name);
+    }
+
+    private final String name;
+    private final ConcurrentMap<Class<?>, PropertyAccessor> accessors;
+    private volatile PropertyAccessor lastAccessor;
+    private final Map<S, SourceEntry> sourceEntries;
+
+    private AccessorProperty(String name) {
+        super();
+        if (name == null || name.length() == 0 || name.indexOf('.') >= 0) {
+            throw new IllegalArgumentException("name must be a property name: " + name);
+        }
+        this.name = name;
+        this.accessors = new ConcurrentHashMap<Class<?>, PropertyAccessor>(4);
+        this.sourceEntries = new IdentityHashMap<S, SourceEntry>();
+    }
+
+    /**
+     * Get the property name.
+     *
+     * @return the property name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<? extends V> getWriteType(S source) {
+        if (!isWriteable(source)) {
+            throw new UnsupportedOperationException(this + " is not writeable");
+        }
+        return (Class<? extends V>) accessor(source).getType();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue(S source) {
+        if (!isReadable(source)) {
+            throw new UnsupportedOperationException(this + " is not readable");
+        }
+        return (V) accessor(source).getValue(source);
+    }
+
+    @Override
+    public void setValue(S source, V value) {
+        if (!isWriteable(source)) {
+            throw new UnsupportedOperationException(this + " is not writeable");
+        }
+        accessor(source).setValue(source, value);
+    }
+
+    @Override
+    public boolean isReadable(S source) {
+        return source != null && accessor(source).isReadable();
+    }
+
+    @Override
+    public boolean isWriteable(S source) {
+        return source != null && accessor(source).isWriteable();
+    }
+
+    @Override
+    protected void listeningStarted(S source) {
+        SourceEntry entry = new SourceEntry(source);
+        synchronized (this.sourceEntries) {
+            this.sourceEntries.put(source, entry);
+        }
+        entry.start();
+    }
+
+    @Override
+    protected void listeningStopped(S source) {
+        SourceEntry entry;
+        synchronized (this.sourceEntries) {
+            entry = this.sourceEntries.remove(source);
+        }
+        if (entry != null) {
+            entry.stop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[" + this.name + "]";
+    }
+
+    /**
+     * Get the accessor for the class of the source, the accessor for the last class is cached.
+     */
+    private PropertyAccessor accessor(Object source) {
+        Class<?> c = source.getClass();
+        PropertyAccessor a = this.lastAccessor;
+        if (a == null || a.getBeanClass() != c) {
+            a = this.accessors.get(c);
+            if (a == null) {
+                a = PropertyAccessor.create(c, this.name);
+                PropertyAccessor existing = this.accessors.putIfAbsent(c, a);
+                if (existing != null) {
+                    a = existing;
+                }
+            }
+            this.lastAccessor = a;
+        }
+        return a;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    /**
+     * Listens to property changes of a source and notifies the property state listeners.
+     */
+    private final class SourceEntry implements PropertyChangeListener {
+        private final S source;
+        private Object cachedValue;
+        private boolean listening;
+
+        SourceEntry(S source) {
+            this.source = source;
+        }
+
+        void start() {
+            this.cachedValue = read();
+            if (this.source != null) {
+                PropertyAccessor a = accessor(this.source);
+                if (a.isObservable()) {
+                    a.addPropertyChangeListener(this.source, this);
+                    this.listening = true;
+                }
+            }
+        }
+
+        void stop() {
+            if (this.listening) {
+                accessor(this.source).removePropertyChangeListener(this.source, this);
+                this.listening = false;
+            }
+            this.cachedValue = null;
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            String propertyName = evt.getPropertyName();
+            if (propertyName != null && !AccessorProperty.this.name.equals(propertyName)) {
+                return;
+            }
+            Object oldValue = this.cachedValue;
+            Object newValue = read();
+            this.cachedValue = newValue;
+            if (!equal(oldValue, newValue)) {
+                firePropertyStateChange(new PropertyStateEvent(AccessorProperty.this, this.source, true, oldValue,
+                                newValue, false, isWriteable(this.source)));
+            }
+        }
+
+        private Object read() {
+            return isReadable(this.source) ? accessor(this.source).getValue(this.source)
+                            : PropertyStateEvent.UNREADABLE;
+        }
+    }
+
+}
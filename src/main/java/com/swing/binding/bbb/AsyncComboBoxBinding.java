@@ -0,0 +1,150 @@
+package com.swing.binding.bbb;
+
+import java.util.List;
+
+import javax.swing.ComboBoxModel;
+import javax.swing.JComboBox;
+import javax.swing.SwingUtilities;
+
+import org.jdesktop.beansbinding.AutoBinding;
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.swingbinding.JComboBoxBinding;
+
+/**
+ * Binds a {@code List} property of a bean to a {@link JComboBox} through an {@link AsyncComboBoxModel}, the list is the
+ * source. This is an alternative to {@link JComboBoxBinding} for large lists, e.g. lookups, the model is loaded in
+ * chunks over several passes of the EDT rather than in the pass that binds or replaces the list.
+ * <p>
+ * When bound the model and its key selection manager (prefix type-ahead) are installed on the combo box, the previous
+ * model and key selection manager are restored when unbound. Bind the selection with
+ * {@link ListBinding#selection(Object, Property, AsyncComboBoxBinding)}, which sets the selected item of the model
+ * whether or not it is loaded.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the source {@code List}
+ * @param <SS> the type of source object (on which the source property resolves to {@code List})
+ */
+public class AsyncComboBoxBinding<E, SS> extends AutoBinding<SS, List<E>, JComboBox, List<E>> {
+
+    private final AsyncComboBoxModel<E> model;
+    private ComboBoxModel previousModel;
+    private JComboBox.KeySelectionManager previousKeySelectionManager;
+
+    /**
+     * @param sourceObject the source object
+     * @param sourceListProperty a property on the source object that resolves to the {@code List} of elements
+     * @param comboBox the combo box
+     * @param model the combo box model
+     */
+    @SuppressWarnings("unchecked")
+    protected AsyncComboBoxBinding(SS sourceObject, Property<SS, List<E>> sourceListProperty, JComboBox comboBox,
+                    AsyncComboBoxModel<E> model) {
+        super(UpdateStrategy.READ, sourceObject, sourceListProperty, comboBox, new ElementsProperty<E>(), null);
+        if (comboBox == null) {
+            throw new IllegalArgumentException("comboBox can't be null");
+        }
+        if (model == null) {
+            throw new IllegalArgumentException("model can't be null");
+        }
+        this.model = model;
+        ((ElementsProperty<E>) getTargetProperty()).model = this.model;
+    }
+
+    /**
+     * Get the combo box model.
+     *
+     * @return the model
+     */
+    public AsyncComboBoxModel<E> getModel() {
+        return this.model;
+    }
+
+    @Override
+    protected void bindImpl() {
+        invokeInEdt(new Runnable() {
+            @Override
+            public void run() {
+                JComboBox comboBox = getTargetObject();
+                AsyncComboBoxBinding.this.previousModel = comboBox.getModel();
+                AsyncComboBoxBinding.this.previousKeySelectionManager = comboBox.getKeySelectionManager();
+                comboBox.setModel(AsyncComboBoxBinding.this.model);
+                comboBox.setKeySelectionManager(AsyncComboBoxBinding.this.model.getKeySelectionManager());
+            }
+        });
+        super.bindImpl();
+    }
+
+    @Override
+    protected void unbindImpl() {
+        super.unbindImpl();
+        invokeInEdt(new Runnable() {
+            @Override
+            public void run() {
+                AsyncComboBoxBinding.this.model.setElements(null);
+                JComboBox comboBox = getTargetObject();
+                if (comboBox.getModel() == AsyncComboBoxBinding.this.model) {
+                    comboBox.setModel(AsyncComboBoxBinding.this.previousModel);
+                    comboBox.setKeySelectionManager(AsyncComboBoxBinding.this.previousKeySelectionManager);
+                }
+                AsyncComboBoxBinding.this.previousModel = null;
+                AsyncComboBoxBinding.this.previousKeySelectionManager = null;
+            }
+        });
+    }
+
+    private static void invokeInEdt(Runnable r) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            r.run();
+        } else {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+
+    /**
+     * The elements of the combo box model, the target property of the binding. The elements are set in the thread of
+     * the binding, the model copies the list in that thread.
+     */
+    private static final class ElementsProperty<E> extends PropertyHelper<JComboBox, List<E>> {
+        private AsyncComboBoxModel<E> model;
+
+        ElementsProperty() {
+            super(true);
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Class<? extends List<E>> getWriteType(JComboBox source) {
+            return (Class) List.class;
+        }
+
+        @Override
+        public List<E> getValue(JComboBox source) {
+            return this.model.getElements();
+        }
+
+        @Override
+        public void setValue(JComboBox source, List<E> value) {
+            this.model.setElements(value);
+        }
+
+        @Override
+        public boolean isReadable(JComboBox source) {
+            return true;
+        }
+
+        @Override
+        public boolean isWriteable(JComboBox source) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getName();
+        }
+    }
+
+}
@@ -0,0 +1,547 @@
+package com.swing.binding.bbb;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import javax.swing.JComboBox;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+
+/**
+ * A combo box model that loads the elements of a {@code List} in chunks, one chunk per pass of the EDT, so a list of
+ * many elements does not block the EDT when it is bound or replaced. The selected item is independent of the elements
+ * loaded, so the selection is shown before it is loaded.
+ * <p>
+ * The list is copied in the thread that sets it (e.g. the thread that produced it). The text of the elements is then
+ * indexed by an {@link Executor} for type-ahead: {@link #indexOfPrefix(String)} finds an element by the prefix of its
+ * text with a binary search of the sorted texts, rather than a scan of the elements, and loads the chunks up to it.
+ * Until the index is built the elements are scanned.
+ * </p>
+ * <p>
+ * Changes to an {@link ObservableList} are applied as they are notified: the elements added, removed or replaced are
+ * copied in the thread that changes the list and applied in the EDT in the same order. The list is only loaded again
+ * when all its elements are removed and added again (e.g. {@code clear()} then {@code addAll}). A change makes the
+ * index stale, it is built again in the background once for the changes applied in a pass of the EDT (the elements are
+ * scanned meanwhile), so changes do not each cost the EDT a copy of the index. Components that measure every item
+ * (e.g. the preferred width of a {@link JComboBox} without a prototype display value) measure the items loaded so far,
+ * set a prototype display value for large lists.
+ * </p>
+ * <p>
+ * The model is not serializable.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements
+ */
+@SuppressWarnings({ "rawtypes", "serial" })
+public final class AsyncComboBoxModel<E> extends AbstractListModel implements ComboBoxModel {
+
+    /**
+     * Provides the text of an element, the text that type-ahead matches. The text is read in a background thread.
+     *
+     * @param <E> the type of elements
+     */
+    public interface Text<E> {
+        String getText(E element);
+    }
+
+    /**
+     * The number of elements loaded in each pass of the EDT.
+     */
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final Object[] NO_ITEMS = new Object[0];
+
+    private final Text<? super E> text;
+    private final Executor executor;
+    private final Listener listener;
+    private final KeySelectionManager keySelectionManager;
+    private final ConcurrentLinkedQueue<Change> changes;
+    private final AtomicBoolean drainScheduled;
+    private volatile List<E> list;
+    private Object[] items;
+    private int size;
+    private int loaded;
+    private Object selectedItem;
+    private PrefixIndex index;
+    private boolean reindexScheduled;
+    private volatile int generation;
+    private volatile int indexGeneration;
+
+    /**
+     * Create a model that indexes the text ({@code toString}) of the elements in the shared pool of daemon threads.
+     */
+    public AsyncComboBoxModel() {
+        this(null, BackgroundExecutor.getInstance());
+    }
+
+    /**
+     * @param text provides the text of an element, {@code null} for {@code toString}
+     * @param executor executes the indexing of the text of the elements
+     */
+    public AsyncComboBoxModel(Text<? super E> text, Executor executor) {
+        super();
+        if (executor == null) {
+            throw new IllegalArgumentException("executor can't be null");
+        }
+        this.text = text;
+        this.executor = executor;
+        this.listener = new Listener();
+        this.keySelectionManager = new KeySelectionManager();
+        this.changes = new ConcurrentLinkedQueue<Change>();
+        this.drainScheduled = new AtomicBoolean();
+        this.items = NO_ITEMS;
+    }
+
+    /**
+     * Get the list of elements.
+     *
+     * @return the list, {@code null} if there is none
+     */
+    public List<E> getElements() {
+        return this.list;
+    }
+
+    /**
+     * Set the list of elements, may be invoked in any thread. The list is copied in the calling thread and loaded in
+     * chunks in the EDT, replacing the elements loaded. The changes of the list made after it is set are applied after
+     * it is loaded.
+     *
+     * @param newValue the list, {@code null} is empty
+     */
+    public void setElements(final List<E> newValue) {
+        final Object[] snapshot = newValue == null ? NO_ITEMS : newValue.toArray();
+        List<E> l = this.list;
+        if (l instanceof ObservableList) {
+            ((ObservableList<E>) l).removeObservableListListener(this.listener);
+        }
+        this.list = newValue;
+        if (newValue instanceof ObservableList) {
+            ((ObservableList<E>) newValue).addObservableListListener(this.listener);
+        }
+        this.listener.changed(new Change(newValue) {
+            @Override
+            void apply() {
+                load(snapshot);
+            }
+        });
+    }
+
+    /**
+     * Test whether elements remain to be loaded.
+     *
+     * @return {@code true} if the elements are not all loaded
+     */
+    public boolean isLoading() {
+        return this.loaded < this.size;
+    }
+
+    /**
+     * Find the first element (in the order of its text) whose text starts with a prefix, ignoring case. The chunks up
+     * to the element are loaded so its index is an index of the model. Must be invoked in the EDT.
+     *
+     * @param prefix the prefix
+     * @return the index of the element, -1 if there is none
+     */
+    public int indexOfPrefix(String prefix) {
+        String p = prefix.toLowerCase(Locale.ROOT);
+        int i = this.index == null ? scan(p) : this.index.indexOf(p);
+        if (i >= this.loaded) {
+            int first = this.loaded;
+            this.loaded = i + 1;
+            fireIntervalAdded(this, first, i);
+        }
+        return i;
+    }
+
+    /**
+     * Get the key selection manager that selects elements by the prefix typed, for {@link JComboBox}.
+     *
+     * @return the key selection manager
+     */
+    public JComboBox.KeySelectionManager getKeySelectionManager() {
+        return this.keySelectionManager;
+    }
+
+    @Override
+    public int getSize() {
+        return this.loaded;
+    }
+
+    @Override
+    public Object getElementAt(int index) {
+        return index >= 0 && index < this.loaded ? this.items[index] : null;
+    }
+
+    /**
+     * Set the selected item, which need not be loaded.
+     */
+    @Override
+    public void setSelectedItem(Object anItem) {
+        Object old = this.selectedItem;
+        if (old == anItem || (old != null && old.equals(anItem))) {
+            return;
+        }
+        this.selectedItem = anItem;
+        fireContentsChanged(this, -1, -1);
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return this.selectedItem;
+    }
+
+    /**
+     * Replace the elements with a copy of a list, removing the elements loaded and starting to load and index the copy.
+     */
+    private void load(Object[] snapshot) {
+        final int gen = ++this.generation;
+        final int indexGen = ++this.indexGeneration;
+        int removed = this.loaded;
+        this.items = snapshot;
+        this.size = snapshot.length;
+        this.loaded = 0;
+        this.index = null;
+        if (removed > 0) {
+            fireIntervalRemoved(this, 0, removed - 1);
+        }
+        if (snapshot.length == 0) {
+            return;
+        }
+        loadChunk();
+        if (this.loaded < snapshot.length) {
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    if (gen == AsyncComboBoxModel.this.generation) {
+                        loadChunk();
+                        if (isLoading()) {
+                            SwingUtilities.invokeLater(this);
+                        }
+                    }
+                }
+            });
+        }
+        this.executor.execute(new IndexBuilder(indexGen, snapshot));
+    }
+
+    private void loadChunk() {
+        int first = this.loaded;
+        int last = Math.min(this.size, first + CHUNK_SIZE) - 1;
+        if (last >= first) {
+            this.loaded = last + 1;
+            fireIntervalAdded(this, first, last);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String text(Object element) {
+        String s = this.text == null ? String.valueOf(element) : this.text.getText((E) element);
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Find the first element whose text starts with the prefix in the order of the texts, by a scan of the elements.
+     */
+    private int scan(String prefix) {
+        int found = -1;
+        String foundText = null;
+        for (int i = 0; i < this.size; i++) {
+            String t = text(this.items[i]);
+            if (t.startsWith(prefix) && (foundText == null || t.compareTo(foundText) < 0)) {
+                found = i;
+                foundText = t;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Apply the changes of the list notified so far, in the order they were made.
+     */
+    private void drain() {
+        this.drainScheduled.set(false);
+        Change c = this.changes.poll();
+        while (c != null) {
+            if (c.list == this.list) {
+                c.apply();
+            }
+            c = this.changes.poll();
+        }
+    }
+
+    /**
+     * Insert elements. Elements inserted among the elements loaded are loaded, as are elements appended when all the
+     * elements are loaded, the others are loaded with their chunk.
+     */
+    private void insert(int at, Object[] elements) {
+        int length = elements.length;
+        if (this.size == 0) {
+            // All the elements were removed, load the list again
+            load(elements);
+            return;
+        }
+        boolean visible = at < this.loaded || this.loaded == this.size;
+        if (this.size + length > this.items.length) {
+            this.items = Arrays.copyOf(this.items, Math.max(this.size + length, this.size + (this.size >> 1)));
+        }
+        System.arraycopy(this.items, at, this.items, at + length, this.size - at);
+        System.arraycopy(elements, 0, this.items, at, length);
+        this.size += length;
+        reindex();
+        if (visible) {
+            this.loaded += length;
+            fireIntervalAdded(this, at, at + length - 1);
+        }
+    }
+
+    /**
+     * Remove elements, the elements removed that are loaded are notified.
+     */
+    private void remove(int at, int length) {
+        if (at == 0 && length == this.size) {
+            load(NO_ITEMS);
+            return;
+        }
+        System.arraycopy(this.items, at + length, this.items, at, this.size - at - length);
+        Arrays.fill(this.items, this.size - length, this.size, null);
+        this.size -= length;
+        reindex();
+        int removed = Math.min(at + length, this.loaded) - at;
+        if (removed > 0) {
+            this.loaded -= removed;
+            fireIntervalRemoved(this, at, at + removed - 1);
+        }
+    }
+
+    private void replace(int at, Object element) {
+        this.items[at] = element;
+        reindex();
+        if (at < this.loaded) {
+            fireContentsChanged(this, at, at);
+        }
+    }
+
+    /**
+     * Discard the index (and the index being built, if any) and build it again in the background after the changes
+     * applied in this pass of the EDT.
+     */
+    private void reindex() {
+        this.index = null;
+        ++this.indexGeneration;
+        if (this.reindexScheduled) {
+            return;
+        }
+        this.reindexScheduled = true;
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                AsyncComboBoxModel<E> m = AsyncComboBoxModel.this;
+                m.reindexScheduled = false;
+                if (m.index == null && m.size > 0) {
+                    m.executor.execute(new IndexBuilder(++m.indexGeneration, Arrays.copyOf(m.items, m.size)));
+                }
+            }
+        });
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    /**
+     * The texts of the elements in ascending order and the index of the element of each text.
+     */
+    private static final class PrefixIndex {
+        private final String[] texts;
+        private final int[] indexes;
+
+        PrefixIndex(String[] texts, int[] indexes) {
+            this.texts = texts;
+            this.indexes = indexes;
+        }
+
+        int indexOf(String prefix) {
+            // The first text not less than the prefix
+            int low = 0;
+            int high = this.texts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.texts[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low < this.texts.length && this.texts[low].startsWith(prefix) ? this.indexes[low] : -1;
+        }
+    }
+
+    /**
+     * Builds the prefix index of a copy of the elements and installs it in the EDT if the elements have not been
+     * replaced.
+     */
+    private final class IndexBuilder implements Runnable {
+        private final int gen;
+        private final Object[] snapshot;
+
+        /**
+         * @param gen the index generation, the index is not installed if it is built again meanwhile
+         */
+        IndexBuilder(int gen, Object[] snapshot) {
+            this.gen = gen;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void run() {
+            final int n = this.snapshot.length;
+            final String[] texts = new String[n];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                if (this.gen != AsyncComboBoxModel.this.indexGeneration) {
+                    return;
+                }
+                texts[i] = text(this.snapshot[i]);
+                order[i] = Integer.valueOf(i);
+            }
+            // A stable sort, so elements with the same text are in the order of the list
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer o1, Integer o2) {
+                    return texts[o1.intValue()].compareTo(texts[o2.intValue()]);
+                }
+            });
+            final String[] sorted = new String[n];
+            final int[] indexes = new int[n];
+            for (int i = 0; i < n; i++) {
+                indexes[i] = order[i].intValue();
+                sorted[i] = texts[indexes[i]];
+            }
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    if (IndexBuilder.this.gen == AsyncComboBoxModel.this.indexGeneration) {
+                        AsyncComboBoxModel.this.index = new PrefixIndex(sorted, indexes);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Selects the element whose text starts with the keys typed, keys typed within the {@code ComboBox.timeFactor} (as
+     * per the default key selection manager of the look and feel) extend the prefix.
+     */
+    private final class KeySelectionManager implements JComboBox.KeySelectionManager {
+        private String prefix = "";
+        private long time;
+
+        @Override
+        public int selectionForKey(char aKey, ComboBoxModel aModel) {
+            long now = System.currentTimeMillis();
+            Object timeFactor = UIManager.get("ComboBox.timeFactor");
+            long delay = timeFactor instanceof Long ? ((Long) timeFactor).longValue() : 1000L;
+            this.prefix = now - this.time < delay ? this.prefix + aKey : String.valueOf(aKey);
+            this.time = now;
+            return indexOfPrefix(this.prefix);
+        }
+    }
+
+    /**
+     * A change of the list, copied when it is notified and applied in the EDT.
+     */
+    private abstract static class Change {
+        final List<?> list;
+
+        Change(List<?> list) {
+            this.list = list;
+        }
+
+        abstract void apply();
+    }
+
+    /**
+     * Applies the changes of the list.
+     */
+    private final class Listener implements ObservableListListener {
+
+        void changed(Change c) {
+            AsyncComboBoxModel<E> m = AsyncComboBoxModel.this;
+            m.changes.add(c);
+            if (SwingUtilities.isEventDispatchThread()) {
+                drain();
+            } else if (m.drainScheduled.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        drain();
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void listElementsAdded(ObservableList list, final int index, int length) {
+            if (list != AsyncComboBoxModel.this.list) {
+                return;
+            }
+            final Object[] added = list.subList(index, index + length).toArray();
+            changed(new Change(list) {
+                @Override
+                void apply() {
+                    insert(index, added);
+                }
+            });
+        }
+
+        @Override
+        public void listElementsRemoved(ObservableList list, final int index, final List oldElements) {
+            if (list != AsyncComboBoxModel.this.list) {
+                return;
+            }
+            final int length = oldElements.size();
+            changed(new Change(list) {
+                @Override
+                void apply() {
+                    remove(index, length);
+                }
+            });
+        }
+
+        @Override
+        public void listElementReplaced(ObservableList list, final int index, Object oldElement) {
+            if (list != AsyncComboBoxModel.this.list) {
+                return;
+            }
+            final Object element = list.get(index);
+            changed(new Change(list) {
+                @Override
+                void apply() {
+                    replace(index, element);
+                }
+            });
+        }
+
+        @Override
+        public void listElementPropertyChanged(ObservableList list, int index) {
+            // The elements are not changed, the text is indexed when the element is added
+        }
+    }
+
+}
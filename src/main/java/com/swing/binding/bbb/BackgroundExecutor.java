@@ -0,0 +1,44 @@
+package com.swing.binding.bbb;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The shared executor of the work bindings do outside of the EDT (e.g. sorting rows, indexing the items of a combo
+ * box), a pool of daemon threads, one per processor, created when first used.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+final class BackgroundExecutor {
+
+    private static final class Holder {
+        static final Executor INSTANCE = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                        new ThreadFactory() {
+                            private final AtomicInteger count = new AtomicInteger();
+
+                            @Override
+                            public Thread newThread(Runnable r) {
+                                Thread t = new Thread(r, "BackgroundBinding-" + this.count.incrementAndGet());
+                                t.setDaemon(true);
+                                return t;
+                            }
+                        });
+    }
+
+    /**
+     * Get the shared executor.
+     *
+     * @return the shared executor
+     */
+    static Executor getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private BackgroundExecutor() {
+        super();
+    }
+
+}
@@ -0,0 +1,695 @@
+package com.swing.binding.bbb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JTable;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.SwingUtilities;
+import javax.swing.table.TableModel;
+
+import org.apache.log4j.Logger;
+import org.jdesktop.beansbinding.Binding;
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.swingbinding.JTableBinding;
+
+/**
+ * A {@link RowSorter} for a table bound by {@link ListBinding#model(Object, Property, JTable, java.util.Map)} that sorts
+ * and filters the rows in background threads. {@link javax.swing.table.TableRowSorter} sorts in the EDT, for a large
+ * list the UI freezes while the table is sorted.
+ * <p>
+ * Rows are sorted by the values of the column properties of the elements of the bound list (not the converted values
+ * of the table model) and filtered with a {@link Filter} of the elements. When the sort keys, the filter or the rows
+ * change the elements and the values of the sorted columns are copied in the EDT (the column properties are not
+ * thread-safe, they cache the values of their sources) and the view order is computed by an {@link Executor}, lists
+ * of {@value #PARALLEL_THRESHOLD} or more rows are split into ranges that are filtered and sorted in parallel then
+ * merged.
+ * The new order replaces the previous in a single pass of the EDT. A computation is abandoned if it is superseded by
+ * another (i.e. the input changed again) before it completes.
+ * </p>
+ * <p>
+ * Until a computation completes the view order is the previous order adjusted for the rows inserted and deleted, rows
+ * inserted are shown at the end.
+ * </p>
+ * <p>
+ * Like the other {@link RowSorter}s the sorter must only be accessed in the EDT. Comparators and the filter are invoked
+ * in background threads, possibly concurrently, and must be thread safe.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the bound {@code List}
+ */
+public final class BackgroundRowSorter<E> extends RowSorter<TableModel> {
+
+    /**
+     * Filters the elements of a {@link BackgroundRowSorter}.
+     *
+     * @param <E> the type of elements
+     */
+    public interface Filter<E> {
+
+        /**
+         * Return {@code true} if the element is shown.
+         *
+         * @param element element
+         * @return {@code true} if the element is shown
+         */
+        boolean include(E element);
+    }
+
+    /**
+     * The number of rows from which rows are sorted in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    private static final Logger LOGGER = Logger.getLogger(BackgroundRowSorter.class);
+    private static final int MAX_SORT_KEYS = 3;
+    private static final int CHECK_INTERVAL = 1024;
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private final JTableBinding<E, ?, ? extends JTable> binding;
+    private final Executor executor;
+    private final int parallelism;
+    private final Map<Integer, Comparator<?>> comparators;
+    private final AtomicInteger generation;
+    private final Runnable sortTask = new Runnable() {
+        @Override
+        public void run() {
+            if (BackgroundRowSorter.this.sortScheduled) {
+                sort();
+            }
+        }
+    };
+    private List<SortKey> sortKeys;
+    private Filter<? super E> filter;
+    private int[] viewToModel;
+    private int[] modelToView;
+    private int modelRowCount;
+    private boolean sorting;
+    private boolean sortScheduled;
+
+    /**
+     * Create a sorter that computes in a shared pool of daemon threads, one per processor.
+     *
+     * @param binding the binding of the table
+     */
+    public BackgroundRowSorter(JTableBinding<E, ?, ? extends JTable> binding) {
+        this(binding, BackgroundExecutor.getInstance(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param binding the binding of the table
+     * @param executor executes the computations
+     * @param parallelism the maximum number of ranges a large list is split into
+     */
+    public BackgroundRowSorter(JTableBinding<E, ?, ? extends JTable> binding, Executor executor, int parallelism) {
+        super();
+        if (binding == null) {
+            throw new IllegalArgumentException("binding can't be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor can't be null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.binding = binding;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.comparators = new HashMap<Integer, Comparator<?>>();
+        this.generation = new AtomicInteger();
+        this.sortKeys = Collections.emptyList();
+    }
+
+    @Override
+    public TableModel getModel() {
+        return this.binding.getTargetObject().getModel();
+    }
+
+    /**
+     * Set the comparator of the values of a column, by default values are compared by their natural order (or the
+     * order of {@link Object#toString()} if they are not {@link Comparable}). {@code null} values are first.
+     *
+     * @param column the model index of the column
+     * @param comparator comparator, {@code null} for the default
+     */
+    public void setComparator(int column, Comparator<?> comparator) {
+        checkColumn(column);
+        if (comparator == null) {
+            this.comparators.remove(Integer.valueOf(column));
+        } else {
+            this.comparators.put(Integer.valueOf(column), comparator);
+        }
+        if (isSorted(column)) {
+            sort();
+        }
+    }
+
+    /**
+     * Get the filter.
+     *
+     * @return the filter, {@code null} if all rows are shown
+     */
+    public Filter<? super E> getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Set the filter, the rows are filtered in the background.
+     *
+     * @param filter filter, {@code null} to show all rows
+     */
+    public void setFilter(Filter<? super E> filter) {
+        this.filter = filter;
+        sort();
+    }
+
+    /**
+     * Return {@code true} if a computation of the view order has not completed.
+     *
+     * @return {@code true} if a computation of the view order has not completed
+     */
+    public boolean isSorting() {
+        return this.sorting || this.sortScheduled;
+    }
+
+    /**
+     * Compute the view order again, e.g. after the comparators or the filter change their behaviour. Any computation
+     * in progress is abandoned.
+     */
+    public void sort() {
+        this.sortScheduled = false;
+        int gen = this.generation.incrementAndGet();
+        if (this.sortKeys.isEmpty() && this.filter == null) {
+            this.sorting = false;
+            setViewToModel(null, getModelRowCount());
+            return;
+        }
+        List<E> list = sourceList(this.binding);
+        Object[] elements = list == null ? new Object[0] : list.toArray();
+        if (elements.length != getModelRowCount()) {
+            // The model is not (yet) bound to the list, the change will be notified
+            this.sorting = false;
+            return;
+        }
+        int columnCount = this.binding.getColumnBindings().size();
+        List<SortKey> keys = new ArrayList<SortKey>(this.sortKeys.size());
+        for (SortKey k : this.sortKeys) {
+            if (k.getColumn() < columnCount && k.getSortOrder() != SortOrder.UNSORTED) {
+                keys.add(k);
+            }
+        }
+        this.sorting = true;
+        this.executor.execute(new Sort(gen, elements, this.filter, readValues(elements, keys), keys));
+    }
+
+    /**
+     * Read the values of the sorted columns of the elements, in the EDT.
+     *
+     * @return the values of each sort key by row
+     */
+    @SuppressWarnings("unchecked")
+    private Object[][] readValues(Object[] elements, List<SortKey> keys) {
+        Object[][] values = new Object[keys.size()][];
+        for (int k = 0; k < values.length; k++) {
+            Property<E, ?> p = columnProperty(this.binding.getColumnBinding(keys.get(k).getColumn()));
+            Object[] column = new Object[elements.length];
+            for (int i = 0; i < elements.length; i++) {
+                E e = (E) elements[i];
+                column[i] = p.isReadable(e) ? p.getValue(e) : null;
+            }
+            values[k] = column;
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Property<E, ?> columnProperty(Binding<?, ?, ?, ?> column) {
+        return (Property<E, ?>) column.getSourceProperty();
+    }
+
+    private static <E, SS> List<E> sourceList(Binding<SS, List<E>, ?, ?> b) {
+        Property<SS, List<E>> p = b.getSourceProperty();
+        SS source = b.getSourceObject();
+        return p.isReadable(source) ? p.getValue(source) : null;
+    }
+
+    @Override
+    public void toggleSortOrder(int column) {
+        checkColumn(column);
+        List<SortKey> keys = new ArrayList<SortKey>(this.sortKeys);
+        SortOrder order = SortOrder.ASCENDING;
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i).getColumn() == column) {
+                if (i == 0 && keys.get(i).getSortOrder() == SortOrder.ASCENDING) {
+                    order = SortOrder.DESCENDING;
+                }
+                keys.remove(i);
+                break;
+            }
+        }
+        keys.add(0, new SortKey(column, order));
+        setSortKeys(keys.size() > MAX_SORT_KEYS ? keys.subList(0, MAX_SORT_KEYS) : keys);
+    }
+
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        return this.sortKeys;
+    }
+
+    @Override
+    public void setSortKeys(List<? extends SortKey> keys) {
+        List<SortKey> newKeys;
+        if (keys == null || keys.isEmpty()) {
+            newKeys = Collections.emptyList();
+        } else {
+            for (SortKey k : keys) {
+                if (k == null) {
+                    throw new IllegalArgumentException("sort keys can't contain null");
+                }
+                checkColumn(k.getColumn());
+            }
+            newKeys = Collections.unmodifiableList(new ArrayList<SortKey>(keys));
+        }
+        if (!newKeys.equals(this.sortKeys)) {
+            this.sortKeys = newKeys;
+            fireSortOrderChanged();
+            sort();
+        }
+    }
+
+    @Override
+    public int convertRowIndexToModel(int index) {
+        int[] v2m = this.viewToModel;
+        if (v2m == null) {
+            if (index < 0 || index >= getModelRowCount()) {
+                throw new IndexOutOfBoundsException("invalid view index " + index);
+            }
+            return index;
+        }
+        if (index < 0 || index >= v2m.length) {
+            throw new IndexOutOfBoundsException("invalid view index " + index);
+        }
+        return v2m[index];
+    }
+
+    @Override
+    public int convertRowIndexToView(int index) {
+        if (index < 0 || index >= getModelRowCount()) {
+            throw new IndexOutOfBoundsException("invalid model index " + index);
+        }
+        int[] v2m = this.viewToModel;
+        if (v2m == null) {
+            return index;
+        }
+        if (this.modelToView == null) {
+            int[] m2v = new int[this.modelRowCount];
+            Arrays.fill(m2v, -1);
+            for (int i = 0; i < v2m.length; i++) {
+                m2v[v2m[i]] = i;
+            }
+            this.modelToView = m2v;
+        }
+        return index < this.modelToView.length ? this.modelToView[index] : -1;
+    }
+
+    @Override
+    public int getViewRowCount() {
+        int[] v2m = this.viewToModel;
+        return v2m == null ? getModelRowCount() : v2m.length;
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return getModel().getRowCount();
+    }
+
+    @Override
+    public void modelStructureChanged() {
+        // Retain the sort keys of the columns that still exist
+        int columnCount = getModel().getColumnCount();
+        List<SortKey> keys = new ArrayList<SortKey>(this.sortKeys.size());
+        for (SortKey k : this.sortKeys) {
+            if (k.getColumn() < columnCount) {
+                keys.add(k);
+            }
+        }
+        if (keys.size() != this.sortKeys.size()) {
+            this.sortKeys = Collections.unmodifiableList(keys);
+            fireSortOrderChanged();
+        }
+        allRowsChanged();
+    }
+
+    @Override
+    public void allRowsChanged() {
+        if (this.viewToModel != null && this.modelRowCount != getModelRowCount()) {
+            // The previous order does not apply to the rows, show the model order until sorted
+            setViewToModel(null, getModelRowCount());
+        }
+        sortLater();
+    }
+
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+        int[] old = this.viewToModel;
+        if (old != null) {
+            int length = endRow - firstRow + 1;
+            int[] v2m = new int[old.length + length];
+            for (int i = 0; i < old.length; i++) {
+                int m = old[i];
+                v2m[i] = m >= firstRow ? m + length : m;
+            }
+            for (int i = 0; i < length; i++) {
+                v2m[old.length + i] = firstRow + i;
+            }
+            setViewToModel(v2m, this.modelRowCount + length);
+        }
+        sortLater();
+    }
+
+    @Override
+    public void rowsDeleted(int firstRow, int endRow) {
+        int[] old = this.viewToModel;
+        if (old != null) {
+            int length = endRow - firstRow + 1;
+            int[] v2m = new int[old.length];
+            int n = 0;
+            for (int i = 0; i < old.length; i++) {
+                int m = old[i];
+                if (m < firstRow) {
+                    v2m[n++] = m;
+                } else if (m > endRow) {
+                    v2m[n++] = m - length;
+                }
+            }
+            setViewToModel(n == v2m.length ? v2m : Arrays.copyOf(v2m, n), this.modelRowCount - length);
+        }
+        sortLater();
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+        sortLater();
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+        if (this.filter != null || isSorted(column)) {
+            sortLater();
+        }
+    }
+
+    /**
+     * Abandon any computation in progress and compute the view order in a later pass of the EDT, so a burst of changes
+     * (e.g. an update event for each cell) is computed once.
+     */
+    private void sortLater() {
+        this.generation.incrementAndGet();
+        if (!this.sortScheduled) {
+            this.sortScheduled = true;
+            SwingUtilities.invokeLater(this.sortTask);
+        }
+    }
+
+    private boolean isSorted(int column) {
+        for (SortKey k : this.sortKeys) {
+            if (k.getColumn() == column) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkColumn(int column) {
+        if (column < 0 || column >= getModel().getColumnCount()) {
+            throw new IndexOutOfBoundsException("column " + column + " out of range");
+        }
+    }
+
+    /**
+     * Replace the view order and notify the change, {@code null} is the model order.
+     */
+    private void setViewToModel(int[] v2m, int rowCount) {
+        int[] old = this.viewToModel;
+        this.viewToModel = v2m;
+        this.modelToView = null;
+        this.modelRowCount = rowCount;
+        if (old != null || v2m != null) {
+            fireRowSorterChanged(old);
+        }
+    }
+
+    /**
+     * Install the result of a computation if it is the latest, invoked in the EDT.
+     */
+    private void done(int gen, int[] v2m, int rowCount) {
+        if (gen != this.generation.get()) {
+            return;
+        }
+        this.sorting = false;
+        if (v2m != null) {
+            setViewToModel(v2m, rowCount);
+        }
+    }
+
+    /**
+     * Computes the view order of a copy of the elements.
+     */
+    private final class Sort implements Runnable {
+        private final int gen;
+        private final Object[] elements;
+        private final Filter<? super E> filter;
+        private final Object[][] values;
+        private final Comparator<Object>[] comparators;
+        private final boolean[] descending;
+
+        @SuppressWarnings("unchecked")
+        Sort(int gen, Object[] elements, Filter<? super E> filter, Object[][] values, List<SortKey> keys) {
+            this.gen = gen;
+            this.elements = elements;
+            this.filter = filter;
+            this.values = values;
+            this.comparators = new Comparator[keys.size()];
+            this.descending = new boolean[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                SortKey k = keys.get(i);
+                this.comparators[i] = (Comparator<Object>) BackgroundRowSorter.this.comparators.get(Integer
+                                .valueOf(k.getColumn()));
+                this.descending[i] = k.getSortOrder() == SortOrder.DESCENDING;
+            }
+        }
+
+        @Override
+        public void run() {
+            int[] v2m;
+            try {
+                v2m = compute();
+                if (v2m == null) {
+                    // Superseded
+                    return;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.error("failed to sort " + BackgroundRowSorter.this.binding, e);
+                v2m = null;
+            }
+            final int[] result = v2m;
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    done(Sort.this.gen, result, Sort.this.elements.length);
+                }
+            });
+        }
+
+        private boolean isStale() {
+            return this.gen != BackgroundRowSorter.this.generation.get();
+        }
+
+        /**
+         * Filter and sort the ranges, the first in this thread and the others by the executor, then merge.
+         *
+         * @return the view order, {@code null} if superseded
+         */
+        private int[] compute() {
+            int n = this.elements.length;
+            int ranges = n < PARALLEL_THRESHOLD ? 1 : Math.min(BackgroundRowSorter.this.parallelism, n
+                            / (PARALLEL_THRESHOLD / 2));
+            List<FutureTask<int[]>> tasks = new ArrayList<FutureTask<int[]>>(ranges);
+            for (int i = 0; i < ranges; i++) {
+                final int from = (int) ((long) n * i / ranges);
+                final int to = (int) ((long) n * (i + 1) / ranges);
+                tasks.add(new FutureTask<int[]>(new Callable<int[]>() {
+                    @Override
+                    public int[] call() {
+                        return sortRange(from, to);
+                    }
+                }));
+            }
+            for (int i = 1; i < ranges; i++) {
+                BackgroundRowSorter.this.executor.execute(tasks.get(i));
+            }
+            // Run any range not yet started in this thread, so waiting for the executor can't deadlock
+            List<int[]> runs = new ArrayList<int[]>(ranges);
+            for (FutureTask<int[]> t : tasks) {
+                t.run();
+                int[] run;
+                try {
+                    run = t.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+                if (run == null) {
+                    return null;
+                }
+                runs.add(run);
+            }
+            while (runs.size() > 1) {
+                if (isStale()) {
+                    return null;
+                }
+                List<int[]> merged = new ArrayList<int[]>((runs.size() + 1) / 2);
+                for (int i = 0; i < runs.size(); i += 2) {
+                    merged.add(i + 1 < runs.size() ? merge(runs.get(i), runs.get(i + 1)) : runs.get(i));
+                }
+                runs = merged;
+            }
+            return runs.get(0);
+        }
+
+        /**
+         * Filter the rows of the range and sort them.
+         *
+         * @return the rows in order, {@code null} if superseded
+         */
+        @SuppressWarnings("unchecked")
+        private int[] sortRange(int from, int to) {
+            int[] rows = new int[to - from];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if ((i - from) % CHECK_INTERVAL == 0 && isStale()) {
+                    return null;
+                }
+                E e = (E) this.elements[i];
+                if (this.filter != null && !this.filter.include(e)) {
+                    continue;
+                }
+                rows[count++] = i;
+            }
+            if (this.values.length == 0) {
+                // Filtered only, the rows are in model order
+                return count == rows.length ? rows : Arrays.copyOf(rows, count);
+            }
+            if (isStale()) {
+                return null;
+            }
+            int[] sorted = Arrays.copyOf(rows, count);
+            mergeSort(Arrays.copyOf(rows, count), sorted, 0, count);
+            return sorted;
+        }
+
+        /**
+         * Sort a range of rows into the destination, the source and destination hold the same rows on entry. Rows are
+         * sorted as primitives, with no boxing or comparator per row.
+         */
+        private void mergeSort(int[] src, int[] dest, int low, int high) {
+            int length = high - low;
+            if (length < INSERTION_SORT_THRESHOLD) {
+                for (int i = low + 1; i < high; i++) {
+                    int row = dest[i];
+                    int j = i;
+                    for (; j > low && compareRows(dest[j - 1], row) > 0; j--) {
+                        dest[j] = dest[j - 1];
+                    }
+                    dest[j] = row;
+                }
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            mergeSort(dest, src, low, mid);
+            mergeSort(dest, src, mid, high);
+            // The halves are already in order
+            if (compareRows(src[mid - 1], src[mid]) <= 0) {
+                System.arraycopy(src, low, dest, low, length);
+                return;
+            }
+            for (int i = low, p = low, q = mid; i < high; i++) {
+                if (q >= high || (p < mid && compareRows(src[p], src[q]) <= 0)) {
+                    dest[i] = src[p++];
+                } else {
+                    dest[i] = src[q++];
+                }
+            }
+        }
+
+        private int[] merge(int[] a, int[] b) {
+            int[] result = new int[a.length + b.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < a.length && j < b.length) {
+                result[k++] = compareRows(a[i], b[j]) <= 0 ? a[i++] : b[j++];
+            }
+            while (i < a.length) {
+                result[k++] = a[i++];
+            }
+            while (j < b.length) {
+                result[k++] = b[j++];
+            }
+            return result;
+        }
+
+        /**
+         * Compare rows by the values of the sort keys then by model index, so the order is stable.
+         */
+        private int compareRows(int row1, int row2) {
+            for (int k = 0; k < this.values.length; k++) {
+                int c = compareValues(this.comparators[k], this.values[k][row1], this.values[k][row2]);
+                if (c != 0) {
+                    return this.descending[k] ? -c : c;
+                }
+            }
+            return row1 < row2 ? -1 : (row1 == row2 ? 0 : 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compareValues(Comparator<Object> comparator, Object o1, Object o2) {
+            if (o1 == o2) {
+                return 0;
+            }
+            if (o1 == null) {
+                return -1;
+            }
+            if (o2 == null) {
+                return 1;
+            }
+            if (comparator != null) {
+                return comparator.compare(o1, o2);
+            }
+            if (o1 instanceof Comparable) {
+                return ((Comparable<Object>) o1).compareTo(o2);
+            }
+            return o1.toString().compareTo(o2.toString());
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.swing.binding.bbb;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jdesktop.observablecollections.ObservableCollections;
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+
+/**
+ * An {@link ObservableList} that can batch changes. Outside a batch it behaves as a list created by
+ * {@link ObservableCollections#observableList(List)}, except that {@link #addAll(int, Collection)} and removing a range
+ * (e.g. {@code subList(from, to).clear()}) notify a single event for the range.
+ * <p>
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} are not notified as they are made. When the batch
+ * ends the list is compared with its content when the batch began (see {@link ListDiff}) and one event is notified for
+ * each contiguous run of added or removed elements, so adding 10,000 elements to the end of the list in a batch is a
+ * single event for a bound table or combo box. The events are notified in ascending order of index, the index of each
+ * event is the position in the list after the previous events are applied.
+ * </p>
+ * <p>
+ * Beginning a batch copies the list. Like the lists of {@link ObservableCollections} this is not thread safe, changes
+ * must be made in a single thread (or synchronized externally).
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the list
+ */
+public final class BatchObservableList<E> extends AbstractList<E> implements ObservableList<E>, RandomAccess {
+
+    private final List<E> list;
+    private final List<ObservableListListener> listeners;
+    private int batchDepth;
+    private List<E> batchSnapshot;
+
+    /**
+     * Create an empty list.
+     */
+    public BatchObservableList() {
+        this(new ArrayList<E>());
+    }
+
+    /**
+     * Create a list backed by a list, the backing list must not be modified directly.
+     *
+     * @param list the backing list
+     */
+    public BatchObservableList(List<E> list) {
+        super();
+        if (list == null) {
+            throw new IllegalArgumentException("list can't be null");
+        }
+        this.list = list;
+        this.listeners = new CopyOnWriteArrayList<ObservableListListener>();
+    }
+
+    /**
+     * Begin a batch of changes, batches may be nested. Each invocation must be matched by an invocation of
+     * {@link #endBatch()}, typically in a {@code finally} block.
+     */
+    public void beginBatch() {
+        if (this.batchDepth++ == 0) {
+            this.batchSnapshot = new ArrayList<E>(this.list);
+        }
+    }
+
+    /**
+     * End a batch of changes, when the outermost batch ends the changes made during the batch are notified.
+     *
+     * @throws IllegalStateException if a batch has not begun
+     */
+    public void endBatch() {
+        if (this.batchDepth == 0) {
+            throw new IllegalStateException("batch has not begun");
+        }
+        if (--this.batchDepth == 0) {
+            List<E> snapshot = this.batchSnapshot;
+            this.batchSnapshot = null;
+            fireBatch(snapshot);
+        }
+    }
+
+    /**
+     * Return {@code true} if a batch has begun and not ended.
+     *
+     * @return {@code true} if a batch has begun and not ended
+     */
+    public boolean isBatch() {
+        return this.batchDepth > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return this.list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.list.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E oldValue = this.list.set(index, element);
+        if (this.batchDepth == 0) {
+            for (ObservableListListener l : this.listeners) {
+                l.listElementReplaced(this, index, oldValue);
+            }
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        this.list.add(index, element);
+        this.modCount++;
+        fireAdded(index, 1);
+    }
+
+    @Override
+    public E remove(int index) {
+        E oldValue = this.list.remove(index);
+        this.modCount++;
+        fireRemoved(index, Collections.singletonList(oldValue));
+        return oldValue;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        int length = c.size();
+        if (!this.list.addAll(index, c)) {
+            return false;
+        }
+        this.modCount++;
+        fireAdded(index, length);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size());
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        List<E> range = this.list.subList(fromIndex, toIndex);
+        List<E> oldElements = this.batchDepth == 0 ? new ArrayList<E>(range) : null;
+        range.clear();
+        this.modCount++;
+        fireRemoved(fromIndex, oldElements);
+    }
+
+    @Override
+    public void addObservableListListener(ObservableListListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeObservableListListener(ObservableListListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public boolean supportsElementPropertyChanged() {
+        return false;
+    }
+
+    private void fireAdded(int index, int length) {
+        if (this.batchDepth == 0 && length > 0) {
+            for (ObservableListListener l : this.listeners) {
+                l.listElementsAdded(this, index, length);
+            }
+        }
+    }
+
+    private void fireRemoved(int index, List<E> oldElements) {
+        if (this.batchDepth == 0 && !oldElements.isEmpty()) {
+            for (ObservableListListener l : this.listeners) {
+                l.listElementsRemoved(this, index, oldElements);
+            }
+        }
+    }
+
+    /**
+     * Notify the differences between the list before the batch and now. A single element removed and another added at
+     * the same position is notified as a replacement.
+     */
+    private void fireBatch(List<E> snapshot) {
+        if (this.listeners.isEmpty()) {
+            return;
+        }
+        List<ListDiff.Edit> edits = ListDiff.<E> identity().edits(snapshot, this.list);
+        for (int i = 0; i < edits.size(); i++) {
+            ListDiff.Edit e = edits.get(i);
+            ListDiff.Edit next = i + 1 < edits.size() ? edits.get(i + 1) : null;
+            if (isReplacement(e, next)) {
+                int from = e.insert ? next.from : e.from;
+                for (ObservableListListener l : this.listeners) {
+                    l.listElementReplaced(this, e.index, snapshot.get(from));
+                }
+                i++;
+            } else if (e.insert) {
+                fireAdded(e.index, e.to - e.from);
+            } else {
+                fireRemoved(e.index, new ArrayList<E>(snapshot.subList(e.from, e.to)));
+            }
+        }
+    }
+
+    /**
+     * Return {@code true} if the runs are a single element deleted and another inserted at the same position.
+     */
+    private static boolean isReplacement(ListDiff.Edit e, ListDiff.Edit next) {
+        if (next == null || e.insert == next.insert || e.to - e.from != 1 || next.to - next.from != 1) {
+            return false;
+        }
+        // An insert moves the following delete to the next position
+        return next.index == (e.insert ? e.index + 1 : e.index);
+    }
+
+}
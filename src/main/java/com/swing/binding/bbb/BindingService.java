@@ -1,40 +1,109 @@
 package com.swing.binding.bbb;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.swing.SwingUtilities;
 
 import org.apache.log4j.Logger;
 import org.jdesktop.beansbinding.Binding;
 import org.jdesktop.beansbinding.BindingListener;
 
+import com.swing.binding.bbb.mvc.PresentationModel;
+
 /**
  * Manage bindings. Provides a mechanism to release all bindings that are managed by this instance. It is also possible
  * to release bindings for a single source object. Bindings should be released to guard against memory leaks.
+ * <p>
+ * By default bindings are registered by source bean equality. The {@link Registry#WEAK_IDENTITY} registry registers
+ * bindings by source bean identity and references beans weakly, the entries for beans that are garbage collected
+ * without being released (with their bindings and targets) are removed automatically.
+ * </p>
+ * <p>
+ * A group of bindings, e.g. for a form, can be bound in one operation by {@link #bindAll(Collection)} or
+ * {@link #bindAllDeferred(Collection)}.
+ * </p>
  * 
  * @author Stephen Neal
  * @since 11/04/2013
  */
 public class BindingService {
 
+    /**
+     * Determines how bindings are registered by their source bean.
+     */
+    public enum Registry {
+        /**
+         * Register bindings by source bean equality, beans are referenced strongly until released.
+         */
+        EQUALITY,
+        /**
+         * Register bindings by source bean identity, beans are referenced weakly.
+         */
+        WEAK_IDENTITY
+    }
+
     private static final Logger LOGGER = Logger.getLogger(BindingService.class);
+    private static final int STRIPE_COUNT = 32;
+    /**
+     * Key for bindings with a {@code null} source bean, {@link ConcurrentHashMap} does not permit {@code null} keys.
+     */
+    private static final Object NULL_BEAN = new Object();
+
     private Map<Object, List<Binding<?, ?, ?, ?>>> bindingMap;
-    private boolean released;
+    private WeakBindingRegistry weakRegistry;
+    private volatile boolean released;
+    private volatile boolean releasePending;
+    private final ReentrantReadWriteLock releaseLock;
+    private final Object[] stripes;
+    private final Set<Binding<?, ?, ?, ?>> deferredBindings;
 
     /**
-     * Default constructor.
+     * Default constructor, uses the {@link Registry#EQUALITY} registry.
      */
     public BindingService() {
+        this(Registry.EQUALITY);
+    }
+
+    /**
+     * Create an instance that uses the given registry.
+     * 
+     * @param registry how bindings are registered by their source bean
+     */
+    public BindingService(Registry registry) {
         super();
         this.released = false;
-        this.bindingMap = new HashMap<Object, List<Binding<?, ?, ?, ?>>>(50);
+        this.releaseLock = new ReentrantReadWriteLock();
+        this.stripes = new Object[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            this.stripes[i] = new Object();
+        }
+        this.deferredBindings = Collections.synchronizedSet(Collections
+                        .newSetFromMap(new IdentityHashMap<Binding<?, ?, ?, ?>, Boolean>()));
+        if (registry == Registry.WEAK_IDENTITY) {
+            this.weakRegistry = new WeakBindingRegistry();
+        } else {
+            this.bindingMap = new ConcurrentHashMap<Object, List<Binding<?, ?, ?, ?>>>(64);
+        }
     }
 
     /**
      * Invokes {@link Binding#bind()} and adds the binding to the list of bindings to manage.
+     * <p>
+     * Bindings for different beans may be bound concurrently, only bindings for beans that share a lock stripe are
+     * serialised. The binding is registered and bound while holding the lock of the stripe of its bean, so
+     * {@link #release(Object)} of the bean waits for it, and while holding the shared side of the release lock so that
+     * {@link #release()} waits for bindings in progress and nothing can be bound after release.
+     * </p>
      * 
      * @param binding binding
      */
@@ -42,12 +111,117 @@ public class BindingService {
         if (binding == null) {
             return;
         }
-        // Synchronise to prevent binding during or after release
-        synchronized (this) {
+        // Shared lock to prevent binding during or after release
+        this.releaseLock.readLock().lock();
+        try {
             if (this.released) {
                 throw new IllegalStateException("cannot add bindings after the instance is released");
             }
-            Object key = binding.getSourceObject();
+            synchronized (stripe(binding.getSourceObject())) {
+                register(binding);
+                binding.bind();
+            }
+        } finally {
+            unlockRead();
+        }
+    }
+
+    /**
+     * Adds the bindings to the bindings to manage and invokes {@link Binding#bind()} for each. The bindings are
+     * registered with a single acquisition of the release lock and bound while property change events of the source
+     * beans are paused (source beans that are a {@link PresentationModel}), so events caused by binding are fired once
+     * all bindings are bound.
+     * 
+     * @param bindings bindings, {@code null} elements are ignored
+     */
+    public void bindAll(Collection<? extends Binding<?, ?, ?, ?>> bindings) {
+        if (bindings == null || bindings.isEmpty()) {
+            return;
+        }
+        this.releaseLock.readLock().lock();
+        try {
+            if (this.released) {
+                throw new IllegalStateException("cannot add bindings after the instance is released");
+            }
+            bindGroup(bindings, false);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    /**
+     * Adds the bindings to the bindings to manage immediately and invokes {@link Binding#bind()} for each in a single
+     * pass of the EDT. If invoked in the EDT the bindings are bound immediately. Bindings are bound as per
+     * {@link #bindAll(Collection)}.
+     * <p>
+     * Bindings released before the EDT pass (by {@link #release()} or {@link #release(Object)}) are not bound.
+     * </p>
+     * 
+     * @param bindings bindings, {@code null} elements are ignored
+     */
+    public void bindAllDeferred(Collection<? extends Binding<?, ?, ?, ?>> bindings) {
+        if (bindings == null || bindings.isEmpty()) {
+            return;
+        }
+        if (SwingUtilities.isEventDispatchThread()) {
+            bindAll(bindings);
+            return;
+        }
+        final List<Binding<?, ?, ?, ?>> group;
+        this.releaseLock.readLock().lock();
+        try {
+            if (this.released) {
+                throw new IllegalStateException("cannot add bindings after the instance is released");
+            }
+            group = registerAll(bindings);
+        } finally {
+            unlockRead();
+        }
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                bindDeferred(group);
+            }
+        });
+    }
+
+    /**
+     * Bind the bindings of a deferred group that have not been released.
+     */
+    private void bindDeferred(List<Binding<?, ?, ?, ?>> group) {
+        this.releaseLock.readLock().lock();
+        try {
+            if (this.released) {
+                return;
+            }
+            bindGroup(group, true);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    /**
+     * Release the shared side of the release lock, then release the instance if {@link #release()} was invoked while
+     * this thread was binding and the outermost binding has returned.
+     */
+    private void unlockRead() {
+        this.releaseLock.readLock().unlock();
+        if (this.releasePending && this.releaseLock.getReadHoldCount() == 0) {
+            release();
+        }
+    }
+
+    /**
+     * Add a binding to the registry, must hold the release lock and the lock of the stripe of its bean.
+     */
+    private void register(Binding<?, ?, ?, ?> binding) {
+        Object key = binding.getSourceObject();
+        if (this.weakRegistry != null) {
+            this.weakRegistry.add(key, binding);
+        } else {
+            if (key == null) {
+                key = NULL_BEAN;
+            }
             List<Binding<?, ?, ?, ?>> value = this.bindingMap.get(key);
             if (value == null) {
                 value = new ArrayList<Binding<?, ?, ?, ?>>(50);
@@ -57,19 +231,97 @@ public class BindingService {
                 value.add(binding);
             }
         }
-        binding.bind();
     }
 
     /**
-     * Release all bindings managed by this instance.
+     * Add the bindings to the registry and to the deferred bindings, must hold the release lock.
+     * 
+     * @return the bindings registered
+     */
+    private List<Binding<?, ?, ?, ?>> registerAll(Collection<? extends Binding<?, ?, ?, ?>> bindings) {
+        List<Binding<?, ?, ?, ?>> group = new ArrayList<Binding<?, ?, ?, ?>>(bindings.size());
+        for (Binding<?, ?, ?, ?> b : bindings) {
+            if (b != null) {
+                // A release of the bean removes the binding from both
+                synchronized (stripe(b.getSourceObject())) {
+                    register(b);
+                    this.deferredBindings.add(b);
+                }
+                group.add(b);
+            }
+        }
+        return group;
+    }
+
+    /**
+     * Bind a group of bindings while property change events of the source beans are paused, must hold the release
+     * lock. Each binding is registered (or for a deferred group, checked that it is not released) and bound while
+     * holding the lock of the stripe of its bean.
+     *
+     * @param group the bindings, {@code null} elements are ignored
+     * @param deferred {@code true} if the bindings are registered, only those still in the deferred bindings are bound
+     */
+    private void bindGroup(Collection<? extends Binding<?, ?, ?, ?>> group, boolean deferred) {
+        Map<PresentationModel, Boolean> paused = new IdentityHashMap<PresentationModel, Boolean>();
+        for (Binding<?, ?, ?, ?> b : group) {
+            Object source = b == null ? null : b.getSourceObject();
+            if (source instanceof PresentationModel && !paused.containsKey(source)) {
+                PresentationModel model = (PresentationModel) source;
+                // Do not take over a pause that is already in progress, or pause a model that does not support it
+                paused.put(model, Boolean.valueOf(model.pausePropertyChangeSupportIfUnpaused()));
+            }
+        }
+        try {
+            for (Binding<?, ?, ?, ?> b : group) {
+                if (b == null) {
+                    continue;
+                }
+                synchronized (stripe(b.getSourceObject())) {
+                    if (deferred) {
+                        if (!this.deferredBindings.remove(b)) {
+                            continue;
+                        }
+                    } else {
+                        register(b);
+                    }
+                    b.bind();
+                }
+            }
+        } finally {
+            for (Entry<PresentationModel, Boolean> e : paused.entrySet()) {
+                if (e.getValue().booleanValue()) {
+                    e.getKey().unpausePropertyChangeSupport();
+                }
+            }
+        }
+    }
+
+    /**
+     * Release all bindings managed by this instance. If invoked by a thread that is binding (e.g. from a listener
+     * notified during {@link #bind(Binding)}) the release is deferred until the thread returns from binding, the
+     * bindings bound meanwhile are released too.
      */
     public void release() {
-        // Synchronise to prevent binding during or after release
-        synchronized (this) {
+        if (this.releaseLock.getReadHoldCount() > 0) {
+            // The exclusive lock can't be acquired while holding the shared lock, release when binding returns
+            LOGGER.debug("deferring release of binding service until binding returns");
+            this.releasePending = true;
+            return;
+        }
+        // Exclusive lock to prevent binding during or after release
+        this.releaseLock.writeLock().lock();
+        try {
+            this.releasePending = false;
             if (this.released) {
                 return;
             }
             LOGGER.debug("releasing binding service");
+            this.released = true;
+            this.deferredBindings.clear();
+            if (this.weakRegistry != null) {
+                BindingService.release(this.weakRegistry.removeAll());
+                return;
+            }
             Iterator<Entry<Object, List<Binding<?, ?, ?, ?>>>> itr = this.bindingMap.entrySet().iterator();
             Entry<Object, List<Binding<?, ?, ?, ?>>> e = null;
             while (itr.hasNext()) {
@@ -77,7 +329,8 @@ public class BindingService {
                 BindingService.release(e.getKey(), e.getValue());
                 itr.remove();
             }
-            this.released = true;
+        } finally {
+            this.releaseLock.writeLock().unlock();
         }
     }
 
@@ -88,15 +341,47 @@ public class BindingService {
         if (bean == null) {
             return;
         }
-        // Synchronise to prevent binding during this release
-        synchronized (this) {
+        // Shared lock to prevent release of the instance during this release
+        this.releaseLock.readLock().lock();
+        try {
             if (this.released) {
                 return;
             }
             LOGGER.debug("releasing bean: " + bean);
-            BindingService.release(bean, this.bindingMap.get(bean));
-            this.bindingMap.remove(bean);
+            // Lock the stripe to prevent binding for the bean during this release, a binding is registered and bound
+            // while holding the stripe so it is released bound
+            synchronized (stripe(bean)) {
+                List<Binding<?, ?, ?, ?>> bindings;
+                if (this.weakRegistry != null) {
+                    bindings = this.weakRegistry.remove(bean);
+                } else {
+                    bindings = this.bindingMap.remove(bean);
+                }
+                if (bindings != null && !this.deferredBindings.isEmpty()) {
+                    this.deferredBindings.removeAll(bindings);
+                }
+                BindingService.release(bean, bindings);
+            }
+        } finally {
+            unlockRead();
+        }
+    }
+
+    /**
+     * Get the lock for the stripe of the bean, the stripe is chosen by the same hash the registry uses for the bean.
+     */
+    private Object stripe(Object bean) {
+        int h;
+        if (bean == null) {
+            h = 0;
+        } else if (this.weakRegistry != null) {
+            h = System.identityHashCode(bean);
+        } else {
+            h = bean.hashCode();
         }
+        // Spread the high bits so beans with similar hash codes do not share a stripe
+        h ^= (h >>> 16);
+        return this.stripes[h & (STRIPE_COUNT - 1)];
     }
 
     /**
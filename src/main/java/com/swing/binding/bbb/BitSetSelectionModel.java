@@ -0,0 +1,476 @@
+package com.swing.binding.bbb;
+
+import java.util.BitSet;
+
+import javax.swing.ListSelectionModel;
+import javax.swing.event.EventListenerList;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+
+/**
+ * A {@link ListSelectionModel} of a {@link BitSet}, with bulk operations. It behaves as
+ * {@link javax.swing.DefaultListSelectionModel} but the selection can also be replaced in a single operation (and a
+ * single event) with {@link #setSelection(BitSet)}, and the selected indexes can be iterated with
+ * {@link #nextSelectedIndex(int)} without testing each index.
+ * <p>
+ * Selecting N scattered rows with {@link javax.swing.DefaultListSelectionModel} is N interval operations, each firing
+ * an event (or combining the events while adjusting). {@link #setSelection(BitSet)} costs one pass of the bits that
+ * change.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public class BitSetSelectionModel implements ListSelectionModel {
+
+    private final EventListenerList listenerList;
+    private final BitSet value;
+    private int selectionMode;
+    private int anchorIndex;
+    private int leadIndex;
+    private boolean isAdjusting;
+    private int firstChangedIndex;
+    private int lastChangedIndex;
+    private int firstAdjustedIndex;
+    private int lastAdjustedIndex;
+
+    /**
+     * Create a model in {@link #MULTIPLE_INTERVAL_SELECTION} mode.
+     */
+    public BitSetSelectionModel() {
+        super();
+        this.listenerList = new EventListenerList();
+        this.value = new BitSet();
+        this.selectionMode = MULTIPLE_INTERVAL_SELECTION;
+        this.anchorIndex = -1;
+        this.leadIndex = -1;
+        resetChanged();
+        resetAdjusted();
+    }
+
+    /**
+     * Create a model with the selection mode, selection, anchor and lead of another model.
+     *
+     * @param model the model to copy
+     */
+    public BitSetSelectionModel(ListSelectionModel model) {
+        this();
+        this.selectionMode = model.getSelectionMode();
+        int max = model.getMaxSelectionIndex();
+        for (int i = model.getMinSelectionIndex(); i >= 0 && i <= max; i++) {
+            if (model.isSelectedIndex(i)) {
+                this.value.set(i);
+            }
+        }
+        this.anchorIndex = model.getAnchorSelectionIndex();
+        this.leadIndex = model.getLeadSelectionIndex();
+    }
+
+    /**
+     * Replace the selection, notified as a single change. The anchor and lead are set to the first and last index.
+     * Invalid for {@link #SINGLE_SELECTION} and {@link #SINGLE_INTERVAL_SELECTION} modes if more than one index or a
+     * non-contiguous range is set.
+     *
+     * @param indices the indexes to select
+     * @throws IllegalArgumentException if the selection is not valid for the selection mode
+     */
+    public void setSelection(BitSet indices) {
+        int first = indices.nextSetBit(0);
+        if (first < 0) {
+            clearSelection();
+            return;
+        }
+        int last = indices.length() - 1;
+        if (this.selectionMode == SINGLE_SELECTION && first != last) {
+            throw new IllegalArgumentException("more than one index in single selection mode");
+        }
+        if (this.selectionMode == SINGLE_INTERVAL_SELECTION && indices.nextClearBit(first) <= last) {
+            throw new IllegalArgumentException("more than one interval in single interval selection mode");
+        }
+        BitSet changed = (BitSet) this.value.clone();
+        changed.xor(indices);
+        this.value.clear();
+        this.value.or(indices);
+        this.anchorIndex = first;
+        this.leadIndex = last;
+        if (!changed.isEmpty()) {
+            markAsDirty(changed.nextSetBit(0));
+            markAsDirty(changed.length() - 1);
+        }
+        fireValueChanged();
+    }
+
+    /**
+     * Get the first selected index not less than an index.
+     *
+     * @param fromIndex the index to start from (inclusive)
+     * @return the selected index, -1 if there is none
+     */
+    public int nextSelectedIndex(int fromIndex) {
+        return this.value.nextSetBit(Math.max(0, fromIndex));
+    }
+
+    /**
+     * Get the number of selected indexes.
+     *
+     * @return the number of selected indexes
+     */
+    public int getSelectedCount() {
+        return this.value.cardinality();
+    }
+
+    @Override
+    public void setSelectionInterval(int index0, int index1) {
+        if (index0 == -1 || index1 == -1) {
+            return;
+        }
+        if (this.selectionMode == SINGLE_SELECTION) {
+            index0 = index1;
+        }
+        updateLeadAnchorIndices(index0, index1);
+        int min = Math.min(index0, index1);
+        int max = Math.max(index0, index1);
+        int oldMin = getMinSelectionIndex();
+        int oldMax = getMaxSelectionIndex();
+        if (oldMin >= 0) {
+            markAsDirty(oldMin);
+            markAsDirty(oldMax);
+        }
+        this.value.clear();
+        this.value.set(min, max + 1);
+        markAsDirty(min);
+        markAsDirty(max);
+        fireValueChanged();
+    }
+
+    @Override
+    public void addSelectionInterval(int index0, int index1) {
+        if (index0 == -1 || index1 == -1) {
+            return;
+        }
+        if (this.selectionMode == SINGLE_SELECTION) {
+            setSelectionInterval(index0, index1);
+            return;
+        }
+        int min = Math.min(index0, index1);
+        int max = Math.max(index0, index1);
+        // A range that is not contiguous with the selection replaces it in single interval mode
+        if (this.selectionMode == SINGLE_INTERVAL_SELECTION && !this.value.isEmpty()
+                        && (max < getMinSelectionIndex() - 1 || min > getMaxSelectionIndex() + 1)) {
+            setSelectionInterval(index0, index1);
+            return;
+        }
+        updateLeadAnchorIndices(index0, index1);
+        this.value.set(min, max + 1);
+        markAsDirty(min);
+        markAsDirty(max);
+        fireValueChanged();
+    }
+
+    @Override
+    public void removeSelectionInterval(int index0, int index1) {
+        if (index0 == -1 || index1 == -1) {
+            return;
+        }
+        updateLeadAnchorIndices(index0, index1);
+        int min = Math.min(index0, index1);
+        int max = Math.max(index0, index1);
+        // Removing from the middle of an interval would leave two intervals
+        if (this.selectionMode != MULTIPLE_INTERVAL_SELECTION && min > getMinSelectionIndex()
+                        && max < getMaxSelectionIndex()) {
+            max = getMaxSelectionIndex();
+        }
+        this.value.clear(min, max + 1);
+        markAsDirty(min);
+        markAsDirty(max);
+        fireValueChanged();
+    }
+
+    @Override
+    public int getMinSelectionIndex() {
+        return this.value.nextSetBit(0);
+    }
+
+    @Override
+    public int getMaxSelectionIndex() {
+        return this.value.length() - 1;
+    }
+
+    @Override
+    public boolean isSelectedIndex(int index) {
+        return index >= 0 && this.value.get(index);
+    }
+
+    @Override
+    public int getAnchorSelectionIndex() {
+        return this.anchorIndex;
+    }
+
+    @Override
+    public void setAnchorSelectionIndex(int index) {
+        updateLeadAnchorIndices(index, this.leadIndex);
+        fireValueChanged();
+    }
+
+    @Override
+    public int getLeadSelectionIndex() {
+        return this.leadIndex;
+    }
+
+    /**
+     * Set the lead, the range from the anchor to the lead is selected if the anchor is selected and deselected
+     * otherwise, the range from the anchor to the old lead is changed the other way (as per {@link javax.swing.DefaultListSelectionModel#setLeadSelectionIndex(int)}).
+     */
+    @Override
+    public void setLeadSelectionIndex(int index) {
+        int anchor = this.anchorIndex;
+        if (index == -1) {
+            if (anchor == -1) {
+                updateLeadAnchorIndices(anchor, index);
+                fireValueChanged();
+            }
+            return;
+        } else if (anchor == -1) {
+            return;
+        }
+        if (this.leadIndex == -1) {
+            this.leadIndex = index;
+        }
+        boolean select = this.value.get(anchor);
+        if (this.selectionMode == SINGLE_SELECTION) {
+            anchor = index;
+            select = true;
+        }
+        int oldMin = Math.min(this.anchorIndex, this.leadIndex);
+        int oldMax = Math.max(this.anchorIndex, this.leadIndex);
+        int newMin = Math.min(anchor, index);
+        int newMax = Math.max(anchor, index);
+        updateLeadAnchorIndices(anchor, index);
+        // The old range is changed to the opposite of the new range, then the new range is set
+        this.value.set(oldMin, oldMax + 1, !select);
+        this.value.set(newMin, newMax + 1, select);
+        markAsDirty(Math.min(oldMin, newMin));
+        markAsDirty(Math.max(oldMax, newMax));
+        fireValueChanged();
+    }
+
+    @Override
+    public void clearSelection() {
+        int min = getMinSelectionIndex();
+        if (min >= 0) {
+            markAsDirty(min);
+            markAsDirty(getMaxSelectionIndex());
+            this.value.clear();
+        }
+        fireValueChanged();
+    }
+
+    @Override
+    public boolean isSelectionEmpty() {
+        return this.value.isEmpty();
+    }
+
+    /**
+     * Insert indexes, shifting the selected indexes after them. The inserted indexes are selected if the index they
+     * are inserted before (or after) is selected, as per {@link javax.swing.DefaultListSelectionModel}.
+     */
+    @Override
+    public void insertIndexInterval(int index, int length, boolean before) {
+        int insMin = before ? index : index + 1;
+        int insMax = insMin + length - 1;
+        int max = getMaxSelectionIndex();
+        boolean select = this.selectionMode != SINGLE_SELECTION && isSelectedIndex(index);
+        if (max >= insMin) {
+            BitSet tail = this.value.get(insMin, max + 1);
+            this.value.clear(insMin, max + 1);
+            for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+                this.value.set(insMin + length + i);
+            }
+        }
+        if (select) {
+            this.value.set(insMin, insMax + 1);
+        }
+        int leadIndex = this.leadIndex;
+        if (leadIndex > index || (before && leadIndex == index)) {
+            leadIndex = this.leadIndex + length;
+        }
+        int anchorIndex = this.anchorIndex;
+        if (anchorIndex > index || (before && anchorIndex == index)) {
+            anchorIndex = this.anchorIndex + length;
+        }
+        if (leadIndex != this.leadIndex || anchorIndex != this.anchorIndex) {
+            updateLeadAnchorIndices(anchorIndex, leadIndex);
+        }
+        markAsDirty(insMin);
+        markAsDirty(Math.max(insMax, max + length));
+        fireValueChanged();
+    }
+
+    /**
+     * Remove indexes, shifting the selected indexes after them.
+     */
+    @Override
+    public void removeIndexInterval(int index0, int index1) {
+        int rmMin = Math.min(index0, index1);
+        int rmMax = Math.max(index0, index1);
+        int gap = rmMax - rmMin + 1;
+        int max = getMaxSelectionIndex();
+        if (max >= rmMin) {
+            BitSet tail = max > rmMax ? this.value.get(rmMax + 1, max + 1) : new BitSet();
+            this.value.clear(rmMin, max + 1);
+            for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+                this.value.set(rmMin + i);
+            }
+        }
+        int leadIndex = this.leadIndex;
+        if (leadIndex == 0 && rmMin == 0) {
+            // Do nothing
+        } else if (leadIndex > rmMax) {
+            leadIndex = this.leadIndex - gap;
+        } else if (leadIndex >= rmMin) {
+            leadIndex = rmMin - 1;
+        }
+        int anchorIndex = this.anchorIndex;
+        if (anchorIndex == 0 && rmMin == 0) {
+            // Do nothing
+        } else if (anchorIndex > rmMax) {
+            anchorIndex = this.anchorIndex - gap;
+        } else if (anchorIndex >= rmMin) {
+            anchorIndex = rmMin - 1;
+        }
+        if (leadIndex != this.leadIndex || anchorIndex != this.anchorIndex) {
+            updateLeadAnchorIndices(anchorIndex, leadIndex);
+        }
+        markAsDirty(rmMin);
+        markAsDirty(Math.max(rmMax, max));
+        fireValueChanged();
+    }
+
+    @Override
+    public void setValueIsAdjusting(boolean valueIsAdjusting) {
+        if (valueIsAdjusting != this.isAdjusting) {
+            this.isAdjusting = valueIsAdjusting;
+            fireValueChanged(valueIsAdjusting);
+        }
+    }
+
+    @Override
+    public boolean getValueIsAdjusting() {
+        return this.isAdjusting;
+    }
+
+    @Override
+    public void setSelectionMode(int selectionMode) {
+        switch (selectionMode) {
+            case SINGLE_SELECTION:
+            case SINGLE_INTERVAL_SELECTION:
+            case MULTIPLE_INTERVAL_SELECTION:
+                this.selectionMode = selectionMode;
+                break;
+            default:
+                throw new IllegalArgumentException("invalid selection mode " + selectionMode);
+        }
+    }
+
+    @Override
+    public int getSelectionMode() {
+        return this.selectionMode;
+    }
+
+    @Override
+    public void addListSelectionListener(ListSelectionListener l) {
+        this.listenerList.add(ListSelectionListener.class, l);
+    }
+
+    @Override
+    public void removeListSelectionListener(ListSelectionListener l) {
+        this.listenerList.remove(ListSelectionListener.class, l);
+    }
+
+    /**
+     * Get the listeners.
+     *
+     * @return the listeners
+     */
+    public ListSelectionListener[] getListSelectionListeners() {
+        return this.listenerList.getListeners(ListSelectionListener.class);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + " " + this.value;
+    }
+
+    private void updateLeadAnchorIndices(int anchor, int lead) {
+        if (this.anchorIndex != anchor) {
+            markAsDirty(this.anchorIndex);
+            markAsDirty(anchor);
+        }
+        if (this.leadIndex != lead) {
+            markAsDirty(this.leadIndex);
+            markAsDirty(lead);
+        }
+        this.anchorIndex = anchor;
+        this.leadIndex = lead;
+    }
+
+    private void markAsDirty(int index) {
+        if (index == -1) {
+            return;
+        }
+        this.firstAdjustedIndex = Math.min(this.firstAdjustedIndex, index);
+        this.lastAdjustedIndex = Math.max(this.lastAdjustedIndex, index);
+    }
+
+    private void resetChanged() {
+        this.firstChangedIndex = Integer.MAX_VALUE;
+        this.lastChangedIndex = Integer.MIN_VALUE;
+    }
+
+    private void resetAdjusted() {
+        this.firstAdjustedIndex = Integer.MAX_VALUE;
+        this.lastAdjustedIndex = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Notify the range changed since the last notification. While adjusting the range is also accumulated, so the
+     * notification when adjusting stops is the range of all the changes made while adjusting.
+     */
+    private void fireValueChanged() {
+        if (this.lastAdjustedIndex == Integer.MIN_VALUE) {
+            return;
+        }
+        if (this.isAdjusting) {
+            this.firstChangedIndex = Math.min(this.firstChangedIndex, this.firstAdjustedIndex);
+            this.lastChangedIndex = Math.max(this.lastChangedIndex, this.lastAdjustedIndex);
+        }
+        int first = this.firstAdjustedIndex;
+        int last = this.lastAdjustedIndex;
+        resetAdjusted();
+        fireValueChanged(first, last, this.isAdjusting);
+    }
+
+    private void fireValueChanged(boolean adjusting) {
+        if (this.lastChangedIndex == Integer.MIN_VALUE) {
+            return;
+        }
+        int first = this.firstChangedIndex;
+        int last = this.lastChangedIndex;
+        resetChanged();
+        fireValueChanged(first, last, adjusting);
+    }
+
+    private void fireValueChanged(int first, int last, boolean adjusting) {
+        Object[] listeners = this.listenerList.getListenerList();
+        ListSelectionEvent e = null;
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ListSelectionListener.class) {
+                if (e == null) {
+                    e = new ListSelectionEvent(this, first, last, adjusting);
+                }
+                ((ListSelectionListener) listeners[i + 1]).valueChanged(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,825 @@
+package com.swing.binding.bbb;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.swing.SwingUtilities;
+
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+
+/**
+ * Table model of a {@link VirtualTableBinding} created by
+ * {@link ListBinding#columnarModel(Object, org.jdesktop.beansbinding.Property, javax.swing.JTable, Map)}. The values
+ * of the columns are copied from the elements into an array per column when the elements are set, numeric columns
+ * ({@code int}, {@code long} and {@code double} properties and their wrappers) are stored in primitive arrays.
+ * <p>
+ * A table bound with a {@link org.jdesktop.swingbinding.JTableBinding} resolves each cell on each paint through a
+ * {@link org.jdesktop.beansbinding.BeanProperty}, so every numeric value is boxed (and introspected) on every paint.
+ * This model resolves a value once, when the element is added or the property changes, and keeps no boxed numbers.
+ * {@link #getValueAt(int, int)} boxes the value it returns, a renderer (or other code) that reads the model directly
+ * can use {@link #getInt(int, int)}, {@link #getLong(int, int)} and {@link #getDouble(int, int)} to avoid boxing.
+ * </p>
+ * <p>
+ * The columns are refreshed incrementally, by a single property change listener per element (i.e. not per cell) and a
+ * listener of the list (if it is an {@link ObservableList}). If the list notifies the property changes of its elements
+ * ({@link ObservableList#supportsElementPropertyChanged()}) the elements are not listened to. Only simple property
+ * names are supported as columns.
+ * </p>
+ * <p>
+ * The model must only be accessed in the EDT, changes to the list or its elements made in other threads are applied in
+ * the EDT.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the {@code List}
+ */
+public final class ColumnarTableModel<E> extends ElementsTableModel<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final String[] propertyNames;
+    private final String[] columnNames;
+    private final ListListener listListener;
+    private final ConcurrentMap<Class<?>, PropertyAccessor[]> accessors;
+    private List<E> elements;
+    private Column[] columns;
+    private ElementListener[] listeners;
+    private int rowCount;
+    private int capacity;
+
+    ColumnarTableModel(Map<String, String> columnMap) {
+        super();
+        List<String> properties = new ArrayList<String>();
+        List<String> names = new ArrayList<String>();
+        if (columnMap != null) {
+            for (Entry<String, String> e : columnMap.entrySet()) {
+                String property = e.getKey();
+                if (property == null || property.length() == 0 || property.indexOf('.') >= 0) {
+                    throw new IllegalArgumentException("column must be a property name: " + property);
+                }
+                properties.add(property);
+                names.add(e.getValue());
+            }
+        }
+        this.propertyNames = properties.toArray(new String[properties.size()]);
+        this.columnNames = names.toArray(new String[names.size()]);
+        this.listListener = new ListListener();
+        this.accessors = new ConcurrentHashMap<Class<?>, PropertyAccessor[]>(4);
+        this.columns = createColumns(null);
+        this.listeners = newListeners(0);
+    }
+
+    @Override
+    List<E> getElements() {
+        return this.elements;
+    }
+
+    @Override
+    void setElements(List<E> newValue) {
+        if (this.elements instanceof ObservableList) {
+            ((ObservableList<E>) this.elements).removeObservableListListener(this.listListener);
+        }
+        removeRows(0, this.rowCount);
+        this.elements = newValue;
+        // The column types are resolved from the first element
+        Class<?>[] oldClasses = columnClasses();
+        this.columns = createColumns(firstElement(newValue));
+        this.capacity = 0;
+        this.listeners = newListeners(0);
+        if (newValue != null) {
+            insertRows(0, snapshot(newValue, observeElements(newValue)));
+        }
+        if (newValue instanceof ObservableList) {
+            ((ObservableList<E>) newValue).addObservableListListener(this.listListener);
+        }
+        if (Arrays.equals(oldClasses, columnClasses())) {
+            fireTableDataChanged();
+        } else {
+            fireTableStructureChanged();
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return this.columnNames[column];
+    }
+
+    /**
+     * Returns {@code Integer}, {@code Long} or {@code Double} for a numeric column.
+     */
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return this.columns[column].getColumnClass();
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowCount) {
+            return null;
+        }
+        return this.columns[columnIndex].get(rowIndex);
+    }
+
+    /**
+     * Return {@code true} if the value of a cell is {@code null}.
+     *
+     * @param rowIndex the row
+     * @param columnIndex the column
+     * @return {@code true} if the value is {@code null}
+     */
+    public boolean isNull(int rowIndex, int columnIndex) {
+        checkRow(rowIndex);
+        return this.columns[columnIndex].isNull(rowIndex);
+    }
+
+    /**
+     * Get the value of a cell of an {@code int} column.
+     *
+     * @param rowIndex the row
+     * @param columnIndex the column
+     * @return the value, 0 if {@code null}
+     * @throws IllegalArgumentException if the column is not an {@code int} column
+     */
+    public int getInt(int rowIndex, int columnIndex) {
+        checkRow(rowIndex);
+        return this.columns[columnIndex].getInt(rowIndex);
+    }
+
+    /**
+     * Get the value of a cell of an {@code int} or {@code long} column.
+     *
+     * @param rowIndex the row
+     * @param columnIndex the column
+     * @return the value, 0 if {@code null}
+     * @throws IllegalArgumentException if the column is not an {@code int} or {@code long} column
+     */
+    public long getLong(int rowIndex, int columnIndex) {
+        checkRow(rowIndex);
+        return this.columns[columnIndex].getLong(rowIndex);
+    }
+
+    /**
+     * Get the value of a cell of a numeric column.
+     *
+     * @param rowIndex the row
+     * @param columnIndex the column
+     * @return the value, 0 if {@code null}
+     * @throws IllegalArgumentException if the column is not numeric
+     */
+    public double getDouble(int rowIndex, int columnIndex) {
+        checkRow(rowIndex);
+        return this.columns[columnIndex].getDouble(rowIndex);
+    }
+
+    private void checkRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowCount) {
+            throw new IndexOutOfBoundsException("row " + rowIndex + " out of range");
+        }
+    }
+
+    private Class<?>[] columnClasses() {
+        Class<?>[] classes = new Class<?>[this.columns.length];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = this.columns[i].getColumnClass();
+        }
+        return classes;
+    }
+
+    private static <E> E firstElement(List<E> list) {
+        if (list != null) {
+            for (E e : list) {
+                if (e != null) {
+                    return e;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the accessors of the columns for the class of an element, created once per class and cached by the model.
+     */
+    private PropertyAccessor[] accessors(Class<?> beanClass) {
+        PropertyAccessor[] a = this.accessors.get(beanClass);
+        if (a == null) {
+            a = new PropertyAccessor[this.propertyNames.length];
+            for (int c = 0; c < a.length; c++) {
+                a[c] = PropertyAccessor.create(beanClass, this.propertyNames[c]);
+            }
+            PropertyAccessor[] existing = this.accessors.putIfAbsent(beanClass, a);
+            if (existing != null) {
+                a = existing;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Create the columns, typed by the properties of the class of the element ({@code null} for untyped columns).
+     */
+    private Column[] createColumns(Object element) {
+        Column[] c = new Column[this.propertyNames.length];
+        for (int i = 0; i < c.length; i++) {
+            Class<?> type = null;
+            if (element != null) {
+                type = accessors(element.getClass())[i].getType();
+            }
+            if (type == int.class || type == Integer.class) {
+                c[i] = new IntColumn();
+            } else if (type == long.class || type == Long.class) {
+                c[i] = new LongColumn();
+            } else if (type == double.class || type == Double.class) {
+                c[i] = new DoubleColumn();
+            } else {
+                c[i] = new ObjectColumn(type == null || type.isPrimitive() ? Object.class : type);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Return {@code true} if the elements of the list must be listened to, i.e. the list does not notify the property
+     * changes of its elements.
+     */
+    @SuppressWarnings("rawtypes")
+    private static boolean observeElements(List list) {
+        return !(list instanceof ObservableList) || !((ObservableList) list).supportsElementPropertyChanged();
+    }
+
+    /**
+     * Resolve the values of the elements and (if {@code observe}) listen to them, may be invoked in any thread.
+     */
+    private Rows snapshot(List<? extends E> list, boolean observe) {
+        Object[] elements = list.toArray();
+        Rows rows = new Rows(elements, this.propertyNames.length);
+        for (int i = 0; i < elements.length; i++) {
+            Object element = elements[i];
+            if (element == null) {
+                continue;
+            }
+            PropertyAccessor[] accessors = accessors(element.getClass());
+            ElementListener l = new ElementListener(element);
+            rows.listeners[i] = l;
+            for (int c = 0; c < this.propertyNames.length; c++) {
+                PropertyAccessor a = accessors[c];
+                if (c == 0 && observe && a.isBeanObservable()) {
+                    // Listen before reading, a change notified before the row is inserted marks it to be read again
+                    a.addBeanListener(element, l);
+                    l.observed = true;
+                }
+                rows.values[c][i] = a.isReadable() ? a.getValue(element) : null;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Insert the rows, must be invoked in the EDT.
+     */
+    private void insertRows(int index, Rows rows) {
+        int length = rows.listeners.length;
+        ensureCapacity(this.rowCount + length);
+        int tail = this.rowCount - index;
+        for (Column c : this.columns) {
+            c.move(index, index + length, tail);
+        }
+        System.arraycopy(this.listeners, index, this.listeners, index + length, tail);
+        for (int i = 0; i < length; i++) {
+            for (int c = 0; c < this.columns.length; c++) {
+                this.columns[c].set(index + i, rows.values[c][i]);
+            }
+            this.listeners[index + i] = rows.listeners[i];
+        }
+        this.rowCount += length;
+        renumber(index);
+        for (int i = index; i < index + length; i++) {
+            ElementListener l = this.listeners[i];
+            if (l != null && l.stale) {
+                // Changed since it was read
+                l.stale = false;
+                refresh(i);
+            }
+        }
+    }
+
+    /**
+     * Remove the rows and stop listening to their elements, must be invoked in the EDT.
+     */
+    private void removeRows(int index, int length) {
+        for (int i = index; i < index + length; i++) {
+            ElementListener l = this.listeners[i];
+            if (l != null) {
+                l.release();
+            }
+        }
+        int tail = this.rowCount - index - length;
+        for (Column c : this.columns) {
+            c.move(index + length, index, tail);
+            c.clear(this.rowCount - length, this.rowCount);
+        }
+        System.arraycopy(this.listeners, index + length, this.listeners, index, tail);
+        Arrays.fill(this.listeners, this.rowCount - length, this.rowCount, null);
+        this.rowCount -= length;
+        renumber(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ElementListener[] newListeners(int size) {
+        return new ColumnarTableModel.ElementListener[size];
+    }
+
+    private void renumber(int from) {
+        for (int i = from; i < this.rowCount; i++) {
+            if (this.listeners[i] != null) {
+                this.listeners[i].row = i;
+            }
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= this.capacity) {
+            return;
+        }
+        int newCapacity = Math.max(MIN_CAPACITY, Math.max(minCapacity, this.capacity + (this.capacity >> 1)));
+        for (Column c : this.columns) {
+            c.resize(newCapacity, this.rowCount);
+        }
+        this.listeners = Arrays.copyOf(this.listeners, newCapacity);
+        this.capacity = newCapacity;
+    }
+
+    private int column(String propertyName) {
+        for (int i = 0; i < this.propertyNames.length; i++) {
+            if (this.propertyNames[i].equals(propertyName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void invokeInEdt(Runnable r) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            r.run();
+        } else {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+
+    /**
+     * Resolved values of rows to insert.
+     */
+    private final class Rows {
+        private final Object[] elements;
+        private final Object[][] values;
+        private final ElementListener[] listeners;
+
+        Rows(Object[] elements, int columns) {
+            this.elements = elements;
+            this.values = new Object[columns][elements.length];
+            this.listeners = newListeners(elements.length);
+        }
+    }
+
+    /**
+     * The element of a row, listens to all the properties of the element if it is observable. The row is maintained in
+     * the EDT, -1 until the row is inserted and when the row is removed. A change notified before the row is inserted
+     * marks it stale, the row is read again when it is inserted.
+     */
+    private final class ElementListener implements PropertyChangeListener {
+        private final Object element;
+        private boolean observed;
+        private int row;
+        private boolean released;
+        private boolean stale;
+
+        ElementListener(Object element) {
+            this.element = element;
+            this.row = -1;
+        }
+
+        void release() {
+            this.row = -1;
+            this.released = true;
+            if (this.observed) {
+                accessors(this.element.getClass())[0].removeBeanListener(this.element, this);
+            }
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            final String name = evt.getPropertyName();
+            final int column = name == null ? -1 : column(name);
+            if (name != null && column < 0) {
+                return;
+            }
+            final Object newValue = evt.getNewValue();
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    int r = ElementListener.this.row;
+                    if (r < 0) {
+                        ElementListener.this.stale = !ElementListener.this.released;
+                        return;
+                    }
+                    if (column < 0) {
+                        // All properties may have changed
+                        refresh(r);
+                        fireTableRowsUpdated(r, r);
+                    } else {
+                        ColumnarTableModel.this.columns[column].set(r, newValue);
+                        fireTableCellUpdated(r, column);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Resolve the values of a row again, must be invoked in the EDT.
+     */
+    private void refresh(int row) {
+        Object element = this.listeners[row] == null ? null : this.listeners[row].element;
+        PropertyAccessor[] a = element == null ? null : accessors(element.getClass());
+        for (int c = 0; c < this.columns.length; c++) {
+            Object value = null;
+            if (element != null) {
+                value = a[c].isReadable() ? a[c].getValue(element) : null;
+            }
+            this.columns[c].set(row, value);
+        }
+    }
+
+    /**
+     * Listens to the list. The elements added are resolved when notified, the rows are changed in the EDT in the order
+     * the events occur.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class ListListener implements ObservableListListener {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void listElementsAdded(final ObservableList list, final int index, final int length) {
+            if (length <= 0) {
+                return;
+            }
+            final Rows rows = snapshot(list.subList(index, index + length), !list.supportsElementPropertyChanged());
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    if (list != ColumnarTableModel.this.elements) {
+                        release(rows);
+                    } else if (retype(rows)) {
+                        insertRows(index, rows);
+                        fireTableStructureChanged();
+                    } else {
+                        insertRows(index, rows);
+                        fireTableRowsInserted(index, index + length - 1);
+                    }
+                }
+            });
+        }
+
+        /**
+         * The column types are resolved from the first element, re-create the columns if the model has no rows.
+         *
+         * @return {@code true} if the column classes changed
+         */
+        private boolean retype(Rows rows) {
+            if (ColumnarTableModel.this.rowCount > 0) {
+                return false;
+            }
+            Class<?>[] oldClasses = columnClasses();
+            ColumnarTableModel.this.columns = createColumns(firstElement(Arrays.asList(rows.elements)));
+            ColumnarTableModel.this.capacity = 0;
+            ColumnarTableModel.this.listeners = newListeners(0);
+            return !Arrays.equals(oldClasses, columnClasses());
+        }
+
+        @Override
+        public void listElementsRemoved(final ObservableList list, final int index, final List oldElements) {
+            final int length = oldElements.size();
+            if (length <= 0) {
+                return;
+            }
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    if (list == ColumnarTableModel.this.elements) {
+                        removeRows(index, length);
+                        fireTableRowsDeleted(index, index + length - 1);
+                    }
+                }
+            });
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void listElementReplaced(final ObservableList list, final int index, Object oldElement) {
+            final Rows rows = snapshot(list.subList(index, index + 1), !list.supportsElementPropertyChanged());
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    if (list == ColumnarTableModel.this.elements) {
+                        removeRows(index, 1);
+                        insertRows(index, rows);
+                        fireTableRowsUpdated(index, index);
+                    } else {
+                        release(rows);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void listElementPropertyChanged(final ObservableList list, final int index) {
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    if (list == ColumnarTableModel.this.elements) {
+                        refresh(index);
+                        fireTableRowsUpdated(index, index);
+                    }
+                }
+            });
+        }
+
+        private void release(Rows rows) {
+            for (ElementListener l : rows.listeners) {
+                if (l != null) {
+                    l.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * The values of a column, stored in an array with a capacity shared by all columns.
+     */
+    private abstract static class Column {
+
+        abstract Class<?> getColumnClass();
+
+        abstract Object get(int row);
+
+        abstract void set(int row, Object value);
+
+        abstract boolean isNull(int row);
+
+        /**
+         * Move a range of values, {@link System#arraycopy(Object, int, Object, int, int)} of the array.
+         */
+        abstract void move(int from, int to, int length);
+
+        /**
+         * Clear the range of values so they can be collected.
+         */
+        void clear(int from, int to) {
+            // Primitive values are not referenced
+        }
+
+        abstract void resize(int capacity, int size);
+
+        int getInt(int row) {
+            throw new IllegalArgumentException("not an int column");
+        }
+
+        long getLong(int row) {
+            throw new IllegalArgumentException("not an int or long column");
+        }
+
+        double getDouble(int row) {
+            throw new IllegalArgumentException("not a numeric column");
+        }
+    }
+
+    /**
+     * A numeric column, {@code null} values are flagged.
+     */
+    private abstract static class NumberColumn extends Column {
+        protected boolean[] nulls = new boolean[0];
+
+        @Override
+        final Object get(int row) {
+            return this.nulls[row] ? null : box(row);
+        }
+
+        @Override
+        final void set(int row, Object value) {
+            boolean isNull = !(value instanceof Number);
+            this.nulls[row] = isNull;
+            setNumber(row, isNull ? null : (Number) value);
+        }
+
+        @Override
+        final boolean isNull(int row) {
+            return this.nulls[row];
+        }
+
+        @Override
+        final void move(int from, int to, int length) {
+            System.arraycopy(this.nulls, from, this.nulls, to, length);
+            System.arraycopy(array(), from, array(), to, length);
+        }
+
+        @Override
+        final void resize(int capacity, int size) {
+            this.nulls = Arrays.copyOf(this.nulls, capacity);
+            resizeArray(capacity);
+        }
+
+        abstract Object box(int row);
+
+        /**
+         * Set the value, 0 if {@code null}.
+         */
+        abstract void setNumber(int row, Number value);
+
+        abstract Object array();
+
+        abstract void resizeArray(int capacity);
+    }
+
+    private static final class IntColumn extends NumberColumn {
+        private int[] values = new int[0];
+
+        @Override
+        Class<?> getColumnClass() {
+            return Integer.class;
+        }
+
+        @Override
+        Object box(int row) {
+            return Integer.valueOf(this.values[row]);
+        }
+
+        @Override
+        void setNumber(int row, Number value) {
+            this.values[row] = value == null ? 0 : value.intValue();
+        }
+
+        @Override
+        Object array() {
+            return this.values;
+        }
+
+        @Override
+        void resizeArray(int capacity) {
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+
+        @Override
+        int getInt(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        long getLong(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return this.values[row];
+        }
+    }
+
+    private static final class LongColumn extends NumberColumn {
+        private long[] values = new long[0];
+
+        @Override
+        Class<?> getColumnClass() {
+            return Long.class;
+        }
+
+        @Override
+        Object box(int row) {
+            return Long.valueOf(this.values[row]);
+        }
+
+        @Override
+        void setNumber(int row, Number value) {
+            this.values[row] = value == null ? 0L : value.longValue();
+        }
+
+        @Override
+        Object array() {
+            return this.values;
+        }
+
+        @Override
+        void resizeArray(int capacity) {
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+
+        @Override
+        long getLong(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return this.values[row];
+        }
+    }
+
+    private static final class DoubleColumn extends NumberColumn {
+        private double[] values = new double[0];
+
+        @Override
+        Class<?> getColumnClass() {
+            return Double.class;
+        }
+
+        @Override
+        Object box(int row) {
+            return Double.valueOf(this.values[row]);
+        }
+
+        @Override
+        void setNumber(int row, Number value) {
+            this.values[row] = value == null ? 0d : value.doubleValue();
+        }
+
+        @Override
+        Object array() {
+            return this.values;
+        }
+
+        @Override
+        void resizeArray(int capacity) {
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+
+        @Override
+        double getDouble(int row) {
+            return this.values[row];
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        private final Class<?> columnClass;
+        private Object[] values = new Object[0];
+
+        ObjectColumn(Class<?> columnClass) {
+            this.columnClass = columnClass;
+        }
+
+        @Override
+        Class<?> getColumnClass() {
+            return this.columnClass;
+        }
+
+        @Override
+        Object get(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            this.values[row] = value;
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return this.values[row] == null;
+        }
+
+        @Override
+        void move(int from, int to, int length) {
+            System.arraycopy(this.values, from, this.values, to, length);
+        }
+
+        @Override
+        void clear(int from, int to) {
+            Arrays.fill(this.values, from, to, null);
+        }
+
+        @Override
+        void resize(int capacity, int size) {
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+    }
+
+}
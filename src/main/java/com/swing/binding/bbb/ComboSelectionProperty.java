@@ -0,0 +1,131 @@
+package com.swing.binding.bbb;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.swing.JComboBox;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+
+/**
+ * The selected item of the {@link AsyncComboBoxModel} of a {@link JComboBox}. Writing the value sets the selected item
+ * of the model rather than of the combo box, which would reject an item that is not loaded yet.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements
+ */
+class ComboSelectionProperty<E> extends PropertyHelper<JComboBox, E> {
+
+    private final AsyncComboBoxModel<E> model;
+    private final Map<JComboBox, Listener> listeners;
+
+    /**
+     * @param model the model of the combo box
+     */
+    ComboSelectionProperty(AsyncComboBoxModel<E> model) {
+        super();
+        if (model == null) {
+            throw new IllegalArgumentException("model can't be null");
+        }
+        this.model = model;
+        this.listeners = new IdentityHashMap<JComboBox, Listener>();
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Class<? extends E> getWriteType(JComboBox source) {
+        return (Class) Object.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getValue(JComboBox source) {
+        return (E) this.model.getSelectedItem();
+    }
+
+    @Override
+    public void setValue(JComboBox source, final E value) {
+        Runnable r = new Runnable() {
+            @Override
+            public void run() {
+                ComboSelectionProperty.this.model.setSelectedItem(value);
+            }
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            r.run();
+        } else {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+
+    @Override
+    public boolean isReadable(JComboBox source) {
+        return true;
+    }
+
+    @Override
+    public boolean isWriteable(JComboBox source) {
+        return true;
+    }
+
+    @Override
+    protected void listeningStarted(JComboBox source) {
+        Listener l = new Listener(source);
+        this.listeners.put(source, l);
+        this.model.addListDataListener(l);
+    }
+
+    @Override
+    protected void listeningStopped(JComboBox source) {
+        Listener l = this.listeners.remove(source);
+        if (l != null) {
+            this.model.removeListDataListener(l);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName();
+    }
+
+    /**
+     * Notifies changes of the selected item, i.e. a change of the contents of the model with indexes -1.
+     */
+    private final class Listener implements ListDataListener {
+        private final JComboBox source;
+        private Object value;
+
+        Listener(JComboBox source) {
+            this.source = source;
+            this.value = ComboSelectionProperty.this.model.getSelectedItem();
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            if (e.getIndex0() != -1 || e.getIndex1() != -1) {
+                return;
+            }
+            Object old = this.value;
+            this.value = ComboSelectionProperty.this.model.getSelectedItem();
+            firePropertyStateChange(new PropertyStateEvent(ComboSelectionProperty.this, this.source, true, old,
+                            this.value, false, true));
+        }
+
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            // The selected item is not changed
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+            // The selected item is not changed
+        }
+    }
+
+}
@@ -1,8 +1,12 @@
 package com.swing.binding.bbb;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.jdesktop.beansbinding.Converter;
 
@@ -15,27 +19,173 @@ import org.jdesktop.beansbinding.Converter;
 abstract class Converter2<S, T> extends Converter<S, T> {
 
     /**
-     * Default converter for a {@code Date} value to/from a {@code String}.
+     * The number of values formatted and parsed cached by each thread of a date converter.
+     */
+    static final int DATE_CACHE_SIZE = 64;
+
+    /**
+     * Cached for text that does not parse, compared by identity.
+     */
+    private static final Object INVALID = new Object();
+
+    /**
+     * Default converter for a {@code Date} value to/from a {@code String}. The converter is thread-safe, the format is
+     * copied when the converter is created and each thread converts with its own copy.
      */
     static Converter<Date, String> newDateString(final DateFormat format) {
-        return new Converter<Date, String>() {
+        return new DateString(format);
+    }
+
+    /**
+     * Default converter for a {@code Date} value to/from a {@code String} with the
+     * {@link DateFormat#getDateInstance() date format} of the default locale. The format is looked up when the
+     * converter is used, so a change of the default locale applies to the next conversion.
+     */
+    static Converter<Date, String> newDateString() {
+        return new DateString(null);
+    }
+
+    /**
+     * Converter for a {@code Set} of enum constants to a {@code long} mask, the bit of a constant is its ordinal. A
+     * {@code null} set is an empty mask. The mask is not converted back to a set.
+     */
+    static <E extends Enum<E>> Converter<Set<E>, Long> newEnumSetMask() {
+        return new Converter2<Set<E>, Long>() {
             @Override
-            public String convertForward(Date value) {
-                return value == null ? null : format.format(value);
+            public Long convertForward(Set<E> value) {
+                long mask = 0L;
+                if (value != null) {
+                    for (E e : value) {
+                        if (e.ordinal() >= Long.SIZE) {
+                            throw new IllegalArgumentException("ordinal of " + e + " is more than 63");
+                        }
+                        mask |= 1L << e.ordinal();
+                    }
+                }
+                return Long.valueOf(mask);
             }
 
             @Override
-            public Date convertReverse(String value) {
-                if (value == null) {
-                    return null;
-                }
-                try {
-                    return format.parse(value);
-                } catch (ParseException e) {
+            public Set<E> convertReverse(Long value) {
+                throw new UnsupportedOperationException("a mask is not converted to a set");
+            }
+        };
+    }
+
+    /**
+     * Converts {@code Date} to/from {@code String} with a copy of a {@link DateFormat} per thread, as
+     * {@link DateFormat} is not thread-safe. Each thread caches the values it recently formatted and parsed, so
+     * repeated conversions (e.g. the rows of a table, or re-validating a field) neither format nor parse, and text that
+     * does not parse is rejected with a {@link ParsePosition} rather than an exception. Without a format, a thread
+     * converts with the date format of the default locale and discards its format and caches when the locale changes.
+     */
+    private static final class DateString extends Converter2<Date, String> {
+        // null for the date format of the default locale
+        private final DateFormat format;
+        private final ThreadLocal<DateState> state;
+
+        DateString(DateFormat format) {
+            this.format = format == null ? null : (DateFormat) format.clone();
+            this.state = new ThreadLocal<DateState>() {
+                @Override
+                protected DateState initialValue() {
+                    return DateString.this.format == null ? new DateState(Locale.getDefault()) : new DateState(
+                                    (DateFormat) DateString.this.format.clone(), null);
                 }
+            };
+        }
+
+        private DateState state() {
+            DateState s = this.state.get();
+            if (s.locale != null && !s.locale.equals(Locale.getDefault())) {
+                s = new DateState(Locale.getDefault());
+                this.state.set(s);
+            }
+            return s;
+        }
+
+        @Override
+        public String convertForward(Date value) {
+            if (value == null) {
                 return null;
             }
-        };
+            DateState s = state();
+            Long key = Long.valueOf(value.getTime());
+            String text = s.formatted.get(key);
+            if (text == null) {
+                text = s.format.format(value);
+                s.formatted.put(key, text);
+            }
+            return text;
+        }
+
+        /**
+         * Parse the text as per {@link DateFormat#parse(String)}, i.e. the start of the text must be a date,
+         * {@code null} if it is not.
+         */
+        @Override
+        public Date convertReverse(String value) {
+            if (value == null) {
+                return null;
+            }
+            DateState s = state();
+            Object time = s.parsed.get(value);
+            if (time == null) {
+                s.position.setIndex(0);
+                s.position.setErrorIndex(-1);
+                Date date = s.format.parse(value, s.position);
+                time = date == null || s.position.getIndex() == 0 ? INVALID : Long.valueOf(date.getTime());
+                s.parsed.put(value, time);
+            }
+            if (time == INVALID) {
+                return null;
+            }
+            // Date is mutable, a cached instance is not shared
+            return new Date(((Long) time).longValue());
+        }
+    }
+
+    /**
+     * The format, parse position and caches of a thread.
+     */
+    private static final class DateState {
+        // The default locale of the format, null for a format given to the converter
+        final Locale locale;
+        final DateFormat format;
+        final ParsePosition position;
+        final Map<Long, String> formatted;
+        // The time parsed from a text, or INVALID
+        final Map<String, Object> parsed;
+
+        DateState(Locale locale) {
+            this(DateFormat.getDateInstance(DateFormat.DEFAULT, locale), locale);
+        }
+
+        DateState(DateFormat format, Locale locale) {
+            this.locale = locale;
+            this.format = format;
+            this.position = new ParsePosition(0);
+            this.formatted = new Cache<Long, String>(DATE_CACHE_SIZE);
+            this.parsed = new Cache<String, Object>(DATE_CACHE_SIZE);
+        }
+    }
+
+    /**
+     * A map of a bounded size, the least recently used entry is removed when it is full.
+     */
+    private static final class Cache<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int maxSize;
+
+        Cache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > this.maxSize;
+        }
     }
 
 }
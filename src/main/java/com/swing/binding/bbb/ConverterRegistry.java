@@ -0,0 +1,221 @@
+package com.swing.binding.bbb;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jdesktop.beansbinding.Converter;
+
+/**
+ * A registry of converters keyed by source type and target type. A converter registered for a source type also
+ * converts its subclasses and implementations (the nearest registered type wins: the class and its superclasses,
+ * then its interfaces), primitive types are looked up as their wrapper types. Lookups are cached per pair of types so
+ * finding the converter for a binding is a single map lookup.
+ * <p>
+ * The default registry converts {@link Integer}, {@link Long}, {@link Double}, {@link BigDecimal} and {@link Date}
+ * to/from {@link String}. The numeric converters parse and format as the default conversions of BetterBeansBinding,
+ * text that does not parse throws a {@link NumberFormatException}, which the binding reports as a conversion failure.
+ * Dates are converted with the {@link java.text.DateFormat#getDateInstance() date format} of the default locale at the
+ * time of the conversion, not when the registry was created.
+ * Converters are shared by bindings and must be thread-safe.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public final class ConverterRegistry {
+
+    private static final Object NONE = new Object();
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<Class<?>, Class<?>>();
+    static {
+        WRAPPERS.put(Boolean.TYPE, Boolean.class);
+        WRAPPERS.put(Byte.TYPE, Byte.class);
+        WRAPPERS.put(Character.TYPE, Character.class);
+        WRAPPERS.put(Short.TYPE, Short.class);
+        WRAPPERS.put(Integer.TYPE, Integer.class);
+        WRAPPERS.put(Long.TYPE, Long.class);
+        WRAPPERS.put(Float.TYPE, Float.class);
+        WRAPPERS.put(Double.TYPE, Double.class);
+    }
+
+    // Created after the tables above, which registering the default converters uses
+    private static final ConverterRegistry DEFAULT = createDefault();
+
+    /**
+     * Get the default registry, used by {@link TextBinding}.
+     *
+     * @return the default registry
+     */
+    public static ConverterRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    private static ConverterRegistry createDefault() {
+        ConverterRegistry r = new ConverterRegistry();
+        r.register(Integer.class, String.class, new Converter<Integer, String>() {
+            @Override
+            public String convertForward(Integer value) {
+                return value == null ? null : value.toString();
+            }
+
+            @Override
+            public Integer convertReverse(String value) {
+                return value == null ? null : Integer.valueOf(value);
+            }
+        });
+        r.register(Long.class, String.class, new Converter<Long, String>() {
+            @Override
+            public String convertForward(Long value) {
+                return value == null ? null : value.toString();
+            }
+
+            @Override
+            public Long convertReverse(String value) {
+                return value == null ? null : Long.valueOf(value);
+            }
+        });
+        r.register(Double.class, String.class, new Converter<Double, String>() {
+            @Override
+            public String convertForward(Double value) {
+                return value == null ? null : value.toString();
+            }
+
+            @Override
+            public Double convertReverse(String value) {
+                return value == null ? null : Double.valueOf(value);
+            }
+        });
+        r.register(BigDecimal.class, String.class, new Converter<BigDecimal, String>() {
+            @Override
+            public String convertForward(BigDecimal value) {
+                return value == null ? null : value.toString();
+            }
+
+            @Override
+            public BigDecimal convertReverse(String value) {
+                return value == null ? null : new BigDecimal(value);
+            }
+        });
+        r.register(Date.class, String.class, Converter2.newDateString());
+        return r;
+    }
+
+    private final Object lock = new Object();
+    private final Map<Key, Converter<?, ?>> converters;
+    private final Map<Key, Object> cache;
+
+    /**
+     * Create an empty registry.
+     */
+    public ConverterRegistry() {
+        super();
+        this.converters = new HashMap<Key, Converter<?, ?>>();
+        this.cache = new ConcurrentHashMap<Key, Object>();
+    }
+
+    /**
+     * Register a converter, replacing the converter registered for the types.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @param converter the converter
+     */
+    public <S, T> void register(Class<S> sourceType, Class<T> targetType, Converter<S, T> converter) {
+        if (sourceType == null || targetType == null) {
+            throw new IllegalArgumentException("types can't be null");
+        }
+        if (converter == null) {
+            throw new IllegalArgumentException("converter can't be null");
+        }
+        synchronized (this.lock) {
+            this.converters.put(new Key(wrap(sourceType), wrap(targetType)), converter);
+            this.cache.clear();
+        }
+    }
+
+    /**
+     * Get the converter from a source type to a target type.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return the converter registered for the source type or the nearest of its supertypes, {@code null} if there is
+     *         none
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> Converter<S, T> get(Class<? extends S> sourceType, Class<T> targetType) {
+        Key key = new Key(sourceType, targetType);
+        Object c = this.cache.get(key);
+        if (c == null) {
+            synchronized (this.lock) {
+                c = find(wrap(sourceType), wrap(targetType));
+                this.cache.put(key, c == null ? NONE : c);
+            }
+        }
+        return c == NONE ? null : (Converter<S, T>) c;
+    }
+
+    /**
+     * Find the converter of the nearest supertype, the classes first then the interfaces breadth first.
+     */
+    private Converter<?, ?> find(Class<?> sourceType, Class<?> targetType) {
+        List<Class<?>> interfaces = new ArrayList<Class<?>>();
+        for (Class<?> c = sourceType; c != null; c = c.getSuperclass()) {
+            Converter<?, ?> converter = this.converters.get(new Key(c, targetType));
+            if (converter != null) {
+                return converter;
+            }
+            for (Class<?> i : c.getInterfaces()) {
+                interfaces.add(i);
+            }
+        }
+        for (int n = 0; n < interfaces.size(); n++) {
+            Class<?> i = interfaces.get(n);
+            Converter<?, ?> converter = this.converters.get(new Key(i, targetType));
+            if (converter != null) {
+                return converter;
+            }
+            for (Class<?> j : i.getInterfaces()) {
+                interfaces.add(j);
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        Class<?> wrapper = WRAPPERS.get(type);
+        return wrapper == null ? type : wrapper;
+    }
+
+    /**
+     * A pair of source type and target type.
+     */
+    private static final class Key {
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+
+        Key(Class<?> sourceType, Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.sourceType.hashCode() + this.targetType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.swing.binding.bbb;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.swing.Timer;
+
+/**
+ * Runs tasks after a delay that restarts each time the task is scheduled again, i.e. debounces them. A single
+ * {@link Timer} is shared by all the tasks, it is started for the earliest deadline and stopped when no task is
+ * pending, so many debounced fields do not each own a timer. Must be used in the EDT (the tasks run in the EDT).
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+final class DebounceTimer {
+
+    private static final DebounceTimer INSTANCE = new DebounceTimer();
+
+    /**
+     * Get the shared instance.
+     *
+     * @return the shared instance
+     */
+    static DebounceTimer getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<Runnable, Long> deadlines;
+    private final Timer timer;
+    private long nextDeadline;
+
+    private DebounceTimer() {
+        super();
+        this.deadlines = new LinkedHashMap<Runnable, Long>();
+        this.timer = new Timer(0, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                fire();
+            }
+        });
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Schedule a task to run after a delay, replacing the deadline of the task if it is pending.
+     *
+     * @param task the task
+     * @param delay the delay in milliseconds
+     */
+    void schedule(Runnable task, int delay) {
+        long deadline = now() + delay;
+        this.deadlines.put(task, Long.valueOf(deadline));
+        if (!this.timer.isRunning() || deadline < this.nextDeadline) {
+            start(deadline);
+        }
+    }
+
+    /**
+     * Cancel a pending task.
+     *
+     * @param task the task
+     * @return {@code true} if the task was pending
+     */
+    boolean cancel(Runnable task) {
+        boolean pending = this.deadlines.remove(task) != null;
+        if (this.deadlines.isEmpty()) {
+            this.timer.stop();
+        }
+        return pending;
+    }
+
+    /**
+     * Run the pending tasks now, regardless of their deadlines (e.g. to drive the timer in a test).
+     *
+     * @return the number of tasks run
+     */
+    int flush() {
+        List<Runnable> due = new ArrayList<Runnable>(this.deadlines.keySet());
+        this.deadlines.clear();
+        this.timer.stop();
+        for (Runnable task : due) {
+            task.run();
+        }
+        return due.size();
+    }
+
+    /**
+     * Run the tasks that are due and restart the timer for the next deadline. A task whose deadline was moved since the
+     * timer was started is not due yet.
+     */
+    private void fire() {
+        long now = now();
+        List<Runnable> due = new ArrayList<Runnable>();
+        long next = Long.MAX_VALUE;
+        for (Iterator<Entry<Runnable, Long>> it = this.deadlines.entrySet().iterator(); it.hasNext();) {
+            Entry<Runnable, Long> e = it.next();
+            long deadline = e.getValue().longValue();
+            if (deadline <= now) {
+                due.add(e.getKey());
+                it.remove();
+            } else {
+                next = Math.min(next, deadline);
+            }
+        }
+        if (next != Long.MAX_VALUE) {
+            start(next);
+        }
+        for (Runnable task : due) {
+            task.run();
+        }
+    }
+
+    private void start(long deadline) {
+        this.nextDeadline = deadline;
+        this.timer.setInitialDelay((int) Math.max(0, deadline - now()));
+        this.timer.restart();
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1000000L;
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.swing.binding.bbb;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+import org.jdesktop.beansbinding.PropertyStateListener;
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+
+/**
+ * Wraps a {@code List} property so the value does not change when the list of the bean is replaced. While listened to,
+ * the value for a source is an {@link ObservableList} that mirrors the list of the bean. When the bean's list is
+ * replaced the mirror is updated with a {@link ListDiff}, a binding to the mirror receives an event for each difference
+ * instead of a new list. Changes to the bean's list (if it is an {@link ObservableList}) are applied to the mirror.
+ * The mirror is a {@link BatchObservableList} so each run of added or removed elements is a single event.
+ * <p>
+ * Writing the value writes the wrapped property.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <S> the type of source object
+ * @param <E> the type of elements in the {@code List}
+ */
+class DiffListProperty<S, E> extends PropertyHelper<S, List<E>> {
+
+    private final Property<S, List<E>> property;
+    private final ListDiff<E> diff;
+    private final Map<S, SourceEntry> sourceEntries;
+
+    DiffListProperty(Property<S, List<E>> property, ListDiff<E> diff) {
+        super();
+        if (property == null) {
+            throw new IllegalArgumentException("property can't be null");
+        }
+        if (diff == null) {
+            throw new IllegalArgumentException("diff can't be null");
+        }
+        this.property = property;
+        this.diff = diff;
+        this.sourceEntries = new IdentityHashMap<S, SourceEntry>();
+    }
+
+    @Override
+    public Class<? extends List<E>> getWriteType(S source) {
+        return this.property.getWriteType(source);
+    }
+
+    @Override
+    public List<E> getValue(S source) {
+        SourceEntry entry;
+        synchronized (this.sourceEntries) {
+            entry = this.sourceEntries.get(source);
+        }
+        return entry == null ? this.property.getValue(source) : entry.mirror;
+    }
+
+    @Override
+    public void setValue(S source, List<E> value) {
+        this.property.setValue(source, value);
+    }
+
+    @Override
+    public boolean isReadable(S source) {
+        return this.property.isReadable(source);
+    }
+
+    @Override
+    public boolean isWriteable(S source) {
+        return this.property.isWriteable(source);
+    }
+
+    @Override
+    protected void listeningStarted(S source) {
+        SourceEntry entry = new SourceEntry(source);
+        synchronized (this.sourceEntries) {
+            this.sourceEntries.put(source, entry);
+        }
+        entry.start();
+    }
+
+    @Override
+    protected void listeningStopped(S source) {
+        SourceEntry entry;
+        synchronized (this.sourceEntries) {
+            entry = this.sourceEntries.remove(source);
+        }
+        if (entry != null) {
+            entry.stop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[" + this.property + "]";
+    }
+
+    /**
+     * The mirror of the list of a source. Listens to the wrapped property and to the list.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class SourceEntry implements PropertyStateListener, ObservableListListener {
+        private final S source;
+        private final ObservableList<E> mirror;
+        private List<E> list;
+
+        SourceEntry(S source) {
+            this.source = source;
+            this.mirror = new BatchObservableList<E>();
+        }
+
+        void start() {
+            DiffListProperty.this.property.addPropertyStateListener(this.source, this);
+            setList(read());
+        }
+
+        void stop() {
+            DiffListProperty.this.property.removePropertyStateListener(this.source, this);
+            detach();
+        }
+
+        private List<E> read() {
+            Property<S, List<E>> p = DiffListProperty.this.property;
+            return p.isReadable(this.source) ? p.getValue(this.source) : null;
+        }
+
+        /**
+         * Update the mirror to match the new list ({@code null} is empty) and listen to the new list. The mirror is
+         * not listened to if it is the new list, i.e. a binding wrote the value to the bean.
+         */
+        private synchronized void setList(List<E> newValue) {
+            detach();
+            this.list = newValue;
+            if (newValue != this.mirror) {
+                DiffListProperty.this.diff.apply(this.mirror, newValue);
+                if (newValue instanceof ObservableList) {
+                    ((ObservableList<E>) newValue).addObservableListListener(this);
+                }
+            }
+        }
+
+        private synchronized void detach() {
+            if (this.list instanceof ObservableList && this.list != this.mirror) {
+                ((ObservableList<E>) this.list).removeObservableListListener(this);
+            }
+            this.list = null;
+        }
+
+        @Override
+        public void propertyStateChanged(PropertyStateEvent pse) {
+            if (pse.getValueChanged()) {
+                setList(read());
+            }
+        }
+
+        @Override
+        public synchronized void listElementsAdded(ObservableList list, int index, int length) {
+            if (list == this.list) {
+                this.mirror.addAll(index, this.list.subList(index, index + length));
+            }
+        }
+
+        @Override
+        public synchronized void listElementsRemoved(ObservableList list, int index, List oldElements) {
+            if (list == this.list) {
+                this.mirror.subList(index, index + oldElements.size()).clear();
+            }
+        }
+
+        @Override
+        public synchronized void listElementReplaced(ObservableList list, int index, Object oldElement) {
+            if (list == this.list) {
+                this.mirror.set(index, this.list.get(index));
+            }
+        }
+
+        @Override
+        public void listElementPropertyChanged(ObservableList list, int index) {
+            // Bindings listen to the properties of the elements of the mirror
+        }
+    }
+
+}
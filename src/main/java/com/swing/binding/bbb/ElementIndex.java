@@ -0,0 +1,240 @@
+package com.swing.binding.bbb;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+
+/**
+ * An index of the positions of the elements of a list by identity, so the position of an element is found without a
+ * linear {@code indexOf} (which calls {@code equals} on each element, e.g. each {@code PresentationModel}).
+ * <p>
+ * For an {@link ObservableList} the index is maintained from the list's events: the positions before a change remain
+ * valid and the positions after it are renumbered when an element after the change is next looked up, so a series of
+ * changes costs a single renumbering (and elements added at the end of the list are indexed as they are added). For
+ * another list the index must be invalidated with {@link #invalidate()} when the list changes.
+ * </p>
+ * <p>
+ * The index must be used in the thread that changes the list (the EDT for a bound list). Elements are looked up by
+ * identity and the position of an element that occurs more than once is its first position.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements
+ */
+public final class ElementIndex<E> {
+
+    /**
+     * Get the index of the elements of a table, shared by the operations that look up the rows of elements of the
+     * table. The index is kept as a client property of the table and replaced when the list of elements is replaced. If
+     * the list is not an {@link ObservableList} the index is invalidated when the table model changes.
+     *
+     * @param table the table
+     * @param elements the elements of the table model
+     * @return the index of the elements
+     */
+    @SuppressWarnings("unchecked")
+    static <E> ElementIndex<E> of(JTable table, List<E> elements) {
+        ElementIndex<E> index = (ElementIndex<E>) table.getClientProperty(ElementIndex.class);
+        if (index == null || index.list != elements) {
+            if (index != null) {
+                index.detach();
+            }
+            index = new ElementIndex<E>(elements);
+            if (!index.attach()) {
+                index.model = table.getModel();
+                index.model.addTableModelListener(index.listener);
+            }
+            table.putClientProperty(ElementIndex.class, index);
+        }
+        return index;
+    }
+
+    private final List<E> list;
+    private final Listener listener;
+    private final Map<Object, Integer> positions;
+    private TableModel model;
+    /** the positions before this are indexed */
+    private int valid;
+
+    /**
+     * Create an index of the list, call {@link #attach()} to maintain it from the events of an {@link ObservableList}.
+     *
+     * @param list the list
+     */
+    public ElementIndex(List<E> list) {
+        super();
+        if (list == null) {
+            throw new IllegalArgumentException("list can't be null");
+        }
+        this.list = list;
+        this.listener = new Listener();
+        this.positions = new IdentityHashMap<Object, Integer>();
+        this.valid = 0;
+    }
+
+    /**
+     * Listen to the list if it is an {@link ObservableList}.
+     *
+     * @return {@code true} if the index is maintained from the events of the list, otherwise it must be invalidated
+     *         when the list changes
+     */
+    public boolean attach() {
+        if (this.list instanceof ObservableList) {
+            ((ObservableList<E>) this.list).addObservableListListener(this.listener);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stop listening to the list.
+     */
+    public void detach() {
+        if (this.list instanceof ObservableList) {
+            ((ObservableList<E>) this.list).removeObservableListListener(this.listener);
+        }
+        if (this.model != null) {
+            this.model.removeTableModelListener(this.listener);
+            this.model = null;
+        }
+    }
+
+    /**
+     * Get the list.
+     *
+     * @return the list
+     */
+    public List<E> getList() {
+        return this.list;
+    }
+
+    /**
+     * Discard the index, it is built again when an element is next looked up.
+     */
+    public void invalidate() {
+        this.positions.clear();
+        this.valid = 0;
+    }
+
+    /**
+     * Get the position of an element.
+     *
+     * @param o the element
+     * @return the first position of the element (by identity), -1 if it is not an element
+     */
+    public int indexOf(Object o) {
+        Integer p = this.positions.get(o);
+        if (p != null && p.intValue() < this.valid) {
+            return p.intValue();
+        }
+        if (this.valid >= this.list.size()) {
+            return -1;
+        }
+        renumber();
+        p = this.positions.get(o);
+        return p == null ? -1 : p.intValue();
+    }
+
+    /**
+     * Test whether an object is an element of the list.
+     *
+     * @param o the object
+     * @return {@code true} if the object is an element (by identity)
+     */
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Index the positions from the first position that is not valid to the end of the list. In descending order so
+     * the position of an element that occurs more than once is its first position (positions that are valid are kept).
+     */
+    private void renumber() {
+        int from = this.valid;
+        for (int i = this.list.size() - 1; i >= from; i--) {
+            E e = this.list.get(i);
+            Integer p = this.positions.get(e);
+            if (p == null || p.intValue() >= from) {
+                this.positions.put(e, Integer.valueOf(i));
+            }
+        }
+        this.valid = this.list.size();
+    }
+
+    /**
+     * Remove a removed element, unless its position is of an occurrence before the change that is still valid.
+     */
+    private void removed(Object e, int index) {
+        Integer p = this.positions.get(e);
+        if (p != null && (p.intValue() >= index || p.intValue() >= this.valid || this.list.get(p.intValue()) != e)) {
+            this.positions.remove(e);
+        }
+    }
+
+    /**
+     * Maintains the index from the events of the list, or invalidates it when a table model changes. The events of a
+     * {@link BatchObservableList} are in ascending order of position, so the positions before each event are not
+     * changed by the events that follow it.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class Listener implements ObservableListListener, TableModelListener {
+
+        @Override
+        public void tableChanged(TableModelEvent e) {
+            invalidate();
+        }
+
+        @Override
+        public void listElementsAdded(ObservableList list, int index, int length) {
+            ElementIndex<E> ei = ElementIndex.this;
+            boolean append = index == ei.valid && index + length == list.size();
+            ei.valid = Math.min(ei.valid, index);
+            if (append) {
+                renumber();
+            }
+        }
+
+        @Override
+        public void listElementsRemoved(ObservableList list, int index, List oldElements) {
+            ElementIndex<E> ei = ElementIndex.this;
+            for (Object e : oldElements) {
+                removed(e, index);
+            }
+            ei.valid = Math.min(ei.valid, index);
+        }
+
+        @Override
+        public void listElementReplaced(ObservableList list, int index, Object oldElement) {
+            ElementIndex<E> ei = ElementIndex.this;
+            Integer old = ei.positions.get(oldElement);
+            if (old != null && old.intValue() == index) {
+                // The old element may occur after the index
+                ei.valid = Math.min(ei.valid, index + 1);
+            }
+            removed(oldElement, index);
+            if (index < ei.valid) {
+                E e = ei.list.get(index);
+                Integer p = ei.positions.get(e);
+                if (p == null || p.intValue() > index) {
+                    ei.positions.put(e, Integer.valueOf(index));
+                }
+            }
+        }
+
+        @Override
+        public void listElementPropertyChanged(ObservableList list, int index) {
+            // The positions are not changed
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.swing.binding.bbb;
+
+import java.util.List;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * A table model of the elements of a {@code List}, the target of a {@link VirtualTableBinding}.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the {@code List}
+ */
+abstract class ElementsTableModel<E> extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    abstract List<E> getElements();
+
+    /**
+     * Set the elements, must be invoked in the EDT.
+     */
+    abstract void setElements(List<E> newValue);
+
+}
@@ -0,0 +1,122 @@
+package com.swing.binding.bbb;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+import org.jdesktop.beansbinding.PropertyStateListener;
+
+/**
+ * Packs {@link Boolean} properties of a bean into a {@code long} mask, the property at index {@code i} is bit
+ * {@code i}. A flag that is {@code null} or unreadable is not set. A change of any flag is notified as a change of the
+ * mask, so one binding observes all the flags.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <B> the type of bean
+ */
+class FlagsProperty<B> extends PropertyHelper<B, Long> {
+
+    private final List<Property<B, Boolean>> flags;
+    private final Map<B, Listener> listeners;
+
+    /**
+     * @param flags the flags, at most 64
+     */
+    FlagsProperty(List<? extends Property<B, Boolean>> flags) {
+        super();
+        if (flags == null || flags.size() > Long.SIZE) {
+            throw new IllegalArgumentException("flags must be at most 64: " + flags);
+        }
+        this.flags = new ArrayList<Property<B, Boolean>>(flags);
+        this.listeners = new IdentityHashMap<B, Listener>();
+    }
+
+    @Override
+    public Class<? extends Long> getWriteType(B source) {
+        return Long.class;
+    }
+
+    @Override
+    public Long getValue(B source) {
+        long mask = 0L;
+        for (int i = 0, n = this.flags.size(); i < n; i++) {
+            Property<B, Boolean> flag = this.flags.get(i);
+            if (flag.isReadable(source) && Boolean.TRUE.equals(flag.getValue(source))) {
+                mask |= 1L << i;
+            }
+        }
+        return Long.valueOf(mask);
+    }
+
+    @Override
+    public void setValue(B source, Long value) {
+        throw new UnsupportedOperationException("Unwriteable");
+    }
+
+    @Override
+    public boolean isReadable(B source) {
+        return true;
+    }
+
+    @Override
+    public boolean isWriteable(B source) {
+        return false;
+    }
+
+    @Override
+    protected void listeningStarted(B source) {
+        Listener l = new Listener(source);
+        this.listeners.put(source, l);
+        for (Property<B, Boolean> flag : this.flags) {
+            flag.addPropertyStateListener(source, l);
+        }
+    }
+
+    @Override
+    protected void listeningStopped(B source) {
+        Listener l = this.listeners.remove(source);
+        if (l != null) {
+            for (Property<B, Boolean> flag : this.flags) {
+                flag.removePropertyStateListener(source, l);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + this.flags;
+    }
+
+    /**
+     * Notifies a change of the mask when a flag changes.
+     */
+    private final class Listener implements PropertyStateListener {
+        private final B source;
+        private Long mask;
+
+        Listener(B source) {
+            this.source = source;
+            this.mask = getValue(source);
+        }
+
+        @Override
+        public void propertyStateChanged(PropertyStateEvent pse) {
+            if (!pse.getValueChanged()) {
+                return;
+            }
+            Long old = this.mask;
+            this.mask = getValue(this.source);
+            if (old.longValue() != this.mask.longValue()) {
+                firePropertyStateChange(new PropertyStateEvent(FlagsProperty.this, this.source, true, old, this.mask,
+                                false, true));
+            }
+        }
+    }
+
+}
@@ -52,6 +52,79 @@ public class ListBinding {
         return SwingBindings.createJComboBoxBinding(UpdateStrategy.READ_WRITE, bean, bP, component);
     }
 
+    /**
+     * As {@link #model(Object, Property, JComboBox)} but when the list of the bean property is replaced the combo box
+     * model is updated with the differences between the lists (i.e. insert, delete and update events) rather than
+     * replaced. The selected item is retained if it is in the new list.
+     *
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component component
+     * @param diff matches the elements of the old and new lists, e.g. {@link ListDiff#identity()}
+     * @return binding instance
+     */
+    public static <B, E> JComboBoxBinding<E, B, JComboBox> model(B bean, Property<B, List<E>> bP, JComboBox component,
+                    ListDiff<E> diff) {
+        return model(bean, new DiffListProperty<B, E>(bP, diff), component);
+    }
+
+    /**
+     * Create a binding of the bean property to the {@link JComboBox} through an {@link AsyncComboBoxModel}, which loads
+     * the elements in chunks over several passes of the EDT and indexes the text ({@code toString}) of the elements for
+     * prefix type-ahead in a background thread. For large lists, e.g. lookups.
+     * <p>
+     * NB. creates the binding but does not actually bind. It is a helper method intended for use in the {@code Binder}
+     * which ensures bindings are properly managed.
+     * </p>
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param <B> the type of source object (on which the source property resolves to {@code List})
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component component
+     * @return binding instance
+     */
+    public static <B, E> AsyncComboBoxBinding<E, B> asyncModel(B bean, Property<B, List<E>> bP, JComboBox component) {
+        return asyncModel(bean, bP, component, null);
+    }
+
+    /**
+     * As {@link #asyncModel(Object, Property, JComboBox)} with the text of the elements that type-ahead matches.
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param <B> the type of source object (on which the source property resolves to {@code List})
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component component
+     * @param text provides the text of an element, {@code null} for {@code toString}
+     * @return binding instance
+     */
+    public static <B, E> AsyncComboBoxBinding<E, B> asyncModel(B bean, Property<B, List<E>> bP, JComboBox component,
+                    AsyncComboBoxModel.Text<? super E> text) {
+        AsyncComboBoxModel<E> model = new AsyncComboBoxModel<E>(text, BackgroundExecutor.getInstance());
+        return new AsyncComboBoxBinding<E, B>(bean, bP, component, model);
+    }
+
+    /**
+     * Create a binding of the bean property to the selected item of a {@link JComboBox} bound by
+     * {@link #asyncModel(Object, Property, JComboBox)}. The selected item is set on the model, so it is shown even if
+     * the elements loaded do not include it yet.
+     * <p>
+     * NB. creates the binding but does not actually bind. It is a helper method intended for use in the {@code Binder}
+     * which ensures bindings are properly managed.
+     * </p>
+     *
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param comboBinding the model binding of the combo box
+     * @return binding instance
+     */
+    public static <B, E> Binding<B, E, JComboBox, E> selection(B bean, Property<B, E> bP,
+                    AsyncComboBoxBinding<E, ?> comboBinding) {
+        Property<JComboBox, E> cP = new ComboSelectionProperty<E>(comboBinding.getModel());
+        return Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, bean, bP, comboBinding.getTargetObject(), cP);
+    }
+
     /**
      * Create a binding of the bean property to the {@link JComboBox} selection. The component is updated with the value
      * from the bean property.
@@ -102,6 +175,118 @@ public class ListBinding {
         return binding;
     }
 
+    /**
+     * As {@link #model(Object, Property, JTable, Map)} but when the list of the bean property is replaced the table
+     * model is updated with the differences between the lists (i.e. rows inserted, deleted and updated) rather than
+     * replaced, so the selection and scroll position are retained and the cost of repainting depends on the size of
+     * the change.
+     *
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component table component
+     * @param columnMap map of the bean property names (keys) to column names (values)
+     * @param diff matches the elements of the old and new lists, e.g. {@link ListDiff#identity()}
+     * @return binding instance
+     */
+    public static <B, E> JTableBinding<E, B, JTable> model(B bean, Property<B, List<E>> bP, JTable component,
+                    Map<String, String> columnMap, ListDiff<E> diff) {
+        return model(bean, new DiffListProperty<B, E>(bP, diff), component, columnMap);
+    }
+
+    /**
+     * Create a sorter for a table bound by {@link #model(Object, Property, JTable, Map)} that sorts and filters the rows
+     * in background threads, refer to {@link BackgroundRowSorter}. Set the sorter on the table with
+     * {@link JTable#setRowSorter(javax.swing.RowSorter)}.
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param <B> the type of source object (on which the source property resolves to {@code List})
+     * @param binding the binding of the table
+     * @return sorter instance
+     */
+    public static <B, E> BackgroundRowSorter<E> sorter(JTableBinding<E, B, JTable> binding) {
+        return new BackgroundRowSorter<E>(binding);
+    }
+
+    /**
+     * Create a virtualized binding of the bean property to the {@link JTable}, intended for large lists. Values are
+     * resolved and cached only for the rows in the viewport and the list is observed without listening to each element,
+     * the cost of binding does not depend on the size of the list. Refer to {@link VirtualTableBinding}. The table is
+     * not editable.
+     * <p>
+     * NB. creates the binding but does not actually bind. It is a helper method intended for use in the {@code Binder}
+     * which ensures bindings are properly managed.
+     * </p>
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param <B> the type of source object (on which the source property resolves to {@code List})
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component table component
+     * @param columnMap map of the bean property names (keys) to column names (values)
+     * @return binding instance
+     */
+    public static <B, E> VirtualTableBinding<E, B> virtualModel(B bean, Property<B, List<E>> bP, JTable component,
+                    Map<String, String> columnMap) {
+        return new VirtualTableBinding<E, B>(bean, bP, component, columnMap);
+    }
+
+    /**
+     * As {@link #virtualModel(Object, Property, JTable, Map)} but optionally the values of the elements are read through
+     * cached accessors (an {@link AccessorProperty}) rather than a {@link org.jdesktop.beansbinding.BeanProperty}, for
+     * elements that are plain beans. Unlike a bean property the property of an element that is a {@link Map} is not
+     * resolved to its entry.
+     *
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component table component
+     * @param columnMap map of the bean property names (keys) to column names (values)
+     * @param accessors {@code true} to read the values of the elements through cached accessors
+     * @return binding instance
+     */
+    public static <B, E> VirtualTableBinding<E, B> virtualModel(B bean, Property<B, List<E>> bP, JTable component,
+                    Map<String, String> columnMap, boolean accessors) {
+        return new VirtualTableBinding<E, B>(bean, bP, component, columnMap, accessors);
+    }
+
+    /**
+     * As {@link #virtualModel(Object, Property, JTable, Map)} but when the list of the bean property is replaced the
+     * table model is updated with the differences between the lists rather than replaced.
+     *
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component table component
+     * @param columnMap map of the bean property names (keys) to column names (values)
+     * @param diff matches the elements of the old and new lists, e.g. {@link ListDiff#identity()}
+     * @return binding instance
+     */
+    public static <B, E> VirtualTableBinding<E, B> virtualModel(B bean, Property<B, List<E>> bP, JTable component,
+                    Map<String, String> columnMap, ListDiff<E> diff) {
+        return virtualModel(bean, new DiffListProperty<B, E>(bP, diff), component, columnMap);
+    }
+
+    /**
+     * Create a binding of the bean property to the {@link JTable} that copies the values of the columns into a
+     * {@link ColumnarTableModel}, numeric columns are stored in primitive arrays and refreshed from changes to the
+     * elements so painting does not resolve (or box) values through bean properties. Intended for wide numeric tables.
+     * The keys of the column map must be property names (not paths). The table is not editable.
+     * <p>
+     * NB. creates the binding but does not actually bind. It is a helper method intended for use in the {@code Binder}
+     * which ensures bindings are properly managed.
+     * </p>
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param <B> the type of source object (on which the source property resolves to {@code List})
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param component table component
+     * @param columnMap map of the element property names (keys) to column names (values)
+     * @return binding instance
+     */
+    public static <B, E> VirtualTableBinding<E, B> columnarModel(B bean, Property<B, List<E>> bP, JTable component,
+                    Map<String, String> columnMap) {
+        return new VirtualTableBinding<E, B>(bean, bP, component, new ColumnarTableModel<E>(columnMap));
+    }
+
     /**
      * Create a binding of the bean property to the {@link JTable} selection. The bean is updated with the value from
      * the table.
@@ -123,8 +308,8 @@ public class ListBinding {
         String tableSelectionFieldName = "selectedElements_IGNORE_ADJUSTING";
         Property<Object, List<E>> cP = BeanProperty.create(tableSelectionFieldName);
         Object adapter = new JTableAdapterProvider().createAdapter(component, tableSelectionFieldName);
-        // Must make the table the source since it only supports read.
-        // TODO register a listener on the bean property to set the manually set selected items on the table?
+        // Must make the table the source since it only supports read. Use selection(bean, bP, tableBinding) for a
+        // binding that also selects the elements set on the bean property.
         AutoBinding<Object, List<E>, B, List<E>> binding = Bindings.createAutoBinding(UpdateStrategy.READ, adapter, cP,
                         bean, bP);
         // Provide a converter so that the bean property can be an ObservableList.
@@ -145,4 +330,85 @@ public class ListBinding {
         return binding;
     }
 
+    /**
+     * Create a binding of the bean property to the {@link JTable} selection, in both directions. The bean property is
+     * set to a live view of the selected elements (an {@link ObservableList}) that notifies the elements selected and
+     * deselected rather than a new list on each change, so selecting all rows of a large table does not copy the
+     * elements. Adding or removing elements of the view selects or deselects their rows, setting the bean property to
+     * another list selects the rows of its elements (then sets the bean property to the view).
+     * <p>
+     * The rows of the elements of a list are looked up in an identity index. With a {@link BitSetSelectionModel}
+     * setting the bean property to a list of N elements costs O(N), see
+     * {@link #selection(Object, Property, Binding, boolean)} to install one while bound.
+     * </p>
+     * <p>
+     * NB. creates the binding but does not actually bind. It is a helper method intended for use in the {@code Binder}
+     * which ensures bindings are properly managed.
+     * </p>
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param <B> the type of source object (on which the source property resolves to {@code List})
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param tableBinding the model binding of the table, e.g. {@link #model(Object, Property, JTable, Map)}
+     * @return binding instance
+     */
+    public static <B, E> Binding<JTable, List<E>, B, List<E>> selection(B bean, Property<B, List<E>> bP,
+                    Binding<?, List<E>, JTable, ?> tableBinding) {
+        return selection(bean, bP, tableBinding, false);
+    }
+
+    /**
+     * Create a binding of the bean property to the {@link JTable} selection, in both directions, as per
+     * {@link #selection(Object, Property, Binding)}. Optionally the table selection model is replaced with a
+     * {@link BitSetSelectionModel} (with the same selection) while bound, so setting the bean property to a list of N
+     * elements costs O(N). The replaced model is restored with the selection when unbound, its listeners are not
+     * notified while it is replaced.
+     * <p>
+     * NB. creates the binding but does not actually bind. It is a helper method intended for use in the {@code Binder}
+     * which ensures bindings are properly managed.
+     * </p>
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param <B> the type of source object (on which the source property resolves to {@code List})
+     * @param bean bean
+     * @param bP bean property to bind
+     * @param tableBinding the model binding of the table, e.g. {@link #model(Object, Property, JTable, Map)}
+     * @param bitSetSelectionModel {@code true} to replace the table selection model with a
+     *            {@link BitSetSelectionModel} while bound
+     * @return binding instance
+     */
+    public static <B, E> Binding<JTable, List<E>, B, List<E>> selection(B bean, Property<B, List<E>> bP,
+                    Binding<?, List<E>, JTable, ?> tableBinding, boolean bitSetSelectionModel) {
+        Property<JTable, List<E>> cP = new TableSelectionProperty<E>(tableBinding, bitSetSelectionModel);
+        return Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, tableBinding.getTargetObject(), cP, bean, bP);
+    }
+
+    /**
+     * Scroll the {@link JTable} of a model binding to the row of an element. The row is looked up in an
+     * {@link ElementIndex} of the elements of the table (by identity) rather than with {@code indexOf}. Must be called
+     * in the EDT.
+     *
+     * @param <E> the type of elements in the source {@code List}
+     * @param tableBinding the model binding of the table, e.g. {@link #model(Object, Property, JTable, Map)}
+     * @param element the element
+     * @return the row of the element in the view of the table, -1 if the element is not in the view
+     */
+    public static <E> int scrollToElement(Binding<?, List<E>, JTable, ?> tableBinding, E element) {
+        JTable table = tableBinding.getTargetObject();
+        List<E> elements = TableSelectionList.sourceList(tableBinding);
+        if (elements == null) {
+            return -1;
+        }
+        int index = ElementIndex.of(table, elements).indexOf(element);
+        if (index < 0 || index >= table.getModel().getRowCount()) {
+            return -1;
+        }
+        int row = table.convertRowIndexToView(index);
+        if (row >= 0) {
+            table.scrollRectToVisible(table.getCellRect(row, 0, true));
+        }
+        return row;
+    }
+
 }
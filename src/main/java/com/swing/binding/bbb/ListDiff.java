@@ -0,0 +1,245 @@
+package com.swing.binding.bbb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Updates a list to match another with a minimal number of changes, so a bound component receives insert, delete and
+ * update events for the differences rather than a change of the whole list. Elements are matched by identity or by a
+ * key, an element matched to a different instance (same key) is replaced in place.
+ * <p>
+ * The differences are found with Myers' O(ND) algorithm after matching the common prefix and suffix. If the lists
+ * differ by more than {@value #MAX_EDITS} inserts and deletes the differing range is replaced instead.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the list
+ */
+public final class ListDiff<E> {
+
+    /**
+     * Provides the key of an element, elements with equal keys are the same element.
+     *
+     * @param <E> the type of elements
+     */
+    public interface Key<E> {
+        Object getKey(E element);
+    }
+
+    static final int MAX_EDITS = 256;
+
+    /**
+     * Create a diff that matches elements by identity.
+     *
+     * @return the diff
+     */
+    public static <E> ListDiff<E> identity() {
+        return new ListDiff<E>(null);
+    }
+
+    /**
+     * Create a diff that matches elements by key (compared with {@code equals}).
+     *
+     * @param key provides the key of an element
+     * @return the diff
+     */
+    public static <E> ListDiff<E> byKey(Key<? super E> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key can't be null");
+        }
+        return new ListDiff<E>(key);
+    }
+
+    private final Key<? super E> key;
+
+    private ListDiff(Key<? super E> key) {
+        this.key = key;
+    }
+
+    /**
+     * Update the target list to match the source list. Each run of contiguous inserts is added with a single
+     * {@link List#addAll(int, java.util.Collection)} and each run of contiguous deletes removed with a single
+     * {@code subList(from, to).clear()}, matched elements that are not the same instance are replaced with
+     * {@link List#set(int, Object)}.
+     *
+     * @param target the list to update
+     * @param source the list to match, {@code null} is treated as empty
+     */
+    public void apply(List<E> target, List<? extends E> source) {
+        for (Edit e : edits(target, source)) {
+            if (e.insert) {
+                target.addAll(e.index, source.subList(e.from, e.to));
+            } else {
+                target.subList(e.index, e.index + e.to - e.from).clear();
+            }
+        }
+        // Elements matched by key may be different instances
+        int m = source == null ? 0 : source.size();
+        for (int i = 0; i < m; i++) {
+            E e = source.get(i);
+            if (target.get(i) != e) {
+                target.set(i, e);
+            }
+        }
+    }
+
+    /**
+     * Find the runs of inserts and deletes that change the old list to the new list, in ascending order. The index of
+     * each run is the position in the list after the previous runs are applied (i.e. a position in the new list).
+     *
+     * @param oldList the old list
+     * @param newList the new list, {@code null} is treated as empty
+     * @return the runs
+     */
+    List<Edit> edits(List<? extends E> oldList, List<? extends E> newList) {
+        int n = oldList.size();
+        int m = newList == null ? 0 : newList.size();
+        int prefix = 0;
+        while (prefix < n && prefix < m && matches(oldList.get(prefix), newList.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                        && matches(oldList.get(n - 1 - suffix), newList.get(m - 1 - suffix))) {
+            suffix++;
+        }
+        int oldLength = n - prefix - suffix;
+        int newLength = m - prefix - suffix;
+        List<Edit> edits = new ArrayList<Edit>();
+        if (oldLength > 0 && newLength > 0) {
+            Object[] a = keys(oldList, prefix, oldLength);
+            Object[] b = keys(newList, prefix, newLength);
+            List<int[]> trace = diff(a, b);
+            if (trace != null) {
+                backtrack(a, b, trace, prefix, edits);
+                return edits;
+            }
+        }
+        // Replace the differing range
+        if (oldLength > 0) {
+            edits.add(new Edit(false, prefix, prefix, prefix + oldLength));
+        }
+        if (newLength > 0) {
+            edits.add(new Edit(true, prefix, prefix, prefix + newLength));
+        }
+        return edits;
+    }
+
+    private boolean matches(E a, E b) {
+        if (this.key == null) {
+            return a == b;
+        }
+        return equal(this.key.getKey(a), this.key.getKey(b));
+    }
+
+    private boolean same(Object a, Object b) {
+        return this.key == null ? a == b : equal(a, b);
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    private Object[] keys(List<? extends E> list, int offset, int length) {
+        Object[] keys = new Object[length];
+        for (int i = 0; i < length; i++) {
+            E e = list.get(offset + i);
+            keys[i] = this.key == null ? e : this.key.getKey(e);
+        }
+        return keys;
+    }
+
+    /**
+     * Find the shortest edit script (Myers). Returns the furthest reaching x for each diagonal k (-d..d) at the start of
+     * each round d, used to backtrack the edits, or {@code null} if there are more than {@link #MAX_EDITS} edits.
+     */
+    private List<int[]> diff(Object[] a, Object[] b) {
+        int n = a.length;
+        int m = b.length;
+        int max = Math.min(n + m, MAX_EDITS);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<int[]>();
+        for (int d = 0; d <= max; d++) {
+            int[] snapshot = new int[2 * d + 3];
+            System.arraycopy(v, offset - d - 1, snapshot, 0, snapshot.length);
+            trace.add(snapshot);
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && same(a[x], b[y])) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return trace;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Backtrack the edit script from the end of the lists, then merge the edits into runs in ascending order.
+     */
+    private static void backtrack(Object[] a, Object[] b, List<int[]> trace, int prefix, List<Edit> edits) {
+        // Each edit is {insert ? 1 : 0, x, y}, in descending order
+        List<int[]> script = new ArrayList<int[]>(trace.size());
+        int x = a.length;
+        int y = b.length;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            // v[k + d + 1] is the x of diagonal k
+            int[] v = trace.get(d);
+            int k = x - y;
+            boolean insert = k == -d || (k != d && v[k + d] < v[k + d + 2]);
+            int prevK = insert ? k + 1 : k - 1;
+            x = v[prevK + d + 1];
+            y = x - prevK;
+            // Insert b[y] before a[x] or delete a[x], at position y of the list
+            script.add(new int[] { insert ? 1 : 0, x, y });
+        }
+        Edit run = null;
+        for (int i = script.size() - 1; i >= 0; i--) {
+            int[] e = script.get(i);
+            boolean insert = e[0] == 1;
+            int index = prefix + e[2];
+            int from = prefix + (insert ? e[2] : e[1]);
+            // Inserts are contiguous in the new list, deletes in the old list at the same position
+            if (run != null && run.insert == insert && run.to == from && (insert || run.index == index)) {
+                run.to++;
+            } else {
+                run = new Edit(insert, index, from, from + 1);
+                edits.add(run);
+            }
+        }
+    }
+
+    /**
+     * A run of inserts or deletes at a position of the list.
+     */
+    static final class Edit {
+        /** {@code true} for inserts, {@code false} for deletes */
+        final boolean insert;
+        /** the position of the run in the list after the previous runs are applied */
+        final int index;
+        /** the range of the run in the new list (inserts) or the old list (deletes) */
+        final int from;
+        int to;
+
+        Edit(boolean insert, int index, int from, int to) {
+            this.insert = insert;
+            this.index = index;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+}
@@ -0,0 +1,504 @@
+package com.swing.binding.bbb;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+/**
+ * Parses and formats numbers as text for a locale. The symbols of the locale (digits, minus sign, decimal and grouping
+ * separators, grouping size) are looked up once per locale into tables rather than by a {@link NumberFormat} per
+ * conversion.
+ * <p>
+ * A {@link Parser} reads the content of a {@link Document} in place (a {@link Segment} of the document) so parsing
+ * creates no intermediate {@link String}. Formatting an integer of less than four digits returns a cached
+ * {@link String}, and {@link #box(long, Class)} returns cached {@link Integer} and {@link Long} instances for small
+ * values.
+ * </p>
+ * <p>
+ * Text is parsed as per {@link Long#valueOf(String)} and {@link Double#valueOf(String)} with the symbols of the locale
+ * (the ASCII digits, {@code '-'} and {@code '+'} are accepted too), and surrounding whitespace is ignored. When
+ * grouping, grouping separators are accepted between digits of the integer part, a space is accepted for a locale
+ * that groups with a no-break space. Doubles are formatted with the digits of {@link Double#toString(double)}, but in
+ * plain notation below {@code 1e21} (e.g. {@code 12345678.0} rather than {@code 1.2345678E7}) so they can be grouped,
+ * "NaN" and "Infinity" are not parsed.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+final class NumberText {
+
+    private static final Map<Locale, NumberText> INSTANCES = new ConcurrentHashMap<Locale, NumberText>();
+
+    /**
+     * Integers in {@code [-SMALL, SMALL)} are boxed and formatted from caches.
+     */
+    static final int SMALL = 1000;
+
+    /**
+     * Doubles of at least this magnitude are formatted with an exponent.
+     */
+    private static final double PLAIN_LIMIT = 1e21;
+
+    private static final Integer[] INTEGERS = new Integer[2 * SMALL];
+    private static final Long[] LONGS = new Long[2 * SMALL];
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = Integer.valueOf(i - SMALL);
+            LONGS[i] = Long.valueOf(i - SMALL);
+        }
+    }
+
+    /**
+     * Powers of ten represented exactly by a double.
+     */
+    private static final double[] POWERS = new double[23];
+    static {
+        POWERS[0] = 1d;
+        for (int i = 1; i < POWERS.length; i++) {
+            POWERS[i] = POWERS[i - 1] * 10d;
+        }
+    }
+
+    /**
+     * Get the instance for a locale.
+     *
+     * @param locale the locale
+     * @return the shared instance for the locale
+     */
+    static NumberText getInstance(Locale locale) {
+        NumberText instance = INSTANCES.get(locale);
+        if (instance == null) {
+            instance = new NumberText(locale);
+            INSTANCES.put(locale, instance);
+        }
+        return instance;
+    }
+
+    /**
+     * Box an {@code int} or {@code long} value as an {@link Integer} or {@link Long}, a cached instance for small
+     * values.
+     *
+     * @param value the value, in the range of an {@code int} for {@link Integer}
+     * @param type {@link Integer} or {@link Long}
+     * @return the boxed value
+     */
+    static Number box(long value, Class<?> type) {
+        boolean small = value >= -SMALL && value < SMALL;
+        if (type == Integer.class) {
+            return small ? INTEGERS[(int) value + SMALL] : Integer.valueOf((int) value);
+        }
+        return small ? LONGS[(int) value + SMALL] : Long.valueOf(value);
+    }
+
+    private final char zero;
+    private final char minus;
+    private final char decimal;
+    private final char grouping;
+    private final char altGrouping;
+    private final int groupingSize;
+    private final String[] small;
+
+    private NumberText(Locale locale) {
+        super();
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+        this.zero = symbols.getZeroDigit();
+        this.minus = symbols.getMinusSign();
+        this.decimal = symbols.getDecimalSeparator();
+        this.grouping = symbols.getGroupingSeparator();
+        this.altGrouping = this.grouping == '\u00a0' || this.grouping == '\u202f' ? ' ' : this.grouping;
+        NumberFormat format = NumberFormat.getInstance(locale);
+        int size = format instanceof DecimalFormat ? ((DecimalFormat) format).getGroupingSize() : 3;
+        this.groupingSize = size > 0 ? size : 3;
+        this.small = new String[2 * SMALL];
+    }
+
+    /**
+     * Format a value.
+     *
+     * @param value an {@link Integer}, {@link Long} or {@link Double}
+     * @param group {@code true} to group the digits of the integer part
+     * @return the text
+     */
+    String format(Number value, boolean group) {
+        if (value instanceof Double) {
+            return formatDouble(value.doubleValue(), group);
+        }
+        long l = value.longValue();
+        // Less than four digits, the same text grouped or not
+        if (l > -SMALL && l < SMALL) {
+            String text = this.small[(int) l + SMALL];
+            if (text == null) {
+                // A racy fill is harmless, a String is immutable
+                text = formatLong(l, group);
+                this.small[(int) l + SMALL] = text;
+            }
+            return text;
+        }
+        return formatLong(l, group);
+    }
+
+    private String formatLong(long value, boolean group) {
+        char[] chars = new char[28];
+        int i = chars.length;
+        // Negative values are formatted as negative so Long.MIN_VALUE does not overflow
+        long v = value < 0 ? value : -value;
+        int n = 0;
+        do {
+            if (group && n > 0 && n % this.groupingSize == 0) {
+                chars[--i] = this.grouping;
+            }
+            chars[--i] = (char) (this.zero - (int) (v % 10));
+            v /= 10;
+            n++;
+        } while (v != 0);
+        if (value < 0) {
+            chars[--i] = this.minus;
+        }
+        return new String(chars, i, chars.length - i);
+    }
+
+    private String formatDouble(double value, boolean group) {
+        String text = Double.toString(value);
+        if (Math.abs(value) >= 1d && Math.abs(value) < PLAIN_LIMIT) {
+            text = plain(text);
+        }
+        if (this.zero == '0' && this.minus == '-' && this.decimal == '.' && (!group || Math.abs(value) < 1000d)) {
+            return text;
+        }
+        boolean exponent = text.indexOf('E') >= 0;
+        int point = text.indexOf('.');
+        int end = point < 0 ? text.length() : point;
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (group && !exponent && i > start && i < end && (end - i) % this.groupingSize == 0) {
+                    sb.append(this.grouping);
+                }
+                sb.append((char) (this.zero + c - '0'));
+            } else if (c == '-') {
+                sb.append(this.minus);
+            } else if (c == '.') {
+                sb.append(this.decimal);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Rewrite the text of {@link Double#toString(double)} of a value not less than one without the exponent, e.g.
+     * "1.2345678E7" is "12345678.0".
+     */
+    private static String plain(String text) {
+        int e = text.indexOf('E');
+        if (e < 0) {
+            return text;
+        }
+        int exponent = Integer.parseInt(text.substring(e + 1));
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        // The digits of the mantissa, one before the point
+        String digits = text.charAt(start) + text.substring(start + 2, e);
+        StringBuilder sb = new StringBuilder(exponent + 4);
+        sb.append(text, 0, start);
+        if (digits.length() <= exponent + 1) {
+            sb.append(digits);
+            for (int i = digits.length(); i <= exponent; i++) {
+                sb.append('0');
+            }
+            sb.append(".0");
+        } else {
+            sb.append(digits, 0, exponent + 1).append('.').append(digits, exponent + 1, digits.length());
+        }
+        return sb.toString();
+    }
+
+    private int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        int d = c - this.zero;
+        return d >= 0 && d <= 9 ? d : -1;
+    }
+
+    /**
+     * Parses the text of documents. A parser is not thread-safe, it is reused for the documents read by a thread.
+     */
+    final class Parser {
+        /** The text is empty (or whitespace). */
+        static final int EMPTY = 0;
+        /** The text is a number, {@link #longValue()} or {@link #doubleValue()} is the value. */
+        static final int VALID = 1;
+        /** The text is not a number. */
+        static final int INVALID = 2;
+
+        private static final int LEAD = 0;
+        private static final int SIGN = 1;
+        private static final int INTEGER = 2;
+        private static final int GROUP = 3;
+        private static final int FRACTION = 4;
+        private static final int EXPONENT_START = 5;
+        private static final int EXPONENT_SIGN = 6;
+        private static final int EXPONENT = 7;
+        private static final int TRAIL = 8;
+        private static final int ERROR = 9;
+
+        /**
+         * The significant digits of a double accumulated in a long, more are parsed by {@link Double#parseDouble}.
+         */
+        private static final int MAX_DIGITS = 18;
+
+        /**
+         * The significant digits and powers of ten of a double computed exactly, i.e. by a single rounding.
+         */
+        private static final int EXACT_DIGITS = 15;
+
+        private final Segment segment;
+        private final boolean decimals;
+        private final boolean group;
+        private final long limit;
+        // The normalised text of a double, parsed by Double.parseDouble when the exact computation does not apply
+        private char[] chars;
+        private int length;
+        private int state;
+        private boolean negative;
+        private boolean hasDigits;
+        private boolean overflow;
+        private int digits;
+        private long mantissa;
+        private int scale;
+        private boolean exponentNegative;
+        private int exponent;
+        private long longValue;
+        private double doubleValue;
+
+        /**
+         * @param type {@link Integer}, {@link Long} or {@link Double}
+         * @param group {@code true} to accept grouping separators
+         */
+        Parser(Class<?> type, boolean group) {
+            this.segment = new Segment();
+            this.segment.setPartialReturn(true);
+            this.decimals = type == Double.class;
+            this.group = group;
+            this.limit = type == Integer.class ? Integer.MAX_VALUE : Long.MAX_VALUE;
+            this.chars = new char[32];
+        }
+
+        /**
+         * Parse the content of a document.
+         *
+         * @param document the document
+         * @return {@link #EMPTY}, {@link #VALID} or {@link #INVALID}
+         */
+        int parse(Document document) {
+            reset();
+            int offset = 0;
+            int remaining = document.getLength();
+            try {
+                while (remaining > 0 && this.state != ERROR) {
+                    // A partial return is the content of the document in place, not a copy
+                    document.getText(offset, remaining, this.segment);
+                    char[] array = this.segment.array;
+                    for (int i = this.segment.offset, end = i + this.segment.count; i < end; i++) {
+                        accept(array[i]);
+                    }
+                    offset += this.segment.count;
+                    remaining -= this.segment.count;
+                }
+            } catch (BadLocationException e) {
+                // The document was changed while it was read, i.e. outside of the EDT
+                this.state = ERROR;
+            }
+            this.segment.array = null;
+            return finish();
+        }
+
+        /**
+         * The value of an integer, valid after {@link #parse(Document)} returns {@link #VALID}.
+         */
+        long longValue() {
+            return this.longValue;
+        }
+
+        /**
+         * The value of a double, valid after {@link #parse(Document)} returns {@link #VALID}.
+         */
+        double doubleValue() {
+            return this.doubleValue;
+        }
+
+        private void reset() {
+            this.length = 0;
+            this.state = LEAD;
+            this.negative = false;
+            this.hasDigits = false;
+            this.overflow = false;
+            this.digits = 0;
+            this.mantissa = 0;
+            this.scale = 0;
+            this.exponentNegative = false;
+            this.exponent = 0;
+        }
+
+        private void accept(char c) {
+            NumberText t = NumberText.this;
+            int d = digit(c);
+            boolean space = Character.isWhitespace(c) || Character.isSpaceChar(c);
+            boolean sign = c == t.minus || c == '-' || c == '+';
+            boolean point = this.decimals && c == t.decimal;
+            boolean exp = this.decimals && this.hasDigits && (c == 'e' || c == 'E');
+            switch (this.state) {
+            case LEAD:
+                if (space) {
+                    return;
+                }
+                if (sign) {
+                    this.negative = c != '+';
+                    if (this.negative) {
+                        append('-');
+                    }
+                    this.state = SIGN;
+                    return;
+                }
+                this.state = SIGN;
+                accept(c);
+                return;
+            case SIGN:
+                this.state = d >= 0 ? INTEGER : point ? FRACTION : ERROR;
+                break;
+            case INTEGER:
+                if (this.group && (c == t.grouping || c == t.altGrouping)) {
+                    this.state = GROUP;
+                    return;
+                }
+                this.state = d >= 0 ? INTEGER : point ? FRACTION : exp ? EXPONENT_START : space ? TRAIL : ERROR;
+                break;
+            case GROUP:
+                // A grouping separator that is a space may be trailing whitespace
+                this.state = d >= 0 ? INTEGER : space && Character.isSpaceChar(t.grouping) ? TRAIL : ERROR;
+                break;
+            case FRACTION:
+                boolean end = this.hasDigits && space;
+                this.state = d >= 0 ? FRACTION : exp ? EXPONENT_START : end ? TRAIL : ERROR;
+                break;
+            case EXPONENT_START:
+                if (sign) {
+                    this.exponentNegative = c != '+';
+                    append(this.exponentNegative ? '-' : '+');
+                    this.state = EXPONENT_SIGN;
+                    return;
+                }
+                this.state = d >= 0 ? EXPONENT : ERROR;
+                break;
+            case EXPONENT_SIGN:
+            case EXPONENT:
+                this.state = d >= 0 ? EXPONENT : this.state == EXPONENT && space ? TRAIL : ERROR;
+                break;
+            case TRAIL:
+                this.state = space ? TRAIL : ERROR;
+                return;
+            default:
+                return;
+            }
+            if (this.state == INTEGER || this.state == FRACTION || this.state == EXPONENT) {
+                if (d >= 0) {
+                    addDigit(d);
+                } else if (point) {
+                    append('.');
+                }
+            } else if (this.state == EXPONENT_START) {
+                append('E');
+            }
+        }
+
+        private void addDigit(int d) {
+            if (this.state == EXPONENT) {
+                append((char) ('0' + d));
+                // Enough to overflow or underflow a double, not enough to overflow an int
+                this.exponent = Math.min(this.exponent * 10 + d, 100000);
+                return;
+            }
+            this.hasDigits = true;
+            if (!this.decimals) {
+                // Accumulate as a negative number (as Long.parseLong) so the minimum value does not overflow
+                long min = this.negative ? -this.limit - 1 : -this.limit;
+                if (this.mantissa < (min + d) / 10) {
+                    this.overflow = true;
+                } else {
+                    this.mantissa = this.mantissa * 10 - d;
+                }
+                return;
+            }
+            append((char) ('0' + d));
+            if (this.state == FRACTION) {
+                this.scale++;
+            }
+            if (this.mantissa == 0 && d == 0) {
+                // A leading zero is not significant
+                return;
+            }
+            if (this.digits < MAX_DIGITS) {
+                this.mantissa = this.mantissa * 10 + d;
+            } else if (this.state == INTEGER) {
+                this.scale--;
+            }
+            this.digits++;
+        }
+
+        private void append(char c) {
+            if (this.length == this.chars.length) {
+                char[] grown = new char[this.chars.length * 2];
+                System.arraycopy(this.chars, 0, grown, 0, this.length);
+                this.chars = grown;
+            }
+            this.chars[this.length++] = c;
+        }
+
+        private int finish() {
+            switch (this.state) {
+            case LEAD:
+                return EMPTY;
+            case INTEGER:
+            case FRACTION:
+            case EXPONENT:
+            case TRAIL:
+                break;
+            case GROUP:
+                if (Character.isSpaceChar(NumberText.this.grouping)) {
+                    break;
+                }
+                return INVALID;
+            default:
+                return INVALID;
+            }
+            if (!this.hasDigits || this.overflow) {
+                return INVALID;
+            }
+            if (!this.decimals) {
+                this.longValue = this.negative ? this.mantissa : -this.mantissa;
+                return VALID;
+            }
+            int e = (this.exponentNegative ? -this.exponent : this.exponent) - this.scale;
+            if (this.digits <= EXACT_DIGITS && e >= -22 && e <= 22) {
+                double v = this.mantissa;
+                v = e < 0 ? v / POWERS[-e] : v * POWERS[e];
+                this.doubleValue = this.negative ? -v : v;
+            } else {
+                this.doubleValue = Double.parseDouble(new String(this.chars, 0, this.length));
+            }
+            return VALID;
+        }
+    }
+
+}
@@ -0,0 +1,300 @@
+package com.swing.binding.bbb;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+
+/**
+ * The number in the text of a {@link JTextComponent}. The value is parsed from the {@link Document} of the component
+ * by a {@link NumberText.Parser} when the document changes, no {@link String} is created, and reading the value returns
+ * the value parsed last. The value is unreadable when the text is not a number (or empty and the type is primitive), so
+ * a binding does not write it to the bean. Empty text is {@code null}.
+ * <p>
+ * Setting a value equal to the value of the text does nothing, otherwise the value is formatted once. Values set
+ * outside of the EDT are coalesced by the {@link SwingDispatcher}. Values set by the binding are not notified.
+ * </p>
+ * <p>
+ * Replacing the text (e.g. {@link JTextComponent#setText(String)}) removes then inserts, so a removal is notified
+ * later in the EDT unless an insert follows, otherwise the binding would write the intermediate value (usually
+ * {@code null}) to the bean.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <N> the type of number
+ */
+class NumberTextProperty<N extends Number> extends PropertyHelper<JComponent, N> implements
+                SwingDispatcher.Target<JComponent, N> {
+
+    private final Class<N> type;
+    private final boolean nullable;
+    private final NumberText numberText;
+    private final boolean grouping;
+    private final Map<JComponent, SourceEntry> sourceEntries;
+
+    /**
+     * @param type the type of the bean property, {@link Integer}, {@link Long} or {@link Double} or their primitive
+     *            types
+     * @param numberText the symbols of the locale
+     * @param grouping {@code true} to group the digits of the integer part
+     * @throws IllegalArgumentException for any other type
+     */
+    @SuppressWarnings("unchecked")
+    NumberTextProperty(Class<? extends N> type, NumberText numberText, boolean grouping) {
+        super();
+        if (type == Integer.class || type == Integer.TYPE) {
+            this.type = (Class<N>) Integer.class;
+        } else if (type == Long.class || type == Long.TYPE) {
+            this.type = (Class<N>) Long.class;
+        } else if (type == Double.class || type == Double.TYPE) {
+            this.type = (Class<N>) Double.class;
+        } else {
+            throw new IllegalArgumentException("type must be Integer, Long or Double: " + type);
+        }
+        if (numberText == null) {
+            throw new IllegalArgumentException("numberText can't be null");
+        }
+        this.nullable = !type.isPrimitive();
+        this.numberText = numberText;
+        this.grouping = grouping;
+        this.sourceEntries = new IdentityHashMap<JComponent, SourceEntry>();
+    }
+
+    @Override
+    public Class<? extends N> getWriteType(JComponent source) {
+        return this.type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public N getValue(JComponent source) {
+        Object value = read(source);
+        if (value == PropertyStateEvent.UNREADABLE) {
+            throw new UnsupportedOperationException("Unreadable");
+        }
+        return (N) value;
+    }
+
+    /**
+     * Set the value in the EDT.
+     */
+    @Override
+    public void setValue(JComponent source, N value) {
+        SwingDispatcher.getInstance().dispatch(this, source, value);
+    }
+
+    @Override
+    public void setValueInEdt(JComponent source, N value) {
+        SourceEntry entry = this.sourceEntries.get(source);
+        if (entry != null) {
+            entry.write(value);
+        } else {
+            ((JTextComponent) source).setText(format(value));
+        }
+    }
+
+    @Override
+    public boolean isReadable(JComponent source) {
+        return source instanceof JTextComponent && read(source) != PropertyStateEvent.UNREADABLE;
+    }
+
+    @Override
+    public boolean isWriteable(JComponent source) {
+        return source instanceof JTextComponent;
+    }
+
+    @Override
+    protected void listeningStarted(JComponent source) {
+        SourceEntry entry = new SourceEntry((JTextComponent) source);
+        this.sourceEntries.put(source, entry);
+        entry.start();
+    }
+
+    @Override
+    protected void listeningStopped(JComponent source) {
+        SourceEntry entry = this.sourceEntries.remove(source);
+        if (entry != null) {
+            entry.stop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[text, " + this.type.getSimpleName() + "]";
+    }
+
+    /**
+     * Read the value, the value parsed last when listening in the EDT.
+     */
+    private Object read(JComponent source) {
+        if (!(source instanceof JTextComponent)) {
+            return PropertyStateEvent.UNREADABLE;
+        }
+        SourceEntry entry = SwingUtilities.isEventDispatchThread() ? this.sourceEntries.get(source) : null;
+        if (entry != null) {
+            return entry.value;
+        }
+        NumberText.Parser parser = this.numberText.new Parser(this.type, this.grouping);
+        return parse(parser, ((JTextComponent) source).getDocument(), null);
+    }
+
+    /**
+     * Parse the text of a document.
+     *
+     * @param previous the value parsed last, returned if the value is the same
+     * @return the value, {@link PropertyStateEvent#UNREADABLE} if the text is not a number
+     */
+    private Object parse(NumberText.Parser parser, Document document, Object previous) {
+        switch (parser.parse(document)) {
+        case NumberText.Parser.EMPTY:
+            return this.nullable ? null : PropertyStateEvent.UNREADABLE;
+        case NumberText.Parser.VALID:
+            break;
+        default:
+            return PropertyStateEvent.UNREADABLE;
+        }
+        if (this.type == Double.class) {
+            long bits = Double.doubleToLongBits(parser.doubleValue());
+            if (previous instanceof Double && Double.doubleToLongBits(((Double) previous).doubleValue()) == bits) {
+                return previous;
+            }
+            return Double.valueOf(parser.doubleValue());
+        }
+        long l = parser.longValue();
+        if (previous instanceof Number && !(previous instanceof Double) && ((Number) previous).longValue() == l) {
+            return previous;
+        }
+        return NumberText.box(l, this.type);
+    }
+
+    private String format(N value) {
+        return value == null ? "" : this.numberText.format(value, this.grouping);
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    /**
+     * Listens to the document of a source and holds the value parsed last.
+     */
+    private final class SourceEntry implements DocumentListener, PropertyChangeListener, Runnable {
+        private final JTextComponent source;
+        private final NumberText.Parser parser;
+        private Document document;
+        private Object value;
+        private boolean writing;
+        private boolean removed;
+
+        SourceEntry(JTextComponent source) {
+            this.source = source;
+            NumberTextProperty<N> p = NumberTextProperty.this;
+            this.parser = p.numberText.new Parser(p.type, p.grouping);
+        }
+
+        void start() {
+            this.source.addPropertyChangeListener("document", this);
+            setDocument(this.source.getDocument());
+            this.value = parse(this.parser, this.document, null);
+        }
+
+        void stop() {
+            this.source.removePropertyChangeListener("document", this);
+            setDocument(null);
+        }
+
+        private void setDocument(Document newDocument) {
+            if (this.document != null) {
+                this.document.removeDocumentListener(this);
+            }
+            this.document = newDocument;
+            if (this.document != null) {
+                this.document.addDocumentListener(this);
+            }
+        }
+
+        /**
+         * Write a value, unless it is the value of the text. The changes of the document are not notified.
+         */
+        void write(N newValue) {
+            if (equal(this.value, newValue)) {
+                return;
+            }
+            this.writing = true;
+            this.removed = false;
+            try {
+                this.source.setText(format(newValue));
+            } finally {
+                this.writing = false;
+            }
+            this.value = parse(this.parser, this.document, newValue);
+        }
+
+        /**
+         * Parse the text and notify a change of the value or of readability.
+         */
+        private void changed() {
+            this.removed = false;
+            if (this.writing) {
+                return;
+            }
+            Object old = this.value;
+            this.value = parse(this.parser, this.document, old);
+            if (old == this.value) {
+                return;
+            }
+            boolean wasReadable = old != PropertyStateEvent.UNREADABLE;
+            boolean readable = this.value != PropertyStateEvent.UNREADABLE;
+            firePropertyStateChange(new PropertyStateEvent(NumberTextProperty.this, this.source, true, old, this.value,
+                            wasReadable != readable, readable));
+        }
+
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            changed();
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            if (this.writing || this.removed) {
+                return;
+            }
+            this.removed = true;
+            SwingUtilities.invokeLater(this);
+        }
+
+        /**
+         * Notify a removal that was not followed by an insert.
+         */
+        @Override
+        public void run() {
+            if (this.removed && this.document != null) {
+                changed();
+            }
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            // An attribute change, the text is not changed
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            setDocument(this.source.getDocument());
+            changed();
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.swing.binding.bbb;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.jdesktop.beansbinding.PropertyResolutionException;
+
+/**
+ * Accessor for a property of a bean class. The getter, setter and property change listener methods are resolved when
+ * the accessor is created, invoking an accessor does not introspect the class.
+ * <p>
+ * Accessors are not cached globally, a cache keyed by class would keep the classes (and their class loaders) loaded.
+ * They are cached by their users, e.g. an {@link AccessorProperty}, for as long as they are used.
+ * </p>
+ * <p>
+ * Methods are made accessible when resolved so invocation skips the access check. After a number of invocations the
+ * JVM generates bytecode for reflective method invocation, which the JIT compiler can inline.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+final class PropertyAccessor {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * The argument array of a setter per thread. The arguments are unpacked before the setter is entered, so the array
+     * can be reused by a setter invoked by the setter (e.g. by a listener).
+     */
+    private static final ThreadLocal<Object[]> SETTER_ARGS = new ThreadLocal<Object[]>() {
+        @Override
+        protected Object[] initialValue() {
+            return new Object[1];
+        }
+    };
+
+    /**
+     * Create the accessor for a property of a class, introspects the class.
+     *
+     * @param beanClass bean class
+     * @param name property name
+     * @return the accessor (the accessor is neither readable or writeable if the class does not have the property)
+     */
+    static PropertyAccessor create(Class<?> beanClass, String name) {
+        return new PropertyAccessor(beanClass, name);
+    }
+
+    private final Class<?> beanClass;
+    private final String name;
+    private final Class<?> type;
+    private final Method getter;
+    private final Method setter;
+    private final Method addListener;
+    private final Method removeListener;
+    private final boolean namedListener;
+    private final Method addBeanListener;
+    private final Method removeBeanListener;
+
+    private PropertyAccessor(Class<?> beanClass, String name) {
+        this.beanClass = beanClass;
+        this.name = name;
+        PropertyDescriptor pd = findDescriptor(beanClass, name);
+        this.type = pd == null ? null : pd.getPropertyType();
+        this.getter = accessible(pd == null ? null : pd.getReadMethod());
+        this.setter = accessible(pd == null ? null : pd.getWriteMethod());
+        Method addAll = findMethod(beanClass, "addPropertyChangeListener", PropertyChangeListener.class);
+        Method removeAll = findMethod(beanClass, "removePropertyChangeListener", PropertyChangeListener.class);
+        Method add = findMethod(beanClass, "addPropertyChangeListener", String.class, PropertyChangeListener.class);
+        Method remove = findMethod(beanClass, "removePropertyChangeListener", String.class,
+                        PropertyChangeListener.class);
+        if (add != null && remove != null) {
+            this.namedListener = true;
+        } else {
+            add = addAll;
+            remove = removeAll;
+            this.namedListener = false;
+        }
+        this.addListener = accessible(add);
+        this.removeListener = accessible(remove);
+        this.addBeanListener = accessible(addAll);
+        this.removeBeanListener = accessible(removeAll);
+    }
+
+    Class<?> getBeanClass() {
+        return this.beanClass;
+    }
+
+    Class<?> getType() {
+        return this.type;
+    }
+
+    boolean isReadable() {
+        return this.getter != null;
+    }
+
+    boolean isWriteable() {
+        return this.setter != null;
+    }
+
+    boolean isObservable() {
+        return this.addListener != null && this.removeListener != null;
+    }
+
+    Object getValue(Object source) {
+        if (this.getter == null) {
+            throw new UnsupportedOperationException("unreadable property " + this);
+        }
+        return invoke(this.getter, source, NO_ARGS);
+    }
+
+    void setValue(Object source, Object value) {
+        if (this.setter == null) {
+            throw new UnsupportedOperationException("unwriteable property " + this);
+        }
+        Object[] args = SETTER_ARGS.get();
+        args[0] = value;
+        try {
+            invoke(this.setter, source, args);
+        } finally {
+            // Do not retain the value
+            args[0] = null;
+        }
+    }
+
+    void addPropertyChangeListener(Object source, PropertyChangeListener listener) {
+        if (this.namedListener) {
+            invoke(this.addListener, source, new Object[] { this.name, listener });
+        } else {
+            invoke(this.addListener, source, new Object[] { listener });
+        }
+    }
+
+    void removePropertyChangeListener(Object source, PropertyChangeListener listener) {
+        if (this.namedListener) {
+            invoke(this.removeListener, source, new Object[] { this.name, listener });
+        } else {
+            invoke(this.removeListener, source, new Object[] { listener });
+        }
+    }
+
+    /**
+     * Return {@code true} if a listener of all the properties of a bean of the class can be added.
+     */
+    boolean isBeanObservable() {
+        return this.addBeanListener != null && this.removeBeanListener != null;
+    }
+
+    /**
+     * Add a listener of all the properties of the bean, i.e. {@code addPropertyChangeListener(listener)}.
+     */
+    void addBeanListener(Object source, PropertyChangeListener listener) {
+        invoke(this.addBeanListener, source, new Object[] { listener });
+    }
+
+    void removeBeanListener(Object source, PropertyChangeListener listener) {
+        invoke(this.removeBeanListener, source, new Object[] { listener });
+    }
+
+    @Override
+    public String toString() {
+        return this.beanClass.getName() + "." + this.name;
+    }
+
+    private Object invoke(Method method, Object source, Object[] args) {
+        try {
+            return method.invoke(source, args);
+        } catch (IllegalArgumentException e) {
+            // The source is not an instance of the class or the value is not of the property type
+            throw new PropertyResolutionException("failed to invoke " + method + " for " + this, e);
+        } catch (IllegalAccessException e) {
+            throw new PropertyResolutionException("failed to invoke " + method + " for " + this, e);
+        } catch (InvocationTargetException e) {
+            throw new PropertyResolutionException("failed to invoke " + method + " for " + this, e);
+        }
+    }
+
+    private static PropertyDescriptor findDescriptor(Class<?> beanClass, String name) {
+        try {
+            BeanInfo info = Introspector.getBeanInfo(beanClass);
+            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
+                if (name.equals(pd.getName())) {
+                    return pd;
+                }
+            }
+        } catch (IntrospectionException e) {
+            throw new PropertyResolutionException("failed to introspect " + beanClass.getName(), e);
+        }
+        return null;
+    }
+
+    private static Method findMethod(Class<?> beanClass, String name, Class<?>... parameterTypes) {
+        try {
+            return beanClass.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Method accessible(Method m) {
+        if (m != null) {
+            try {
+                m.setAccessible(true);
+            } catch (RuntimeException e) {
+                // Not permitted (security manager or module access), access is checked on each invocation
+            }
+        }
+        return m;
+    }
+
+}
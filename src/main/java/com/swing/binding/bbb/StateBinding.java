@@ -1,6 +1,8 @@
 package com.swing.binding.bbb;
 
 import java.awt.Color;
+import java.util.List;
+import java.util.Set;
 
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
@@ -132,6 +134,72 @@ public class StateBinding {
         return state(bean, bP, component, "foreground");
     }
 
+    /**
+     * Create a binding of a {@code long} mask property of a bean to the states
+     * of the components of a {@link StateGroup}. This replaces a binding per
+     * component and state: a change of the mask is applied in one pass of the
+     * EDT, to the components of the bits that changed only.
+     * <p>
+     * The {@link UpdateStrategy} is {@link UpdateStrategy#READ}, when binding
+     * is being used for state the state should only be updated via the property
+     * it is bound to.
+     * </p>
+     * 
+     * @param bean
+     *            bean to bind
+     * @param bP
+     *            bean property to bind, {@code null} is an empty mask
+     * @param group
+     *            the components and the bits of their states
+     * @return binding instance
+     */
+    public static <B> Binding<B, Long, StateGroup, Long> group(B bean, Property<B, Long> bP, StateGroup group) {
+        return Bindings.createAutoBinding(UpdateStrategy.READ, bean, bP, group, new StateGroupProperty());
+    }
+
+    /**
+     * Create a binding of {@link Boolean} properties of a bean to the states of
+     * the components of a {@link StateGroup}, the property at index {@code i}
+     * is bit {@code i}. Refer to {@link #group(Object, Property, StateGroup)}
+     * for more information about the binding.
+     * 
+     * @param bean
+     *            bean to bind
+     * @param flags
+     *            bean properties to bind (at most 64), {@code null} is
+     *            {@code false}
+     * @param group
+     *            the components and the bits of their states
+     * @return binding instance
+     */
+    public static <B> Binding<B, Long, StateGroup, Long> group(B bean, List<? extends Property<B, Boolean>> flags,
+            StateGroup group) {
+        return group(bean, new FlagsProperty<B>(flags), group);
+    }
+
+    /**
+     * Create a binding of a {@link Set} property of enum constants (e.g. an
+     * {@link java.util.EnumSet}) of a bean to the states of the components of
+     * a {@link StateGroup}, the bit of a constant is its ordinal. Refer to
+     * {@link #group(Object, Property, StateGroup)} for more information about
+     * the binding.
+     * 
+     * @param bean
+     *            bean to bind
+     * @param bP
+     *            bean property to bind, {@code null} is an empty set
+     * @param group
+     *            the components and the bits of their states
+     * @return binding instance
+     */
+    public static <B, E extends Enum<E>> Binding<B, Set<E>, StateGroup, Long> enumGroup(B bean,
+            Property<B, Set<E>> bP, StateGroup group) {
+        Binding<B, Set<E>, StateGroup, Long> binding = Bindings.createAutoBinding(UpdateStrategy.READ, bean, bP,
+                group, new StateGroupProperty());
+        binding.setConverter(Converter2.<E> newEnumSetMask());
+        return binding;
+    }
+
     /**
      * Create a binding of a bean property to a state property of a
      * {@link JComponent}.
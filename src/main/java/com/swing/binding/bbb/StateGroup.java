@@ -0,0 +1,187 @@
+package com.swing.binding.bbb;
+
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.text.JTextComponent;
+
+/**
+ * The states (enabled, visible, editable) of many components, each mapped to a bit of a {@code long} mask. Bound to a
+ * bean by {@link StateBinding#group(Object, org.jdesktop.beansbinding.Property, StateGroup)} (or the other
+ * {@code group} operations) as a single binding: a change of the mask is applied in one pass of the EDT, to the
+ * components of the bits that changed only.
+ * <p>
+ * A bit is an index from 0 to 63, or the ordinal of an enum constant. A bit may be mapped to any number of components
+ * and states. Components are added before the group is bound, the group is used in the EDT.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public final class StateGroup {
+
+    /**
+     * The state of a component.
+     */
+    private enum State {
+        ENABLED, VISIBLE, EDITABLE
+    }
+
+    private final Entry[] heads;
+    private long used;
+    private long mask;
+    private boolean applied;
+
+    /**
+     * Create an empty group.
+     */
+    public StateGroup() {
+        super();
+        this.heads = new Entry[Long.SIZE];
+    }
+
+    /**
+     * Map the enabled state of a component to a bit.
+     *
+     * @param component the component
+     * @param bit the bit, from 0 to 63
+     * @return this group
+     */
+    public StateGroup enabled(JComponent component, int bit) {
+        return add(component, State.ENABLED, bit);
+    }
+
+    /**
+     * Map the enabled state of a component to the bit of a flag.
+     *
+     * @param component the component
+     * @param flag the flag, its ordinal is the bit
+     * @return this group
+     */
+    public StateGroup enabled(JComponent component, Enum<?> flag) {
+        return add(component, State.ENABLED, flag.ordinal());
+    }
+
+    /**
+     * Map the visible state of a component to a bit.
+     *
+     * @param component the component
+     * @param bit the bit, from 0 to 63
+     * @return this group
+     */
+    public StateGroup visible(JComponent component, int bit) {
+        return add(component, State.VISIBLE, bit);
+    }
+
+    /**
+     * Map the visible state of a component to the bit of a flag.
+     *
+     * @param component the component
+     * @param flag the flag, its ordinal is the bit
+     * @return this group
+     */
+    public StateGroup visible(JComponent component, Enum<?> flag) {
+        return add(component, State.VISIBLE, flag.ordinal());
+    }
+
+    /**
+     * Map the editable state of a {@link JTextComponent} or {@link JComboBox} to a bit.
+     *
+     * @param component the component
+     * @param bit the bit, from 0 to 63
+     * @return this group
+     * @throws IllegalArgumentException if the component is not a {@link JTextComponent} or {@link JComboBox}
+     */
+    public StateGroup editable(JComponent component, int bit) {
+        if (!(component instanceof JTextComponent) && !(component instanceof JComboBox)) {
+            throw new IllegalArgumentException("component must be a JTextComponent or JComboBox: " + component);
+        }
+        return add(component, State.EDITABLE, bit);
+    }
+
+    /**
+     * Map the editable state of a {@link JTextComponent} or {@link JComboBox} to the bit of a flag.
+     *
+     * @param component the component
+     * @param flag the flag, its ordinal is the bit
+     * @return this group
+     * @throws IllegalArgumentException if the component is not a {@link JTextComponent} or {@link JComboBox}
+     */
+    public StateGroup editable(JComponent component, Enum<?> flag) {
+        return editable(component, flag.ordinal());
+    }
+
+    /**
+     * Get the mask applied last.
+     *
+     * @return the mask
+     */
+    public long getMask() {
+        return this.mask;
+    }
+
+    private StateGroup add(JComponent component, State state, int bit) {
+        if (component == null) {
+            throw new IllegalArgumentException("component can't be null");
+        }
+        if (bit < 0 || bit >= Long.SIZE) {
+            throw new IllegalArgumentException("bit must be from 0 to 63: " + bit);
+        }
+        this.heads[bit] = new Entry(component, state, this.heads[bit]);
+        this.used |= 1L << bit;
+        return this;
+    }
+
+    /**
+     * Apply a mask, to the components of the bits that changed since the mask applied last (to all the components the
+     * first time). Must be invoked in the EDT.
+     *
+     * @param newMask the mask
+     */
+    void apply(long newMask) {
+        long changed = (this.applied ? newMask ^ this.mask : -1L) & this.used;
+        this.mask = newMask;
+        this.applied = true;
+        while (changed != 0) {
+            int bit = Long.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            boolean on = (newMask & (1L << bit)) != 0;
+            for (Entry e = this.heads[bit]; e != null; e = e.next) {
+                e.apply(on);
+            }
+        }
+    }
+
+    /**
+     * A state of a component, the entries of a bit are linked.
+     */
+    private static final class Entry {
+        private final JComponent component;
+        private final State state;
+        private final Entry next;
+
+        Entry(JComponent component, State state, Entry next) {
+            this.component = component;
+            this.state = state;
+            this.next = next;
+        }
+
+        void apply(boolean on) {
+            switch (this.state) {
+            case ENABLED:
+                this.component.setEnabled(on);
+                break;
+            case VISIBLE:
+                this.component.setVisible(on);
+                break;
+            default:
+                if (this.component instanceof JTextComponent) {
+                    ((JTextComponent) this.component).setEditable(on);
+                } else {
+                    ((JComboBox) this.component).setEditable(on);
+                }
+                break;
+            }
+        }
+    }
+
+}
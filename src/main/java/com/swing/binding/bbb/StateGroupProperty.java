@@ -0,0 +1,54 @@
+package com.swing.binding.bbb;
+
+import org.jdesktop.beansbinding.PropertyHelper;
+
+/**
+ * The mask of a {@link StateGroup}, the target property of a group binding. Setting the mask applies it to the
+ * components of the group in the EDT, masks set outside of the EDT are coalesced by the {@link SwingDispatcher} so a
+ * burst of changes is applied once. {@code null} is an empty mask.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+class StateGroupProperty extends PropertyHelper<StateGroup, Long> implements SwingDispatcher.Target<StateGroup, Long> {
+
+    StateGroupProperty() {
+        super();
+    }
+
+    @Override
+    public Class<? extends Long> getWriteType(StateGroup source) {
+        return Long.class;
+    }
+
+    @Override
+    public Long getValue(StateGroup source) {
+        return Long.valueOf(source.getMask());
+    }
+
+    @Override
+    public void setValue(StateGroup source, Long value) {
+        SwingDispatcher.getInstance().dispatch(this, source, value);
+    }
+
+    @Override
+    public void setValueInEdt(StateGroup source, Long value) {
+        source.apply(value == null ? 0L : value.longValue());
+    }
+
+    @Override
+    public boolean isReadable(StateGroup source) {
+        return true;
+    }
+
+    @Override
+    public boolean isWriteable(StateGroup source) {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName();
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.swing.binding.bbb;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Coalesces Swing component property writes made outside of the EDT. Pending writes are keyed by the component and
+ * the property (a {@link SwingProperty} or another {@link Target}), only the latest value for a key is kept and a single {@link Runnable} applies all pending
+ * writes in one pass of the EDT.
+ * <p>
+ * This prevents a background thread updating many bound properties from flooding the event queue with one
+ * {@link Runnable} per update.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+final class SwingDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(SwingDispatcher.class);
+    private static final SwingDispatcher INSTANCE = new SwingDispatcher();
+
+    /**
+     * Get the shared instance.
+     *
+     * @return the shared instance
+     */
+    static SwingDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * A property whose values are set in the EDT.
+     *
+     * @param <S> the type of source
+     * @param <V> the type of value
+     */
+    interface Target<S, V> {
+        /**
+         * Set the value, invoked in the EDT.
+         *
+         * @param source source (component) to set the property on
+         * @param value value to set
+         */
+        void setValueInEdt(S source, V value);
+    }
+
+    private final Object lock = new Object();
+    private final Key probe = new Key();
+    private final Runnable drain = new Runnable() {
+        @Override
+        public void run() {
+            SwingDispatcher.this.drain();
+        }
+    };
+    private Map<Key, PendingWrite> pendingMap;
+    private List<PendingWrite> pendingList;
+    private boolean scheduled;
+
+    private SwingDispatcher() {
+        super();
+        this.pendingMap = new HashMap<Key, PendingWrite>(64);
+        this.pendingList = new ArrayList<PendingWrite>(64);
+        this.scheduled = false;
+    }
+
+    /**
+     * Set the value of the property in the EDT. If invoked in the EDT the value is set immediately, otherwise the write
+     * is queued, replacing any write still pending for the same component and property.
+     *
+     * @param property property to set
+     * @param source source (component) to set the property on
+     * @param value value to set
+     */
+    <S, V> void dispatch(Target<S, V> property, S source, V value) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            property.setValueInEdt(source, value);
+            return;
+        }
+        boolean schedule = false;
+        synchronized (this.lock) {
+            // Reuse the probe key for the lookup so a coalesced write does not allocate
+            this.probe.set(source, property);
+            PendingWrite pending = this.pendingMap.get(this.probe);
+            this.probe.set(null, null);
+            if (pending == null) {
+                pending = new PendingWrite(property, source);
+                this.pendingMap.put(new Key(source, property), pending);
+                this.pendingList.add(pending);
+            }
+            pending.value = value;
+            if (!this.scheduled) {
+                this.scheduled = true;
+                schedule = true;
+            }
+        }
+        if (schedule) {
+            SwingUtilities.invokeLater(this.drain);
+        }
+    }
+
+    /**
+     * Apply all pending writes. Writes queued while draining are applied in a subsequent pass.
+     */
+    private void drain() {
+        List<PendingWrite> writes;
+        synchronized (this.lock) {
+            writes = this.pendingList;
+            this.pendingList = new ArrayList<PendingWrite>(Math.max(64, writes.size()));
+            this.pendingMap.clear();
+            this.scheduled = false;
+        }
+        for (int i = 0, n = writes.size(); i < n; i++) {
+            PendingWrite w = writes.get(i);
+            try {
+                w.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("failed to set property " + w.property + " on " + w.source, e);
+            }
+        }
+    }
+
+    /**
+     * Identifies a pending write by the identity of the source and property.
+     */
+    private static final class Key {
+        private Object source;
+        private Object property;
+
+        Key() {
+            super();
+        }
+
+        Key(Object source, Object property) {
+            super();
+            set(source, property);
+        }
+
+        void set(Object newSource, Object newProperty) {
+            this.source = newSource;
+            this.property = newProperty;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.source) + System.identityHashCode(this.property);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.source == other.source && this.property == other.property;
+        }
+    }
+
+    /**
+     * The latest value to be written for a source and property.
+     */
+    private static final class PendingWrite {
+        private final Target<Object, Object> property;
+        private final Object source;
+        private Object value;
+
+        @SuppressWarnings("unchecked")
+        PendingWrite(Target<?, ?> property, Object source) {
+            super();
+            this.property = (Target<Object, Object>) property;
+            this.source = source;
+        }
+
+        void run() {
+            this.property.setValueInEdt(this.source, this.value);
+        }
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.swing.binding.bbb;
 
 import javax.swing.JComponent;
-import javax.swing.SwingUtilities;
 
 import org.jdesktop.beansbinding.BeanProperty;
 import org.jdesktop.beansbinding.Property;
@@ -16,7 +15,7 @@ import org.jdesktop.beansbinding.PropertyStateListener;
  * @param <S> the type of source object that this {@code SwingProperty} operates on
  * @param <V> the type of value that this {@code SwingProperty} represents
  */
-class SwingProperty<S, V> extends Property<S, V> {
+class SwingProperty<S, V> extends Property<S, V> implements SwingDispatcher.Target<S, V> {
 
     /**
      * Creates an instance of {@code SwingProperty} for the given path.
@@ -54,16 +53,27 @@ class SwingProperty<S, V> extends Property<S, V> {
     }
 
     private BeanProperty<S, V> beanProperty;
-    private String path;
-    private Class<?> targetType;
+    private ValueReader<S, V> valueReader;
 
     /**
      * @throws IllegalArgumentException for empty or {@code null} path.
      */
     protected SwingProperty(Property<S, ?> baseProperty, String path, Class<?> targetType) {
         this.beanProperty = BeanProperty.create(baseProperty, path);
-        this.path = path;
-        this.targetType = targetType;
+        this.valueReader = createValueReader(this.beanProperty, path, targetType);
+    }
+
+    /**
+     * Resolve how values are read once so {@link #getValue(Object)} does not repeat the checks on every read. Values for
+     * a "text" property bound to a non-String, non-primitive bean property are read by an {@link EmptyTextReader}.
+     */
+    private static <S, V> ValueReader<S, V> createValueReader(BeanProperty<S, V> beanProperty, String path,
+                    Class<?> targetType) {
+        if ("text".equals(path) && targetType != null && !String.class.equals(targetType)
+                        && !targetType.isPrimitive()) {
+            return new EmptyTextReader<S, V>(beanProperty);
+        }
+        return new ValueReader<S, V>(beanProperty);
     }
 
     @Override
@@ -109,30 +119,24 @@ class SwingProperty<S, V> extends Property<S, V> {
      */
     @Override
     public V getValue(S source) {
-        V value = this.beanProperty.getValue(source);
-        if ("text".equals(this.path) && source instanceof JComponent && !String.class.equals(this.targetType)
-                        && this.targetType != null && !this.targetType.isPrimitive() && "".equals(value)) {
-            return null;
-        }
-        return value;
+        return this.valueReader.getValue(source);
     }
 
     /**
-     * Overrides the default implementation to set the value in the EDT.
+     * Overrides the default implementation to set the value in the EDT. Values set outside of the EDT are coalesced by
+     * the {@link SwingDispatcher}, only the latest value for the source is set.
      */
     @Override
     public void setValue(final S source, final V value) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                SwingProperty.this.beanProperty.setValue(source, value);
-            }
-        };
-        if (SwingUtilities.isEventDispatchThread()) {
-            r.run();
-        } else {
-            SwingUtilities.invokeLater(r);
-        }
+        SwingDispatcher.getInstance().dispatch(this, source, value);
+    }
+
+    /**
+     * Set the value of the underlying {@link BeanProperty}, must be invoked in the EDT.
+     */
+    @Override
+    public void setValueInEdt(S source, V value) {
+        this.beanProperty.setValue(source, value);
     }
 
     @Override
@@ -160,4 +164,38 @@ class SwingProperty<S, V> extends Property<S, V> {
         return this.beanProperty.equals(obj);
     }
 
+    /**
+     * Reads the value of the {@link BeanProperty} as is.
+     */
+    private static class ValueReader<S, V> {
+        protected final BeanProperty<S, V> beanProperty;
+
+        ValueReader(BeanProperty<S, V> beanProperty) {
+            this.beanProperty = beanProperty;
+        }
+
+        V getValue(S source) {
+            return this.beanProperty.getValue(source);
+        }
+    }
+
+    /**
+     * Reads the value of the {@link BeanProperty} returning {@code null} when the value of the "text" property of a
+     * {@link JComponent} is an empty string.
+     */
+    private static final class EmptyTextReader<S, V> extends ValueReader<S, V> {
+        EmptyTextReader(BeanProperty<S, V> beanProperty) {
+            super(beanProperty);
+        }
+
+        @Override
+        V getValue(S source) {
+            V value = this.beanProperty.getValue(source);
+            if (source instanceof JComponent && "".equals(value)) {
+                return null;
+            }
+            return value;
+        }
+    }
+
 }
@@ -0,0 +1,585 @@
+package com.swing.binding.bbb;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import org.jdesktop.beansbinding.Binding;
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+
+/**
+ * A live view of the selected elements of a {@link JTable}, in the order of the rows of the view. The view holds the
+ * indexes of the selected rows only, an element is resolved from the elements of the table binding when it is read.
+ * <p>
+ * Changes of the selection are notified as {@link ObservableListListener} events for the elements selected and
+ * deselected, computed from the range of rows changed by each {@link ListSelectionEvent} (the events while the
+ * selection is adjusting are combined and notified when it stops adjusting). The events are notified in ascending
+ * order of position after the view is updated, as per {@link BatchObservableList}.
+ * </p>
+ * <p>
+ * The elements of the selected rows are kept as they were selected, so the elements removed by a change of the table
+ * model are notified rather than the elements at their rows after the change. Rows inserted and deleted shift the
+ * selection (the table adjusts the selection model), the view is then compared with the selection by element so only
+ * the elements deselected by a delete are notified. The selected rows of an update of the model are notified as
+ * replaced.
+ * </p>
+ * <p>
+ * Adding an element to the view selects its row, removing an element deselects it and clearing the view clears the
+ * selection. The row of an element is looked up in the {@link ElementIndex} of the elements of the table so selecting N
+ * elements costs O(N) rather than a scan of the rows for each element. With a
+ * {@link BitSetSelectionModel} the selection is replaced as a single change and the selected rows are read without
+ * testing each row of the range. The view must only be accessed in the EDT.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements
+ */
+final class TableSelectionList<E> extends AbstractList<E> implements ObservableList<E>, RandomAccess {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final JTable table;
+    private final Binding<?, List<E>, ?, ?> tableBinding;
+    private final List<ObservableListListener> listeners;
+    private final Listener listener;
+    private ListSelectionModel selectionModel;
+    private TableModel model;
+    private List<E> elements;
+    private int[] rows;
+    private Object[] values;
+    private int size;
+    private int modelRowCount;
+    private boolean structural;
+    private int adjustingFirst;
+    private int adjustingLast;
+
+    /**
+     * @param table the table
+     * @param tableBinding the binding of the table, the source value is the list of elements of the table model
+     */
+    TableSelectionList(JTable table, Binding<?, List<E>, ?, ?> tableBinding) {
+        super();
+        this.table = table;
+        this.tableBinding = tableBinding;
+        this.listeners = new CopyOnWriteArrayList<ObservableListListener>();
+        this.listener = new Listener();
+        this.rows = NO_ROWS;
+        this.values = new Object[0];
+        this.adjustingFirst = -1;
+        this.adjustingLast = -1;
+        reset();
+    }
+
+    /**
+     * Listen to the selection and the table.
+     */
+    void attach() {
+        this.table.addPropertyChangeListener("selectionModel", this.listener);
+        this.table.addPropertyChangeListener("model", this.listener);
+        listen(this.table.getSelectionModel(), this.table.getModel());
+        reset();
+    }
+
+    void detach() {
+        this.table.removePropertyChangeListener("selectionModel", this.listener);
+        this.table.removePropertyChangeListener("model", this.listener);
+        listen(null, null);
+    }
+
+    private void listen(ListSelectionModel newSelectionModel, TableModel newModel) {
+        if (this.selectionModel != null) {
+            this.selectionModel.removeListSelectionListener(this.listener);
+        }
+        if (this.model != null) {
+            this.model.removeTableModelListener(this.listener);
+        }
+        this.selectionModel = newSelectionModel;
+        this.model = newModel;
+        this.elements = null;
+        if (newSelectionModel != null) {
+            newSelectionModel.addListSelectionListener(this.listener);
+        }
+        if (newModel != null) {
+            newModel.addTableModelListener(this.listener);
+        }
+    }
+
+    /**
+     * Read the whole selection, without notifying.
+     */
+    private void reset() {
+        ListSelectionModel sm = this.table.getSelectionModel();
+        int[] selected = selected(sm, sm.getMinSelectionIndex(), sm.getMaxSelectionIndex());
+        this.rows = selected;
+        this.values = values(selected);
+        this.size = selected.length;
+        this.modelRowCount = this.table.getModel().getRowCount();
+        this.structural = false;
+    }
+
+    /**
+     * Select the rows of the elements (only), as a single change of the selection.
+     *
+     * @param c the elements to select, {@code null} clears the selection
+     */
+    void select(Collection<?> c) {
+        BitSet toSelect = new BitSet();
+        if (c != null) {
+            for (Object o : c) {
+                int row = viewRow(modelIndex(o));
+                if (row >= 0) {
+                    toSelect.set(row);
+                }
+            }
+        }
+        ListSelectionModel sm = this.table.getSelectionModel();
+        if (sm instanceof BitSetSelectionModel) {
+            ((BitSetSelectionModel) sm).setSelection(toSelect);
+            return;
+        }
+        sm.setValueIsAdjusting(true);
+        try {
+            sm.clearSelection();
+            int i = toSelect.nextSetBit(0);
+            while (i >= 0) {
+                int end = toSelect.nextClearBit(i);
+                sm.addSelectionInterval(i, end - 1);
+                i = toSelect.nextSetBit(end);
+            }
+        } finally {
+            sm.setValueIsAdjusting(false);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("index " + index + " size " + this.size);
+        }
+        return element(this.rows[index]);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Select the row of the element.
+     *
+     * @return {@code true} if the row was not selected
+     */
+    @Override
+    public boolean add(E e) {
+        int row = viewRow(modelIndex(e));
+        if (row < 0 || this.table.getSelectionModel().isSelectedIndex(row)) {
+            return false;
+        }
+        this.table.getSelectionModel().addSelectionInterval(row, row);
+        return true;
+    }
+
+    /**
+     * Deselect the row of the element at the index.
+     */
+    @Override
+    public E remove(int index) {
+        E old = get(index);
+        int row = this.rows[index];
+        this.table.getSelectionModel().removeSelectionInterval(row, row);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        this.table.getSelectionModel().clearSelection();
+    }
+
+    @Override
+    public void addObservableListListener(ObservableListListener l) {
+        this.listeners.add(l);
+    }
+
+    @Override
+    public void removeObservableListListener(ObservableListListener l) {
+        this.listeners.remove(l);
+    }
+
+    @Override
+    public boolean supportsElementPropertyChanged() {
+        return false;
+    }
+
+    /**
+     * The elements of the table binding, resolved when first required after the table model changes.
+     */
+    private List<E> elements() {
+        if (this.elements == null) {
+            List<E> l = sourceList(this.tableBinding);
+            this.elements = l == null ? Collections.<E> emptyList() : l;
+        }
+        return this.elements;
+    }
+
+    /**
+     * The index of the element in the elements of the table binding (the first index, by identity), -1 if it is not
+     * an element.
+     */
+    private int modelIndex(Object e) {
+        return ElementIndex.of(this.table, elements()).indexOf(e);
+    }
+
+    /**
+     * Get the elements of a table binding (the source value), {@code null} if it is not readable.
+     */
+    static <E, SS> List<E> sourceList(Binding<SS, List<E>, ?, ?> b) {
+        Property<SS, List<E>> p = b.getSourceProperty();
+        SS source = b.getSourceObject();
+        return p.isReadable(source) ? p.getValue(source) : null;
+    }
+
+    private E element(int row) {
+        if (row >= this.table.getRowCount()) {
+            return null;
+        }
+        int index = this.table.convertRowIndexToModel(row);
+        List<E> l = elements();
+        return index >= 0 && index < l.size() ? l.get(index) : null;
+    }
+
+    private int viewRow(int modelIndex) {
+        if (modelIndex < 0 || modelIndex >= this.table.getModel().getRowCount()) {
+            return -1;
+        }
+        return this.table.convertRowIndexToView(modelIndex);
+    }
+
+    private Object[] values(int[] r) {
+        Object[] v = new Object[r.length];
+        for (int i = 0; i < r.length; i++) {
+            v[i] = element(r[i]);
+        }
+        return v;
+    }
+
+    /**
+     * Get the selected rows in the range.
+     */
+    private static int[] selected(ListSelectionModel sm, int first, int last) {
+        first = Math.max(first, sm.getMinSelectionIndex());
+        last = Math.min(last, sm.getMaxSelectionIndex());
+        if (first < 0 || last < first) {
+            return NO_ROWS;
+        }
+        int n = 0;
+        if (sm instanceof BitSetSelectionModel) {
+            BitSetSelectionModel bsm = (BitSetSelectionModel) sm;
+            int[] selected = new int[Math.min(last - first + 1, bsm.getSelectedCount())];
+            for (int i = bsm.nextSelectedIndex(first); i >= 0 && i <= last; i = bsm.nextSelectedIndex(i + 1)) {
+                selected[n++] = i;
+            }
+            return n == selected.length ? selected : Arrays.copyOf(selected, n);
+        }
+        int[] selected = new int[last - first + 1];
+        for (int i = first; i <= last; i++) {
+            if (sm.isSelectedIndex(i)) {
+                selected[n++] = i;
+            }
+        }
+        return n == selected.length ? selected : Arrays.copyOf(selected, n);
+    }
+
+    /**
+     * The position of the first selected row that is not less than the row.
+     */
+    private int position(int row) {
+        int p = Arrays.binarySearch(this.rows, 0, this.size, row);
+        return p < 0 ? -(p + 1) : p;
+    }
+
+    /**
+     * Update the selected rows in the range and notify the elements selected and deselected.
+     */
+    private void update(int first, int last) {
+        if (this.table.getModel().getRowCount() != this.modelRowCount) {
+            // The table adjusted the selection for a change of the model that is not yet notified to this view, the
+            // view is compared with the selection when it is
+            this.structural = true;
+            return;
+        }
+        if (this.structural) {
+            resync();
+            return;
+        }
+        int p0 = position(first);
+        int p1 = last == Integer.MAX_VALUE ? this.size : position(last + 1);
+        int[] oldRows = Arrays.copyOfRange(this.rows, p0, p1);
+        int[] newRows = selected(this.table.getSelectionModel(), first, last);
+        if (Arrays.equals(oldRows, newRows)) {
+            return;
+        }
+        // Walk the old and new rows of the range, each change is at the position after the previous changes
+        Object[] newValues = new Object[newRows.length];
+        Changes changes = new Changes(p0);
+        int o = 0;
+        int n = 0;
+        while (o < oldRows.length || n < newRows.length) {
+            int oldRow = o < oldRows.length ? oldRows[o] : Integer.MAX_VALUE;
+            int newRow = n < newRows.length ? newRows[n] : Integer.MAX_VALUE;
+            if (oldRow == newRow) {
+                newValues[n] = this.values[p0 + o];
+                changes.kept();
+                o++;
+                n++;
+            } else if (oldRow < newRow) {
+                changes.removed(this.values[p0 + o]);
+                o++;
+            } else {
+                newValues[n] = element(newRow);
+                changes.added();
+                n++;
+            }
+        }
+        int[] r = new int[this.size - oldRows.length + newRows.length];
+        System.arraycopy(this.rows, 0, r, 0, p0);
+        System.arraycopy(newRows, 0, r, p0, newRows.length);
+        System.arraycopy(this.rows, p1, r, p0 + newRows.length, this.size - p1);
+        Object[] v = new Object[r.length];
+        System.arraycopy(this.values, 0, v, 0, p0);
+        System.arraycopy(newValues, 0, v, p0, newValues.length);
+        System.arraycopy(this.values, p1, v, p0 + newValues.length, this.size - p1);
+        this.rows = r;
+        this.values = v;
+        this.size = r.length;
+        changes.fire();
+    }
+
+    /**
+     * Read the whole selection after rows were inserted or deleted and notify the elements selected and deselected,
+     * compared by identity. The elements that remain selected keep their order.
+     */
+    private void resync() {
+        this.structural = false;
+        ListSelectionModel sm = this.table.getSelectionModel();
+        int[] newRows = selected(sm, sm.getMinSelectionIndex(), sm.getMaxSelectionIndex());
+        Object[] oldValues = this.values;
+        Object[] newValues = values(newRows);
+        Map<Object, int[]> oldCounts = counts(oldValues, this.size);
+        Map<Object, int[]> newCounts = counts(newValues, newValues.length);
+        Changes changes = new Changes(0);
+        int o = 0;
+        int n = 0;
+        while (o < this.size || n < newValues.length) {
+            if (o < this.size && n < newValues.length && oldValues[o] == newValues[n]) {
+                oldCounts.get(oldValues[o])[0]--;
+                newCounts.get(newValues[n])[0]--;
+                changes.kept();
+                o++;
+                n++;
+            } else if (o < this.size && (n == newValues.length || newCounts.get(oldValues[o]) == null
+                            || newCounts.get(oldValues[o])[0] == 0)) {
+                oldCounts.get(oldValues[o])[0]--;
+                changes.removed(oldValues[o]);
+                o++;
+            } else if (n < newValues.length && (o == this.size || oldCounts.get(newValues[n]) == null
+                            || oldCounts.get(newValues[n])[0] == 0)) {
+                newCounts.get(newValues[n])[0]--;
+                changes.added();
+                n++;
+            } else {
+                // Both remain selected but in another order, the old is removed and added where it is now
+                oldCounts.get(oldValues[o])[0]--;
+                changes.removed(oldValues[o]);
+                o++;
+            }
+        }
+        this.rows = newRows;
+        this.values = newValues;
+        this.size = newRows.length;
+        changes.fire();
+    }
+
+    private static Map<Object, int[]> counts(Object[] v, int length) {
+        Map<Object, int[]> counts = new IdentityHashMap<Object, int[]>();
+        for (int i = 0; i < length; i++) {
+            int[] c = counts.get(v[i]);
+            if (c == null) {
+                counts.put(v[i], new int[] { 1 });
+            } else {
+                c[0]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Notify the selected elements of rows of the model that were updated as replaced.
+     */
+    private void updated(int firstRow, int lastRow) {
+        int p0 = 0;
+        int p1 = this.size;
+        if (this.table.getRowSorter() == null) {
+            p0 = position(firstRow);
+            p1 = lastRow == Integer.MAX_VALUE ? this.size : position(lastRow + 1);
+        }
+        for (int p = p0; p < p1; p++) {
+            int row = this.rows[p];
+            int index = row < this.table.getRowCount() ? this.table.convertRowIndexToModel(row) : -1;
+            if (index < firstRow || index > lastRow) {
+                continue;
+            }
+            Object old = this.values[p];
+            this.values[p] = element(row);
+            for (ObservableListListener l : this.listeners) {
+                l.listElementReplaced(this, p, old);
+            }
+        }
+    }
+
+    /**
+     * The runs of elements selected and deselected by a change, each at the position after the previous changes.
+     */
+    private final class Changes {
+        private final List<Change> changes;
+        private Change change;
+        private int position;
+
+        Changes(int position) {
+            this.changes = new ArrayList<Change>();
+            this.position = position;
+        }
+
+        void kept() {
+            this.position++;
+            this.change = null;
+        }
+
+        void removed(Object element) {
+            Change c = this.change;
+            if (c == null || c.added || c.position != this.position) {
+                c = new Change(false, this.position);
+                this.changes.add(c);
+                this.change = c;
+            }
+            c.removed.add(element);
+        }
+
+        void added() {
+            Change c = this.change;
+            if (c == null || !c.added || c.position + c.length != this.position) {
+                c = new Change(true, this.position);
+                this.changes.add(c);
+                this.change = c;
+            }
+            c.length++;
+            this.position++;
+        }
+
+        void fire() {
+            TableSelectionList<E> list = TableSelectionList.this;
+            for (Change c : this.changes) {
+                for (ObservableListListener l : list.listeners) {
+                    if (c.added) {
+                        l.listElementsAdded(list, c.position, c.length);
+                    } else {
+                        l.listElementsRemoved(list, c.position, c.removed);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A run of elements selected or deselected.
+     */
+    private static final class Change {
+        private final boolean added;
+        private final int position;
+        private final List<Object> removed;
+        private int length;
+
+        Change(boolean added, int position) {
+            this.added = added;
+            this.position = position;
+            this.removed = added ? null : new ArrayList<Object>();
+        }
+    }
+
+    /**
+     * Listens to the selection, the table model and the table.
+     */
+    private final class Listener implements ListSelectionListener, TableModelListener, PropertyChangeListener {
+
+        @Override
+        public void valueChanged(ListSelectionEvent e) {
+            TableSelectionList<E> l = TableSelectionList.this;
+            int first = Math.min(e.getFirstIndex(), e.getLastIndex());
+            int last = Math.max(e.getFirstIndex(), e.getLastIndex());
+            l.adjustingFirst = l.adjustingFirst < 0 ? first : Math.min(l.adjustingFirst, first);
+            l.adjustingLast = Math.max(l.adjustingLast, last);
+            if (e.getValueIsAdjusting()) {
+                return;
+            }
+            first = l.adjustingFirst;
+            last = l.adjustingLast;
+            l.adjustingFirst = -1;
+            l.adjustingLast = -1;
+            update(first, last);
+        }
+
+        @Override
+        public void tableChanged(TableModelEvent e) {
+            TableSelectionList<E> l = TableSelectionList.this;
+            l.elements = null;
+            if (e.getType() == TableModelEvent.UPDATE && e.getFirstRow() != TableModelEvent.HEADER_ROW
+                            && e.getLastRow() != Integer.MAX_VALUE) {
+                if (l.structural) {
+                    // The rows inserted or deleted before are in the selection
+                    resync();
+                }
+                updated(e.getFirstRow(), e.getLastRow());
+                return;
+            }
+            // Rows inserted or deleted, or all the rows changed. The table adjusts the selection model when it is
+            // notified, if it was notified first the view is compared with the selection now otherwise on the
+            // selection event
+            l.modelRowCount = l.table.getModel().getRowCount();
+            if (l.structural) {
+                resync();
+            } else {
+                l.structural = true;
+            }
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            TableSelectionList<E> l = TableSelectionList.this;
+            listen(l.table.getSelectionModel(), l.table.getModel());
+            l.modelRowCount = l.table.getModel().getRowCount();
+            resync();
+        }
+    }
+
+}
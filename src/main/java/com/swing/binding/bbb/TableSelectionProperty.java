@@ -0,0 +1,160 @@
+package com.swing.binding.bbb;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+
+import org.jdesktop.beansbinding.Binding;
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+
+/**
+ * The selected elements of a {@link JTable}. While listened to the value for a table is a {@link TableSelectionList},
+ * a live view of the selection that does not change when the selection changes (the view notifies the changes).
+ * <p>
+ * Writing a list selects the rows of its elements. The value is the view, so after a list other than the view is
+ * written the property notifies a change of value in a later pass of the EDT, a binding then writes the view to the
+ * bean.
+ * </p>
+ * <p>
+ * The selection is written to the selection model of the table, as a single change if it is a
+ * {@link BitSetSelectionModel}. Optionally a {@link BitSetSelectionModel} (with the selection of the current model) is
+ * installed on the table while listening, if it has another selection model. The listeners of the replaced model are
+ * not notified while it is replaced, it is restored with the selection when listening stops.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements
+ */
+class TableSelectionProperty<E> extends PropertyHelper<JTable, List<E>> {
+
+    private final Binding<?, List<E>, ?, ?> tableBinding;
+    private final boolean bitSetSelectionModel;
+    private final Map<JTable, TableSelectionList<E>> views;
+    private final Map<JTable, ListSelectionModel> replaced;
+
+    /**
+     * @param tableBinding the binding of the table, the source value is the list of elements of the table model
+     * @param bitSetSelectionModel {@code true} to install a {@link BitSetSelectionModel} on the table while listening
+     */
+    TableSelectionProperty(Binding<?, List<E>, ?, ?> tableBinding, boolean bitSetSelectionModel) {
+        super();
+        if (tableBinding == null) {
+            throw new IllegalArgumentException("tableBinding can't be null");
+        }
+        this.tableBinding = tableBinding;
+        this.bitSetSelectionModel = bitSetSelectionModel;
+        this.views = new IdentityHashMap<JTable, TableSelectionList<E>>();
+        this.replaced = new IdentityHashMap<JTable, ListSelectionModel>();
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Class<? extends List<E>> getWriteType(JTable source) {
+        return (Class) List.class;
+    }
+
+    @Override
+    public List<E> getValue(JTable source) {
+        TableSelectionList<E> view = this.views.get(source);
+        return view == null ? new TableSelectionList<E>(source, this.tableBinding) : view;
+    }
+
+    @Override
+    public void setValue(final JTable source, final List<E> value) {
+        final TableSelectionList<E> view = this.views.get(source);
+        if (value == view) {
+            return;
+        }
+        (view == null ? new TableSelectionList<E>(source, this.tableBinding) : view).select(value);
+        if (view != null) {
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    if (TableSelectionProperty.this.views.get(source) == view) {
+                        firePropertyStateChange(new PropertyStateEvent(TableSelectionProperty.this, source, true,
+                                        value, view, false, true));
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean isReadable(JTable source) {
+        return true;
+    }
+
+    @Override
+    public boolean isWriteable(JTable source) {
+        return true;
+    }
+
+    @Override
+    protected void listeningStarted(JTable source) {
+        ListSelectionModel sm = source.getSelectionModel();
+        if (this.bitSetSelectionModel && !(sm instanceof BitSetSelectionModel)) {
+            this.replaced.put(source, sm);
+            source.setSelectionModel(new BitSetSelectionModel(sm));
+        }
+        TableSelectionList<E> view = new TableSelectionList<E>(source, this.tableBinding);
+        view.attach();
+        this.views.put(source, view);
+    }
+
+    @Override
+    protected void listeningStopped(JTable source) {
+        TableSelectionList<E> view = this.views.remove(source);
+        if (view != null) {
+            view.detach();
+        }
+        ListSelectionModel original = this.replaced.remove(source);
+        ListSelectionModel sm = source.getSelectionModel();
+        // Restore the replaced model unless the application has replaced the model since
+        if (original != null && sm instanceof BitSetSelectionModel) {
+            restore((BitSetSelectionModel) sm, original);
+            source.setSelectionModel(original);
+        }
+    }
+
+    /**
+     * Copy the selection, anchor and lead of the installed model to the replaced model, as a single change.
+     */
+    private static void restore(BitSetSelectionModel from, ListSelectionModel to) {
+        to.setValueIsAdjusting(true);
+        try {
+            to.clearSelection();
+            int i = from.nextSelectedIndex(0);
+            while (i >= 0) {
+                int last = i;
+                int next = from.nextSelectedIndex(last + 1);
+                while (next == last + 1) {
+                    last = next;
+                    next = from.nextSelectedIndex(last + 1);
+                }
+                to.addSelectionInterval(i, last);
+                i = next;
+            }
+            if (from.getAnchorSelectionIndex() >= 0) {
+                to.setAnchorSelectionIndex(from.getAnchorSelectionIndex());
+            }
+            if (from.getLeadSelectionIndex() >= 0) {
+                to.setLeadSelectionIndex(from.getLeadSelectionIndex());
+            }
+        } finally {
+            to.setValueIsAdjusting(false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName();
+    }
+
+}
@@ -2,11 +2,13 @@ package com.swing.binding.bbb;
 
 import java.text.DateFormat;
 import java.util.Date;
+import java.util.Locale;
 
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.text.JTextComponent;
 
+import org.jdesktop.beansbinding.AutoBinding;
 import org.jdesktop.beansbinding.AutoBinding.UpdateStrategy;
 import org.jdesktop.beansbinding.BeanProperty;
 import org.jdesktop.beansbinding.Binding;
@@ -23,6 +25,32 @@ import org.jdesktop.beansbinding.Property;
  */
 public class TextBinding {
 
+    /**
+     * When the text of a {@link JTextComponent} is written back to the bean. Deferring the write avoids the conversion,
+     * the bean setter and the changes that cascade from it (validation, dependent bindings) on every keystroke.
+     */
+    public enum WriteBack {
+        /** On every change of the text. */
+        IMMEDIATE,
+        /**
+         * When the text has not changed for a delay, the component loses focus or the binding is unbound. The delays
+         * of all the components are timed by a single shared timer.
+         */
+        DEBOUNCED,
+        /** When the component loses focus, or the binding is unbound. */
+        FOCUS_LOST,
+        /**
+         * When the user commits the text, i.e. presses Enter in a {@link javax.swing.JTextField} (an action event), or
+         * the binding is saved ({@link Binding#save()}).
+         */
+        COMMIT
+    }
+
+    /**
+     * The delay of {@link WriteBack#DEBOUNCED} in milliseconds, if not specified.
+     */
+    public static final int DEFAULT_DELAY = 300;
+
     /**
      * Create a binding of the bean property to the "text" property of a {@link JTextComponent}. Refer to
      * {@link #createBinding(Object, BeanProperty, JComponent)} for more information about the binding.
@@ -36,6 +64,95 @@ public class TextBinding {
         return createBinding(bean, bP, component, null);
     }
 
+    /**
+     * As {@link #text(Object, Property, JTextComponent)} with a policy for writing the text back to the bean.
+     * {@link WriteBack#DEBOUNCED} waits {@link #DEFAULT_DELAY} milliseconds.
+     *
+     * @param bean bean to bind
+     * @param bP bean property to bind
+     * @param component {@link JTextComponent} to bind
+     * @param writeBack when the text is written back to the bean
+     * @return binding instance
+     */
+    public static <B, V> Binding<B, V, JComponent, String> text(B bean, Property<B, V> bP, JTextComponent component,
+                    WriteBack writeBack) {
+        return text(bean, bP, component, writeBack, DEFAULT_DELAY);
+    }
+
+    /**
+     * As {@link #text(Object, Property, JTextComponent)} with a policy for writing the text back to the bean.
+     *
+     * @param bean bean to bind
+     * @param bP bean property to bind
+     * @param component {@link JTextComponent} to bind
+     * @param writeBack when the text is written back to the bean
+     * @param delay the delay of {@link WriteBack#DEBOUNCED} in milliseconds
+     * @return binding instance
+     */
+    public static <B, V> Binding<B, V, JComponent, String> text(B bean, Property<B, V> bP, JTextComponent component,
+                    WriteBack writeBack, int delay) {
+        return createBinding(bean, bP, component, null, writeBack, delay);
+    }
+
+    /**
+     * Create a binding of a numeric bean property ({@link Integer}, {@link Long}, {@link Double} or their primitive
+     * types) to the number in the text of a {@link JTextComponent}, for the default locale without grouping. Refer to
+     * {@link #number(Object, Property, JTextComponent, Locale, boolean)} for more information about the binding.
+     *
+     * @param bean bean to bind
+     * @param bP bean property to bind
+     * @param component {@link JTextComponent} to bind
+     * @return binding instance
+     */
+    public static <B, N extends Number> Binding<B, N, JComponent, N> number(B bean, Property<B, N> bP,
+                    JTextComponent component) {
+        return number(bean, bP, component, Locale.getDefault(), false);
+    }
+
+    /**
+     * Create a binding of a numeric bean property ({@link Integer}, {@link Long}, {@link Double} or their primitive
+     * types) to the number in the text of a {@link JTextComponent}. Unlike {@link #text(Object, Property,
+     * JTextComponent)} the number is parsed from the document of the component without converting it to a
+     * {@link String}, the value is parsed once per change of the document, small integers are not boxed again and a
+     * value equal to the number in the text is not formatted or written. This suits many fields updated frequently,
+     * e.g. a grid of live values.
+     * <p>
+     * The number is parsed and formatted with the symbols (digits, minus sign, decimal and grouping separators) of the
+     * locale. Text that is not a number is not written to the bean, empty text is {@code null}. A {@link Double} is
+     * formatted with the shortest digits that parse to the same value ({@link Double#toString(double)}), in plain
+     * notation below {@code 1e21}, e.g. {@code 12.345.678,0} for {@code 1.2345678E7} grouped in German, and with an
+     * exponent otherwise (e.g. {@code 1,0E21} or {@code 1,0E-4}).
+     * </p>
+     *
+     * @param bean bean to bind
+     * @param bP bean property to bind
+     * @param component {@link JTextComponent} to bind
+     * @param locale the locale of the symbols
+     * @param grouping {@code true} to group the digits of the integer part
+     * @return binding instance
+     * @throws IllegalArgumentException if the type of the bean property is not supported
+     */
+    public static <B, N extends Number> Binding<B, N, JComponent, N> number(B bean, Property<B, N> bP,
+                    JTextComponent component, Locale locale, boolean grouping) {
+        Class<? extends N> writeType = bP.getWriteType(bean);
+        Property<JComponent, N> cP = new NumberTextProperty<N>(writeType, NumberText.getInstance(locale), grouping);
+        return Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, bean, bP, (JComponent) component, cP);
+    }
+
+    /**
+     * Create a binding of a {@link TextBuffer} bean property to the document of a {@link JTextComponent}. The edits of
+     * the document are applied to the buffer and the changes of the buffer to the document as ranges, rather than
+     * replacing the whole text. Refer to {@link TextBufferBinding} for more information about the binding.
+     *
+     * @param bean bean to bind
+     * @param bP bean property to bind
+     * @param component {@link JTextComponent} to bind
+     * @return binding instance
+     */
+    public static <B> TextBufferBinding<B> buffer(B bean, Property<B, TextBuffer> bP, JTextComponent component) {
+        return new TextBufferBinding<B>(bean, bP, component);
+    }
+
     /**
      * Create a binding of the bean property to the "text" property of a {@link JLabel}. Refer to
      * {@link #createBinding(Object, String, JComponent)} for more information about the binding.
@@ -95,30 +212,51 @@ public class TextBinding {
      */
     private static <B, V> Binding<B, V, JComponent, String> createBinding(B bean, Property<B, V> bP,
                     JComponent component, DateFormat dateFormat) {
-        Property<JComponent, String> cP = SwingProperty.create("text", bP.getWriteType(bean));
+        return createBinding(bean, bP, component, dateFormat, WriteBack.IMMEDIATE, 0);
+    }
+
+    private static <B, V> Binding<B, V, JComponent, String> createBinding(B bean, Property<B, V> bP,
+                    JComponent component, DateFormat dateFormat, WriteBack writeBack, int delay) {
+        Class<? extends V> writeType = bP.getWriteType(bean);
+        Property<JComponent, String> cP = SwingProperty.create("text", writeType);
         UpdateStrategy us = UpdateStrategy.READ_WRITE;
         if (component instanceof JLabel) {
             us = UpdateStrategy.READ;
         }
-        Binding<B, V, JComponent, String> binding = Bindings.createAutoBinding(us, bean, bP, component, cP);
-        setConverter(bean, binding, dateFormat);
+        Binding<B, V, JComponent, String> binding;
+        if (writeBack != null && writeBack != WriteBack.IMMEDIATE && !(component instanceof JLabel)) {
+            final WriteBackProperty<String> wP = new WriteBackProperty<String>(cP, writeBack, delay);
+            binding = new AutoBinding<B, V, JComponent, String>(us, bean, bP, component, wP, null) {
+                @Override
+                protected void unbindImpl() {
+                    // Write the pending change while still bound
+                    wP.flush(getTargetObject());
+                    super.unbindImpl();
+                }
+            };
+        } else {
+            binding = Bindings.createAutoBinding(us, bean, bP, component, cP);
+        }
+        setConverter(binding, writeType, dateFormat);
         return binding;
     }
 
     /**
-     * Set a converter (if required). Custom converters are require for {@link Date} but for most other types the
-     * default conversions provided by BetterBeansBinding are sufficient. The default conversions can be found in
-     * {@link Converter}.
+     * Set a converter (if required). The converter is the converter of the {@link ConverterRegistry#getDefault()
+     * default registry} for the type of the bean property, or a converter of the date format for {@link Date}. For
+     * other types the default conversions provided by BetterBeansBinding apply, they can be found in {@link Converter}.
      */
-    private static <B, V> void setConverter(B bean, Binding<B, V, JComponent, String> binding, DateFormat dateFormat) {
-        Class<?> writeType = binding.getSourceProperty().getWriteType(bean);
-        if (Date.class.isAssignableFrom(writeType)) {
-            @SuppressWarnings("unchecked")
-            Binding<B, Date, JComponent, String> dB = (Binding<B, Date, JComponent, String>) binding;
-            if (dateFormat == null) {
-                dateFormat = DateFormat.getDateInstance();
-            }
-            dB.setConverter(Converter2.newDateString(dateFormat));
+    @SuppressWarnings("unchecked")
+    private static <B, V> void setConverter(Binding<B, V, JComponent, String> binding, Class<? extends V> writeType,
+                    DateFormat dateFormat) {
+        Converter<V, String> converter;
+        if (dateFormat != null && Date.class.isAssignableFrom(writeType)) {
+            converter = (Converter<V, String>) (Converter<?, String>) Converter2.newDateString(dateFormat);
+        } else {
+            converter = ConverterRegistry.getDefault().get(writeType, String.class);
+        }
+        if (converter != null) {
+            binding.setConverter(converter);
         }
     }
 
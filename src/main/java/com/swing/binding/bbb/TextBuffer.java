@@ -0,0 +1,242 @@
+package com.swing.binding.bbb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A text model for a bean, bound to the document of a text component by {@link TextBufferBinding}. Changes are
+ * notified as ranges inserted and removed, so a binding applies them as ranged operations rather than replacing the
+ * whole text. The text is held in a gap buffer, an insert or remove at the position of the previous change (e.g.
+ * appending to a log, or typing) moves no text.
+ * <p>
+ * The buffer is thread-safe, listeners are notified in the thread that changes the buffer while it is locked, i.e. in
+ * the order of the changes.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public final class TextBuffer implements CharSequence {
+
+    /**
+     * Listens to the changes of a {@link TextBuffer}.
+     */
+    public interface Listener {
+        /**
+         * Text was inserted.
+         *
+         * @param buffer the buffer
+         * @param offset the offset of the text inserted
+         * @param length the length of the text inserted
+         */
+        void inserted(TextBuffer buffer, int offset, int length);
+
+        /**
+         * Text was removed.
+         *
+         * @param buffer the buffer
+         * @param offset the offset of the text removed
+         * @param length the length of the text removed
+         */
+        void removed(TextBuffer buffer, int offset, int length);
+    }
+
+    private static final int MIN_GAP = 64;
+
+    private final List<Listener> listeners;
+    private char[] chars;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Create an empty buffer.
+     */
+    public TextBuffer() {
+        this("");
+    }
+
+    /**
+     * Create a buffer with an initial text.
+     *
+     * @param text the text
+     */
+    public TextBuffer(CharSequence text) {
+        super();
+        this.listeners = new ArrayList<Listener>(2);
+        int length = text.length();
+        this.chars = new char[length + MIN_GAP];
+        for (int i = 0; i < length; i++) {
+            this.chars[i] = text.charAt(i);
+        }
+        this.gapStart = length;
+        this.gapEnd = this.chars.length;
+    }
+
+    /**
+     * Add a listener.
+     *
+     * @param listener the listener
+     */
+    public synchronized void addListener(Listener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener the listener
+     */
+    public synchronized void removeListener(Listener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized int length() {
+        return this.chars.length - (this.gapEnd - this.gapStart);
+    }
+
+    @Override
+    public synchronized char charAt(int index) {
+        checkRange(index, 1);
+        return this.chars[index < this.gapStart ? index : index + this.gapEnd - this.gapStart];
+    }
+
+    /**
+     * Get the text of a range.
+     *
+     * @return the text of the range, a {@link String}
+     */
+    @Override
+    public synchronized CharSequence subSequence(int start, int end) {
+        checkRange(start, end - start);
+        char[] dst = new char[end - start];
+        getChars(start, end, dst, 0);
+        return new String(dst);
+    }
+
+    /**
+     * Copy the characters of a range.
+     *
+     * @param start the start of the range
+     * @param end the end of the range (exclusive)
+     * @param dst the destination
+     * @param dstBegin the offset in the destination
+     */
+    public synchronized void getChars(int start, int end, char[] dst, int dstBegin) {
+        checkRange(start, end - start);
+        if (start < this.gapStart) {
+            int n = Math.min(end, this.gapStart) - start;
+            System.arraycopy(this.chars, start, dst, dstBegin, n);
+            dstBegin += n;
+            start += n;
+        }
+        if (start < end) {
+            int gap = this.gapEnd - this.gapStart;
+            System.arraycopy(this.chars, start + gap, dst, dstBegin, end - start);
+        }
+    }
+
+    /**
+     * Insert text.
+     *
+     * @param offset the offset
+     * @param text the text
+     */
+    public synchronized void insert(int offset, CharSequence text) {
+        checkRange(offset, 0);
+        if (text == this) {
+            text = toString();
+        }
+        int length = text.length();
+        if (length == 0) {
+            return;
+        }
+        moveGap(offset, length);
+        for (int i = 0; i < length; i++) {
+            this.chars[this.gapStart++] = text.charAt(i);
+        }
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).inserted(this, offset, length);
+        }
+    }
+
+    /**
+     * Append text.
+     *
+     * @param text the text
+     */
+    public synchronized void append(CharSequence text) {
+        insert(length(), text);
+    }
+
+    /**
+     * Remove text.
+     *
+     * @param offset the offset
+     * @param length the length
+     */
+    public synchronized void remove(int offset, int length) {
+        checkRange(offset, length);
+        if (length == 0) {
+            return;
+        }
+        moveGap(offset, 0);
+        this.gapEnd += length;
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).removed(this, offset, length);
+        }
+    }
+
+    /**
+     * Replace text, i.e. remove then insert.
+     *
+     * @param offset the offset
+     * @param length the length to remove
+     * @param text the text to insert
+     */
+    public synchronized void replace(int offset, int length, CharSequence text) {
+        remove(offset, length);
+        insert(offset, text);
+    }
+
+    @Override
+    public synchronized String toString() {
+        int length = length();
+        char[] dst = new char[length];
+        getChars(0, length, dst, 0);
+        return new String(dst);
+    }
+
+    private void checkRange(int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > length()) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", buffer " + length());
+        }
+    }
+
+    /**
+     * Move the gap to an offset, growing it to at least a length.
+     */
+    private void moveGap(int offset, int length) {
+        if (this.gapEnd - this.gapStart < length) {
+            int size = length();
+            char[] grown = new char[Math.max(this.chars.length * 2, size + length + MIN_GAP)];
+            int gapEndGrown = grown.length - (this.chars.length - this.gapEnd);
+            System.arraycopy(this.chars, 0, grown, 0, this.gapStart);
+            System.arraycopy(this.chars, this.gapEnd, grown, gapEndGrown, this.chars.length - this.gapEnd);
+            this.chars = grown;
+            this.gapEnd = gapEndGrown;
+        }
+        if (offset < this.gapStart) {
+            int n = this.gapStart - offset;
+            System.arraycopy(this.chars, offset, this.chars, this.gapEnd - n, n);
+            this.gapStart -= n;
+            this.gapEnd -= n;
+        } else if (offset > this.gapStart) {
+            int n = offset - this.gapStart;
+            System.arraycopy(this.chars, this.gapEnd, this.chars, this.gapStart, n);
+            this.gapStart += n;
+            this.gapEnd += n;
+        }
+    }
+
+}
@@ -0,0 +1,341 @@
+package com.swing.binding.bbb;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import javax.swing.text.Segment;
+
+import org.apache.log4j.Logger;
+import org.jdesktop.beansbinding.AutoBinding;
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyHelper;
+
+/**
+ * Binds a {@link TextBuffer} property of a bean to the document of a {@link JTextComponent}, the buffer is the source.
+ * This is an alternative to {@link TextBinding#text(Object, Property, JTextComponent)} for large text, e.g. a log or
+ * notes. Rather than reading the whole text into a {@link String} on every edit and replacing the whole document on
+ * every change of the bean, the ranges inserted and removed are applied to the other side, so the cost of a change is
+ * proportional to the change and not to the size of the text.
+ * <p>
+ * When a buffer is bound the document is replaced with its text once (a {@code null} buffer empties it), then the
+ * edits of the document are applied to the buffer and the changes of the buffer to the document (in the EDT). Changes
+ * of the buffer made outside of the EDT are applied in the order they are made, edits of the document made meanwhile
+ * are not transformed against them, so a buffer changed by other threads is best bound to a component that is not
+ * editable (e.g. appending to a log).
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <SS> the type of source object (on which the source property resolves to {@link TextBuffer})
+ */
+public class TextBufferBinding<SS> extends AutoBinding<SS, TextBuffer, JComponent, TextBuffer> {
+
+    private static final Logger LOGGER = Logger.getLogger(TextBufferBinding.class);
+
+    /**
+     * @param sourceObject the source object
+     * @param sourceProperty a property on the source object that resolves to the {@link TextBuffer}
+     * @param component the text component
+     */
+    protected TextBufferBinding(SS sourceObject, Property<SS, TextBuffer> sourceProperty, JTextComponent component) {
+        super(UpdateStrategy.READ, sourceObject, sourceProperty, component, new BufferProperty(), null);
+        if (component == null) {
+            throw new IllegalArgumentException("component can't be null");
+        }
+    }
+
+    @Override
+    protected void unbindImpl() {
+        super.unbindImpl();
+        final BufferProperty property = (BufferProperty) getTargetProperty();
+        final JComponent component = getTargetObject();
+        invokeInEdt(new Runnable() {
+            @Override
+            public void run() {
+                property.detach(component);
+            }
+        });
+    }
+
+    private static void invokeInEdt(Runnable r) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            r.run();
+        } else {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+
+    /**
+     * The buffer bound to the document of a text component, the target property of the binding. The buffer is set in
+     * the EDT.
+     */
+    private static final class BufferProperty extends PropertyHelper<JComponent, TextBuffer> {
+        private final Map<JComponent, Attachment> attachments;
+
+        BufferProperty() {
+            super(true);
+            this.attachments = new IdentityHashMap<JComponent, Attachment>();
+        }
+
+        @Override
+        public Class<? extends TextBuffer> getWriteType(JComponent source) {
+            return TextBuffer.class;
+        }
+
+        @Override
+        public TextBuffer getValue(JComponent source) {
+            Attachment a = this.attachments.get(source);
+            return a == null ? null : a.buffer;
+        }
+
+        @Override
+        public void setValue(final JComponent source, final TextBuffer value) {
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    attach(source, value);
+                }
+            });
+        }
+
+        @Override
+        public boolean isReadable(JComponent source) {
+            return true;
+        }
+
+        @Override
+        public boolean isWriteable(JComponent source) {
+            return true;
+        }
+
+        void attach(JComponent source, TextBuffer buffer) {
+            Attachment a = this.attachments.get(source);
+            if (a != null && a.buffer == buffer) {
+                return;
+            }
+            detach(source);
+            if (buffer == null) {
+                ((JTextComponent) source).setText(null);
+                return;
+            }
+            a = new Attachment((JTextComponent) source, buffer);
+            this.attachments.put(source, a);
+            a.start();
+        }
+
+        void detach(JComponent source) {
+            Attachment a = this.attachments.remove(source);
+            if (a != null) {
+                a.stop();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getName();
+        }
+    }
+
+    /**
+     * Applies the changes of a buffer to the document of a component and the reverse. Changes applied from one side
+     * are not applied back.
+     */
+    private static final class Attachment implements TextBuffer.Listener, DocumentListener, PropertyChangeListener {
+        private final JTextComponent component;
+        private final TextBuffer buffer;
+        private final Segment segment;
+        private Document document;
+        private boolean updating;
+        private boolean stopped;
+        // The number of changes of the buffer made outside of the EDT (guarded by the buffer) and the number when the
+        // text of the document was replaced, pending changes made before are in the text
+        private long changes;
+        private long synced;
+
+        Attachment(JTextComponent component, TextBuffer buffer) {
+            this.component = component;
+            this.buffer = buffer;
+            this.segment = new Segment();
+        }
+
+        void start() {
+            this.component.addPropertyChangeListener("document", this);
+            // Lock the buffer so no change is made between copying the text and listening
+            synchronized (this.buffer) {
+                setDocument(this.component.getDocument());
+                this.buffer.addListener(this);
+            }
+        }
+
+        void stop() {
+            this.stopped = true;
+            this.buffer.removeListener(this);
+            this.component.removePropertyChangeListener("document", this);
+            if (this.document != null) {
+                this.document.removeDocumentListener(this);
+                this.document = null;
+            }
+        }
+
+        /**
+         * Listen to a document and replace its text with the text of the buffer, the only change of the whole text.
+         */
+        private void setDocument(Document newDocument) {
+            if (this.document != null) {
+                this.document.removeDocumentListener(this);
+            }
+            this.document = newDocument;
+            if (this.document == null) {
+                return;
+            }
+            this.updating = true;
+            try {
+                String text;
+                synchronized (this.buffer) {
+                    text = this.buffer.toString();
+                    this.synced = this.changes;
+                }
+                if (this.document instanceof AbstractDocument) {
+                    ((AbstractDocument) this.document).replace(0, this.document.getLength(), text, null);
+                } else {
+                    this.document.remove(0, this.document.getLength());
+                    this.document.insertString(0, text, null);
+                }
+            } catch (BadLocationException e) {
+                LOGGER.error("failed to set the text of " + this.component, e);
+            } finally {
+                this.updating = false;
+            }
+            this.document.addDocumentListener(this);
+        }
+
+        @Override
+        public void inserted(TextBuffer source, final int offset, final int length) {
+            if (SwingUtilities.isEventDispatchThread()) {
+                if (!this.updating) {
+                    insert(offset, source.subSequence(offset, offset + length).toString());
+                }
+                return;
+            }
+            final String text = source.subSequence(offset, offset + length).toString();
+            final long change = ++this.changes;
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    if (change > Attachment.this.synced) {
+                        insert(offset, text);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void removed(TextBuffer source, final int offset, final int length) {
+            if (SwingUtilities.isEventDispatchThread()) {
+                if (!this.updating) {
+                    remove(offset, length);
+                }
+                return;
+            }
+            final long change = ++this.changes;
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    if (change > Attachment.this.synced) {
+                        remove(offset, length);
+                    }
+                }
+            });
+        }
+
+        private void insert(int offset, String text) {
+            if (this.stopped || this.document == null) {
+                return;
+            }
+            this.updating = true;
+            try {
+                this.document.insertString(offset, text, null);
+            } catch (BadLocationException e) {
+                resync(e);
+            } finally {
+                this.updating = false;
+            }
+        }
+
+        private void remove(int offset, int length) {
+            if (this.stopped || this.document == null) {
+                return;
+            }
+            this.updating = true;
+            try {
+                this.document.remove(offset, length);
+            } catch (BadLocationException e) {
+                resync(e);
+            } finally {
+                this.updating = false;
+            }
+        }
+
+        /**
+         * The document is out of step with the buffer (it was edited while changes of the buffer made outside of the
+         * EDT were pending), replace its text.
+         */
+        private void resync(BadLocationException e) {
+            LOGGER.warn("document of " + this.component + " out of step with the buffer, replacing the text", e);
+            this.updating = false;
+            setDocument(this.document);
+        }
+
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            if (this.updating) {
+                return;
+            }
+            this.updating = true;
+            try {
+                this.document.getText(e.getOffset(), e.getLength(), this.segment);
+                this.buffer.insert(e.getOffset(), this.segment);
+            } catch (BadLocationException ex) {
+                LOGGER.error("failed to read the text inserted in " + this.component, ex);
+            } finally {
+                this.segment.array = null;
+                this.updating = false;
+            }
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            if (this.updating) {
+                return;
+            }
+            this.updating = true;
+            try {
+                this.buffer.remove(e.getOffset(), e.getLength());
+            } finally {
+                this.updating = false;
+            }
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            // An attribute change, the text is not changed
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            setDocument(this.component.getDocument());
+        }
+    }
+
+}
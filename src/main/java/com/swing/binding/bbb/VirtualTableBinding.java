@@ -0,0 +1,171 @@
+package com.swing.binding.bbb;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.table.TableModel;
+
+import org.jdesktop.beansbinding.AutoBinding;
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.swingbinding.JTableBinding;
+
+/**
+ * Binds a {@code List} property of a bean to a {@link JTable}, the list is the source and the table is read-only. This
+ * is an alternative to {@link JTableBinding} for large lists.
+ * <p>
+ * {@link JTableBinding} listens to every element and resolves each cell through a
+ * {@link org.jdesktop.beansbinding.BeanProperty}, so the cost of binding and the memory used grow with the number of
+ * rows. This binding listens to the list only and resolves the values of a row when it is painted, caching the values
+ * (and listening to the element) for the rows in the viewport only. The cost of binding does not depend on the number
+ * of rows.
+ * </p>
+ * <p>
+ * Elements added, removed or replaced are observed if the list is an
+ * {@link org.jdesktop.observablecollections.ObservableList}. Changes to the properties of elements are observed for
+ * the rows in the viewport, other rows are resolved again when next painted.
+ * </p>
+ * <p>
+ * A binding created by {@link ListBinding#columnarModel(Object, Property, JTable, Map)} uses a
+ * {@link ColumnarTableModel} instead, which copies the values of all the rows into arrays per column.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the source {@code List}
+ * @param <SS> the type of source object (on which the source property resolves to {@code List})
+ */
+public class VirtualTableBinding<E, SS> extends AutoBinding<SS, List<E>, JTable, List<E>> {
+
+    private final ElementsTableModel<E> model;
+    private TableModel previousModel;
+
+    /**
+     * @param sourceObject the source object
+     * @param sourceListProperty a property on the source object that resolves to the {@code List} of elements
+     * @param table the table
+     * @param columnMap map of the element property names (keys) to column names (values), a key may be a path
+     */
+    protected VirtualTableBinding(SS sourceObject, Property<SS, List<E>> sourceListProperty, JTable table,
+                    Map<String, String> columnMap) {
+        this(sourceObject, sourceListProperty, table, columnMap, false);
+    }
+
+    /**
+     * @param sourceObject the source object
+     * @param sourceListProperty a property on the source object that resolves to the {@code List} of elements
+     * @param table the table
+     * @param columnMap map of the element property names (keys) to column names (values), a key may be a path
+     * @param accessors {@code true} to resolve the element properties through cached accessors (an
+     *            {@link AccessorProperty}) rather than a {@link org.jdesktop.beansbinding.BeanProperty}
+     */
+    protected VirtualTableBinding(SS sourceObject, Property<SS, List<E>> sourceListProperty, JTable table,
+                    Map<String, String> columnMap, boolean accessors) {
+        this(sourceObject, sourceListProperty, table, new VirtualTableModel<E>(table, columnMap, accessors));
+    }
+
+    /**
+     * @param sourceObject the source object
+     * @param sourceListProperty a property on the source object that resolves to the {@code List} of elements
+     * @param table the table
+     * @param model the table model
+     */
+    @SuppressWarnings("unchecked")
+    VirtualTableBinding(SS sourceObject, Property<SS, List<E>> sourceListProperty, JTable table,
+                    ElementsTableModel<E> model) {
+        super(UpdateStrategy.READ, sourceObject, sourceListProperty, table, new ElementsProperty<E>(), null);
+        if (table == null) {
+            throw new IllegalArgumentException("table can't be null");
+        }
+        this.model = model;
+        ((ElementsProperty<E>) getTargetProperty()).model = this.model;
+    }
+
+    @Override
+    protected void bindImpl() {
+        invokeInEdt(new Runnable() {
+            @Override
+            public void run() {
+                JTable table = getTargetObject();
+                VirtualTableBinding.this.previousModel = table.getModel();
+                table.setModel(VirtualTableBinding.this.model);
+            }
+        });
+        super.bindImpl();
+    }
+
+    @Override
+    protected void unbindImpl() {
+        super.unbindImpl();
+        invokeInEdt(new Runnable() {
+            @Override
+            public void run() {
+                VirtualTableBinding.this.model.setElements(null);
+                JTable table = getTargetObject();
+                if (table.getModel() == VirtualTableBinding.this.model) {
+                    table.setModel(VirtualTableBinding.this.previousModel);
+                }
+                VirtualTableBinding.this.previousModel = null;
+            }
+        });
+    }
+
+    private static void invokeInEdt(Runnable r) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            r.run();
+        } else {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+
+    /**
+     * The elements of the table model, the target property of the binding.
+     */
+    private static final class ElementsProperty<E> extends PropertyHelper<JTable, List<E>> {
+        private ElementsTableModel<E> model;
+
+        ElementsProperty() {
+            super(true);
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Class<? extends List<E>> getWriteType(JTable source) {
+            return (Class) List.class;
+        }
+
+        @Override
+        public List<E> getValue(JTable source) {
+            return this.model.getElements();
+        }
+
+        @Override
+        public void setValue(JTable source, final List<E> value) {
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    ElementsProperty.this.model.setElements(value);
+                }
+            });
+        }
+
+        @Override
+        public boolean isReadable(JTable source) {
+            return true;
+        }
+
+        @Override
+        public boolean isWriteable(JTable source) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getName();
+        }
+    }
+
+}
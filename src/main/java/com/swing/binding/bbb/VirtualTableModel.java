@@ -0,0 +1,350 @@
+package com.swing.binding.bbb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+
+import org.jdesktop.beansbinding.BeanProperty;
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+import org.jdesktop.beansbinding.PropertyStateListener;
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+
+/**
+ * Table model of a {@link VirtualTableBinding}. Column values are resolved when a row is first requested (i.e. when it
+ * is painted) and cached for the rows in the viewport only.
+ * <p>
+ * The cache is direct mapped by row index and sized to at least twice the number of rows visible in the table (up to
+ * {@value #MAX_CACHE_SIZE} rows), so the rows of the viewport never evict each other. A cached row listens to its
+ * element for changes of the column properties, the listeners are removed when the row is evicted. Changes to the list
+ * are observed with a single listener on the list (if it is an {@link ObservableList}), never with a listener per
+ * element. When elements are added or removed the cached rows before them are kept and the rows after them are moved
+ * to their new index.
+ * </p>
+ * <p>
+ * The model must only be accessed in the EDT, changes to the list or its elements made in other threads are applied in
+ * the EDT.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <E> the type of elements in the {@code List}
+ */
+class VirtualTableModel<E> extends ElementsTableModel<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_CACHE_SIZE = 32;
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    private final JTable table;
+    private final List<Property<E, Object>> columnProperties;
+    private final String[] columnNames;
+    private final ListListener listListener;
+    private List<E> elements;
+    private int rowCount;
+    private Row[] cache;
+
+    /**
+     * @param table the table
+     * @param columnMap map of the element property names (keys) to column names (values), a key may be a path
+     * @param accessors {@code true} to resolve property names to an {@link AccessorProperty}, otherwise a
+     *            {@link BeanProperty}
+     */
+    VirtualTableModel(JTable table, Map<String, String> columnMap, boolean accessors) {
+        super();
+        this.table = table;
+        this.columnProperties = new ArrayList<Property<E, Object>>();
+        List<String> names = new ArrayList<String>();
+        if (columnMap != null) {
+            for (Entry<String, String> e : columnMap.entrySet()) {
+                this.columnProperties.add(VirtualTableModel.<E> createProperty(e.getKey(), accessors));
+                names.add(e.getValue());
+            }
+        }
+        this.columnNames = names.toArray(new String[names.size()]);
+        this.listListener = new ListListener();
+        this.cache = newCache(MIN_CACHE_SIZE);
+    }
+
+    /**
+     * A name is resolved to a {@link BeanProperty}, or if {@code accessors} a property name is resolved to an
+     * {@link AccessorProperty} (a path, e.g. "a.b", is still resolved to a {@link BeanProperty}).
+     */
+    static <E> Property<E, Object> createProperty(String name, boolean accessors) {
+        if (accessors && name != null && name.length() > 0 && name.indexOf('.') < 0) {
+            return AccessorProperty.create(name);
+        }
+        return BeanProperty.create(name);
+    }
+
+    @Override
+    List<E> getElements() {
+        return this.elements;
+    }
+
+    @Override
+    void setElements(List<E> newValue) {
+        if (this.elements instanceof ObservableList) {
+            ((ObservableList<E>) this.elements).removeObservableListListener(this.listListener);
+        }
+        clearCache();
+        this.elements = newValue;
+        this.rowCount = newValue == null ? 0 : newValue.size();
+        if (newValue instanceof ObservableList) {
+            ((ObservableList<E>) newValue).addObservableListListener(this.listListener);
+        }
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return this.columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        Row row = row(rowIndex);
+        return row == null ? null : row.values[columnIndex];
+    }
+
+    /**
+     * Get the cached row, the row is created (resolving its values) if it is not cached.
+     */
+    private Row row(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowCount || rowIndex >= this.elements.size()) {
+            return null;
+        }
+        E element = this.elements.get(rowIndex);
+        int slot = rowIndex & (this.cache.length - 1);
+        Row row = this.cache[slot];
+        // The element is compared as well as the index in case the list is not observable
+        if (row != null && row.index == rowIndex && row.element == element) {
+            return row;
+        }
+        if (ensureCapacity()) {
+            slot = rowIndex & (this.cache.length - 1);
+        } else if (row != null) {
+            row.release();
+        }
+        row = new Row(rowIndex, element);
+        this.cache[slot] = row;
+        return row;
+    }
+
+    /**
+     * Grow the cache if the viewport shows more rows than half the cache size, so contiguous visible rows are never
+     * mapped to the same slot. The cache is never grown beyond {@link #MAX_CACHE_SIZE}, e.g. for a table that is not
+     * in a scroll pane the visible rectangle may be the whole table. Only invoked when a row is not cached.
+     *
+     * @return {@code true} if the cache was replaced
+     */
+    private boolean ensureCapacity() {
+        int visibleRows = this.table.getVisibleRect().height / Math.max(1, this.table.getRowHeight()) + 2;
+        int size = this.cache.length;
+        while (size < visibleRows * 2 && size < MAX_CACHE_SIZE) {
+            size <<= 1;
+        }
+        if (size == this.cache.length) {
+            return false;
+        }
+        clearCache();
+        this.cache = newCache(size);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Row[] newCache(int size) {
+        return new VirtualTableModel.Row[size];
+    }
+
+    private void clearCache() {
+        for (int i = 0; i < this.cache.length; i++) {
+            if (this.cache[i] != null) {
+                this.cache[i].release();
+                this.cache[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Move the cached rows from an index on by a number of rows (negative when rows are removed), the rows removed
+     * are released. Rows are mapped to the slot of their new index, a row mapped to the slot of another row is
+     * released.
+     *
+     * @param from the index of the first row moved
+     * @param removed the number of rows removed at the index (released)
+     * @param shift the number of rows the following rows are moved by
+     */
+    private void shiftCache(int from, int removed, int shift) {
+        List<Row> moved = new ArrayList<Row>();
+        for (int i = 0; i < this.cache.length; i++) {
+            Row row = this.cache[i];
+            if (row != null && row.index >= from) {
+                this.cache[i] = null;
+                if (row.index < from + removed) {
+                    row.release();
+                } else {
+                    row.index += shift;
+                    moved.add(row);
+                }
+            }
+        }
+        for (Row row : moved) {
+            int slot = row.index & (this.cache.length - 1);
+            if (this.cache[slot] == null) {
+                this.cache[slot] = row;
+            } else {
+                row.release();
+            }
+        }
+    }
+
+    private void invalidate(int rowIndex) {
+        int slot = rowIndex & (this.cache.length - 1);
+        Row row = this.cache[slot];
+        if (row != null && row.index == rowIndex) {
+            row.release();
+            this.cache[slot] = null;
+        }
+    }
+
+    private static void invokeInEdt(Runnable r) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            r.run();
+        } else {
+            SwingUtilities.invokeLater(r);
+        }
+    }
+
+    /**
+     * The cached values of a row. Listens to the element for changes of the column properties while cached.
+     */
+    private final class Row implements PropertyStateListener {
+        // The index is changed in the EDT when the row is moved
+        private int index;
+        private final E element;
+        private final Object[] values;
+
+        Row(int index, E element) {
+            this.index = index;
+            this.element = element;
+            List<Property<E, Object>> properties = VirtualTableModel.this.columnProperties;
+            this.values = new Object[properties.size()];
+            if (element != null) {
+                for (int i = 0; i < this.values.length; i++) {
+                    Property<E, Object> p = properties.get(i);
+                    p.addPropertyStateListener(element, this);
+                    this.values[i] = p.isReadable(element) ? p.getValue(element) : null;
+                }
+            }
+        }
+
+        void release() {
+            if (this.element != null) {
+                for (Property<E, Object> p : VirtualTableModel.this.columnProperties) {
+                    p.removePropertyStateListener(this.element, this);
+                }
+            }
+        }
+
+        @Override
+        public void propertyStateChanged(PropertyStateEvent pse) {
+            if (!pse.getValueChanged()) {
+                return;
+            }
+            final int column = VirtualTableModel.this.columnProperties.indexOf(pse.getSource());
+            if (column < 0) {
+                return;
+            }
+            final Object newValue = pse.getNewValue() == PropertyStateEvent.UNREADABLE ? null : pse.getNewValue();
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    Row[] c = VirtualTableModel.this.cache;
+                    // Ignore if evicted, the value is resolved when the row is next requested
+                    if (c[Row.this.index & (c.length - 1)] == Row.this) {
+                        Row.this.values[column] = newValue;
+                        fireTableCellUpdated(Row.this.index, column);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Listens to the list, events are applied in the EDT in the order they occur. When elements are added or removed
+     * the cached rows of the following elements are moved to their new index.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class ListListener implements ObservableListListener {
+
+        @Override
+        public void listElementsAdded(final ObservableList list, final int index, final int length) {
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    if (list == VirtualTableModel.this.elements && length > 0) {
+                        shiftCache(index, 0, length);
+                        VirtualTableModel.this.rowCount += length;
+                        fireTableRowsInserted(index, index + length - 1);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void listElementsRemoved(final ObservableList list, final int index, final List oldElements) {
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    int length = oldElements.size();
+                    if (list == VirtualTableModel.this.elements && length > 0) {
+                        shiftCache(index, length, -length);
+                        VirtualTableModel.this.rowCount -= length;
+                        fireTableRowsDeleted(index, index + length - 1);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void listElementReplaced(ObservableList list, int index, Object oldElement) {
+            rowChanged(list, index);
+        }
+
+        @Override
+        public void listElementPropertyChanged(ObservableList list, int index) {
+            rowChanged(list, index);
+        }
+
+        private void rowChanged(final ObservableList list, final int index) {
+            invokeInEdt(new Runnable() {
+                @Override
+                public void run() {
+                    if (list == VirtualTableModel.this.elements) {
+                        invalidate(index);
+                        fireTableRowsUpdated(index, index);
+                    }
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.swing.binding.bbb;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+import org.jdesktop.beansbinding.Binding;
+
+/**
+ * Registry of bindings keyed by the identity of the source bean, it does not invoke the bean's {@code hashCode()} or
+ * {@code equals(Object)}. Beans are referenced weakly so the registry does not prevent a bean from being garbage
+ * collected when {@link BindingService#release(Object)} is not invoked.
+ * <p>
+ * A {@link Binding} references its source bean, therefore bindings are also referenced weakly (a bound binding is
+ * referenced by the listeners it registers on the bean and target). A bean is only garbage collected once its bindings
+ * are unreachable too, i.e. the bindings and their targets are garbage as well, so there is nothing to unbind: the
+ * entries for beans that have been garbage collected are drained from a {@link ReferenceQueue} on each operation to
+ * free the entries only. A bean bound to a target that is still reachable (e.g. a component that is displayed) is
+ * referenced by the binding and must be released.
+ * </p>
+ * <p>
+ * Bindings with a {@code null} source bean do not reference a bean and are held strongly.
+ * </p>
+ * <p>
+ * The registry may be used concurrently but {@link BindingService} is responsible for serialising operations on the
+ * same bean (lock striping) and for excluding {@link #removeAll()} from other operations.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+final class WeakBindingRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(WeakBindingRegistry.class);
+
+    private final ReferenceQueue<Object> queue;
+    private final Map<BeanReference, List<WeakReference<Binding<?, ?, ?, ?>>>> entries;
+    private final List<Binding<?, ?, ?, ?>> nullBeanBindings;
+
+    WeakBindingRegistry() {
+        super();
+        this.queue = new ReferenceQueue<Object>();
+        this.entries = new ConcurrentHashMap<BeanReference, List<WeakReference<Binding<?, ?, ?, ?>>>>(64);
+        this.nullBeanBindings = Collections.synchronizedList(new ArrayList<Binding<?, ?, ?, ?>>());
+    }
+
+    /**
+     * Add a binding for the bean.
+     */
+    void add(Object bean, Binding<?, ?, ?, ?> binding) {
+        expungeStaleEntries();
+        if (bean == null) {
+            this.nullBeanBindings.add(binding);
+            return;
+        }
+        BeanReference key = new BeanReference(bean, this.queue);
+        List<WeakReference<Binding<?, ?, ?, ?>>> value = this.entries.get(key);
+        if (value == null) {
+            value = new ArrayList<WeakReference<Binding<?, ?, ?, ?>>>(50);
+            this.entries.put(key, value);
+        } else {
+            // Not registered, so it will never be enqueued
+            key.clear();
+        }
+        value.add(new WeakReference<Binding<?, ?, ?, ?>>(binding));
+    }
+
+    /**
+     * Remove all bindings for the bean.
+     *
+     * @return the bindings for the bean that have not been garbage collected, {@code null} if none are registered
+     */
+    List<Binding<?, ?, ?, ?>> remove(Object bean) {
+        expungeStaleEntries();
+        if (bean == null) {
+            return null;
+        }
+        BeanReference key = new BeanReference(bean, null);
+        List<WeakReference<Binding<?, ?, ?, ?>>> value = this.entries.remove(key);
+        key.clear();
+        return value == null ? null : live(value);
+    }
+
+    /**
+     * Remove all bindings.
+     *
+     * @return the bindings that have not been garbage collected
+     */
+    List<Binding<?, ?, ?, ?>> removeAll() {
+        expungeStaleEntries();
+        List<Binding<?, ?, ?, ?>> bindings = new ArrayList<Binding<?, ?, ?, ?>>(this.nullBeanBindings);
+        this.nullBeanBindings.clear();
+        Iterator<Entry<BeanReference, List<WeakReference<Binding<?, ?, ?, ?>>>>> itr = this.entries.entrySet()
+                        .iterator();
+        while (itr.hasNext()) {
+            Entry<BeanReference, List<WeakReference<Binding<?, ?, ?, ?>>>> e = itr.next();
+            bindings.addAll(live(e.getValue()));
+            e.getKey().clear();
+            itr.remove();
+        }
+        return bindings;
+    }
+
+    /**
+     * Get the number of beans registered, after removing beans that have been garbage collected.
+     */
+    int size() {
+        expungeStaleEntries();
+        return this.entries.size();
+    }
+
+    /**
+     * Remove entries for beans that have been garbage collected, the bindings of the beans are garbage too.
+     *
+     * @return the number of entries removed
+     */
+    int expungeStaleEntries() {
+        int count = 0;
+        Reference<?> ref = this.queue.poll();
+        while (ref != null) {
+            if (this.entries.remove(ref) != null) {
+                count++;
+            }
+            ref = this.queue.poll();
+        }
+        if (count > 0) {
+            LOGGER.debug("removed entries for " + count + " garbage collected bean(s)");
+        }
+        return count;
+    }
+
+    private static List<Binding<?, ?, ?, ?>> live(List<WeakReference<Binding<?, ?, ?, ?>>> refs) {
+        List<Binding<?, ?, ?, ?>> bindings = new ArrayList<Binding<?, ?, ?, ?>>(refs.size());
+        for (WeakReference<Binding<?, ?, ?, ?>> ref : refs) {
+            Binding<?, ?, ?, ?> b = ref.get();
+            if (b != null) {
+                bindings.add(b);
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * Weak reference to a bean, equal to another reference to the same bean instance. The identity hash code is cached
+     * so a reference can be removed after the bean is garbage collected.
+     */
+    private static final class BeanReference extends WeakReference<Object> {
+        private final int hash;
+
+        BeanReference(Object bean, ReferenceQueue<Object> queue) {
+            super(bean, queue);
+            this.hash = System.identityHashCode(bean);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BeanReference)) {
+                return false;
+            }
+            Object bean = get();
+            return bean != null && bean == ((BeanReference) obj).get();
+        }
+    }
+
+}
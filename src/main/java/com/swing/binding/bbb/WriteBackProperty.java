@@ -0,0 +1,241 @@
+package com.swing.binding.bbb;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+import org.jdesktop.beansbinding.PropertyStateListener;
+
+import com.swing.binding.bbb.TextBinding.WriteBack;
+
+/**
+ * Wraps the "text" property of a component to defer the notification of changes by the user, so a binding writes the
+ * text back to the bean as per a {@link WriteBack} policy rather than on every keystroke. Changes written by the
+ * binding (and changes that are undone before they are notified) are not notified.
+ * <p>
+ * Debounced changes are scheduled with the shared {@link DebounceTimer}, and notified early when the component loses
+ * focus (also temporarily, e.g. to a menu whose action reads the bean). A binding of the property notifies the pending
+ * change with {@link #flush(JComponent)} when it is unbound, so the last edit is written. Changes are notified in the
+ * EDT, or in the thread that flushes them.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <V> the type of value
+ */
+class WriteBackProperty<V> extends PropertyHelper<JComponent, V> {
+
+    private final Property<JComponent, V> property;
+    private final WriteBack writeBack;
+    private final int delay;
+    private final Map<JComponent, SourceEntry> sourceEntries;
+
+    /**
+     * @param property the "text" property
+     * @param writeBack when the text is written back to the bean, not {@link WriteBack#IMMEDIATE}
+     * @param delay the delay of {@link WriteBack#DEBOUNCED} in milliseconds
+     */
+    WriteBackProperty(Property<JComponent, V> property, WriteBack writeBack, int delay) {
+        super();
+        if (property == null) {
+            throw new IllegalArgumentException("property can't be null");
+        }
+        if (writeBack == null || writeBack == WriteBack.IMMEDIATE) {
+            throw new IllegalArgumentException("writeBack must defer the write");
+        }
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay can't be negative");
+        }
+        this.property = property;
+        this.writeBack = writeBack;
+        this.delay = delay;
+        this.sourceEntries = new IdentityHashMap<JComponent, SourceEntry>();
+    }
+
+    @Override
+    public Class<? extends V> getWriteType(JComponent source) {
+        return this.property.getWriteType(source);
+    }
+
+    @Override
+    public V getValue(JComponent source) {
+        return this.property.getValue(source);
+    }
+
+    /**
+     * Set the value, a change that is pending is discarded.
+     */
+    @Override
+    public void setValue(JComponent source, V value) {
+        SourceEntry entry = this.sourceEntries.get(source);
+        if (entry != null) {
+            entry.written(value);
+        }
+        this.property.setValue(source, value);
+    }
+
+    @Override
+    public boolean isReadable(JComponent source) {
+        return this.property.isReadable(source);
+    }
+
+    @Override
+    public boolean isWriteable(JComponent source) {
+        return this.property.isWriteable(source);
+    }
+
+    /**
+     * Notify the pending change of the source now, e.g. before a binding is unbound (a pending change is discarded
+     * when listening stops). A change that is not committed by the user ({@link WriteBack#COMMIT}) is not notified.
+     *
+     * @param source the component
+     */
+    void flush(JComponent source) {
+        SourceEntry entry = this.sourceEntries.get(source);
+        if (entry != null && this.writeBack != WriteBack.COMMIT) {
+            entry.run();
+        }
+    }
+
+    @Override
+    protected void listeningStarted(JComponent source) {
+        SourceEntry entry = new SourceEntry(source);
+        this.sourceEntries.put(source, entry);
+        entry.start();
+    }
+
+    @Override
+    protected void listeningStopped(JComponent source) {
+        SourceEntry entry = this.sourceEntries.remove(source);
+        if (entry != null) {
+            entry.stop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[" + this.property + ", " + this.writeBack + "]";
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    /**
+     * Listens to the property and the component of a source. Is the task scheduled with the {@link DebounceTimer}.
+     */
+    private final class SourceEntry implements PropertyStateListener, FocusListener, ActionListener, Runnable {
+        private final JComponent source;
+        private Object value;
+        private boolean pending;
+
+        SourceEntry(JComponent source) {
+            this.source = source;
+        }
+
+        void start() {
+            WriteBackProperty<V> p = WriteBackProperty.this;
+            this.value = p.property.isReadable(this.source) ? p.property.getValue(this.source) : null;
+            p.property.addPropertyStateListener(this.source, this);
+            this.source.addFocusListener(this);
+            if (p.writeBack == WriteBack.COMMIT && this.source instanceof JTextField) {
+                ((JTextField) this.source).addActionListener(this);
+            }
+        }
+
+        void stop() {
+            WriteBackProperty<V> p = WriteBackProperty.this;
+            p.property.removePropertyStateListener(this.source, this);
+            this.source.removeFocusListener(this);
+            if (this.source instanceof JTextField) {
+                ((JTextField) this.source).removeActionListener(this);
+            }
+            cancel();
+        }
+
+        /**
+         * The binding wrote the value, it is not notified.
+         */
+        void written(Object newValue) {
+            this.value = newValue;
+            cancel();
+        }
+
+        private void cancel() {
+            this.pending = false;
+            if (SwingUtilities.isEventDispatchThread()) {
+                DebounceTimer.getInstance().cancel(this);
+            }
+        }
+
+        @Override
+        public void propertyStateChanged(PropertyStateEvent pse) {
+            if (!pse.getValueChanged()) {
+                return;
+            }
+            this.pending = true;
+            if (WriteBackProperty.this.writeBack == WriteBack.DEBOUNCED) {
+                if (SwingUtilities.isEventDispatchThread()) {
+                    DebounceTimer.getInstance().schedule(this, WriteBackProperty.this.delay);
+                } else {
+                    SwingUtilities.invokeLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (SourceEntry.this.pending) {
+                                DebounceTimer.getInstance().schedule(SourceEntry.this, WriteBackProperty.this.delay);
+                            }
+                        }
+                    });
+                }
+            }
+        }
+
+        /**
+         * Notify the pending change, unless the value is the value last written or notified.
+         */
+        @Override
+        public void run() {
+            if (!this.pending) {
+                return;
+            }
+            cancel();
+            WriteBackProperty<V> p = WriteBackProperty.this;
+            Object old = this.value;
+            Object newValue = p.property.getValue(this.source);
+            if (equal(old, newValue)) {
+                return;
+            }
+            this.value = newValue;
+            firePropertyStateChange(new PropertyStateEvent(p, this.source, true, old, newValue, false, true));
+        }
+
+        @Override
+        public void focusGained(FocusEvent e) {
+            // Nothing to notify
+        }
+
+        @Override
+        public void focusLost(FocusEvent e) {
+            if (WriteBackProperty.this.writeBack != WriteBack.COMMIT) {
+                run();
+            }
+        }
+
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            run();
+        }
+    }
+
+}
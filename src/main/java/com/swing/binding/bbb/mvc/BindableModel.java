@@ -0,0 +1,40 @@
+package com.swing.binding.bbb.mvc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model specification for the {@code swingbinding-processor} annotation processor. The annotated class must be
+ * a non-final subclass of {@link PresentationModel}, each of its non-private instance fields is a bound property.
+ * <p>
+ * For an annotated class {@code PersonSpec} the processor generates {@code Person extends PersonSpec} (the name is the
+ * annotated name without the "Spec" suffix, otherwise the annotated name with a "Model" suffix, unless {@link #name()}
+ * is specified) with:
+ * <ul>
+ * <li>a getter and a setter that fires a property change event for each field</li>
+ * <li>a nested {@code Properties} class with a typed {@link ModelProperty} constant per field, e.g.
+ * {@code Person.Properties.FIRST_NAME} for the field {@code firstName}</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Properties are resolved at build time, a misspelled property is a compilation error and no reflection is used to
+ * read or write values.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface BindableModel {
+
+    /**
+     * The simple name of the generated class, by default it is derived from the annotated class name.
+     */
+    String name() default "";
+
+}
@@ -0,0 +1,168 @@
+package com.swing.binding.bbb.mvc;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.jdesktop.beansbinding.PropertyHelper;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+
+/**
+ * A typed property of a {@link PresentationModel} that reads and writes the value by invoking the getter and setter
+ * directly, no reflection or introspection is used. Implementations are generated for models annotated with
+ * {@link BindableModel} by the {@code swingbinding-processor} annotation processor.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ *
+ * @param <S> the type of model that this {@code ModelProperty} operates on
+ * @param <V> the type of value that this {@code ModelProperty} represents
+ */
+public abstract class ModelProperty<S extends PresentationModel, V> extends PropertyHelper<S, V> {
+
+    private final String name;
+    private final Class<? extends V> type;
+    private final boolean writeable;
+    private final Map<S, SourceEntry> sourceEntries;
+
+    /**
+     * @param name the property name
+     * @param type the type of the property (primitive types are represented by the primitive class)
+     * @param writeable {@code true} if {@link #write(PresentationModel, Object)} is supported
+     */
+    @SuppressWarnings("unchecked")
+    protected ModelProperty(String name, Class<?> type, boolean writeable) {
+        super();
+        this.name = name;
+        this.type = (Class<? extends V>) type;
+        this.writeable = writeable;
+        this.sourceEntries = new IdentityHashMap<S, SourceEntry>();
+    }
+
+    /**
+     * Read the value from the model.
+     */
+    protected abstract V read(S source);
+
+    /**
+     * Write the value to the model, only invoked if writeable.
+     */
+    protected abstract void write(S source, V value);
+
+    /**
+     * Get the property name.
+     *
+     * @return the property name
+     */
+    public final String getName() {
+        return this.name;
+    }
+
+    @Override
+    public Class<? extends V> getWriteType(S source) {
+        if (!isWriteable(source)) {
+            throw new UnsupportedOperationException(this + " is not writeable");
+        }
+        return this.type;
+    }
+
+    @Override
+    public V getValue(S source) {
+        if (source == null) {
+            throw new UnsupportedOperationException(this + " is not readable");
+        }
+        return read(source);
+    }
+
+    @Override
+    public void setValue(S source, V value) {
+        if (!isWriteable(source)) {
+            throw new UnsupportedOperationException(this + " is not writeable");
+        }
+        write(source, value);
+    }
+
+    @Override
+    public boolean isReadable(S source) {
+        return source != null;
+    }
+
+    @Override
+    public boolean isWriteable(S source) {
+        return source != null && this.writeable;
+    }
+
+    @Override
+    protected void listeningStarted(S source) {
+        SourceEntry entry = new SourceEntry(source);
+        synchronized (this.sourceEntries) {
+            this.sourceEntries.put(source, entry);
+        }
+        entry.start();
+    }
+
+    @Override
+    protected void listeningStopped(S source) {
+        SourceEntry entry;
+        synchronized (this.sourceEntries) {
+            entry = this.sourceEntries.remove(source);
+        }
+        if (entry != null) {
+            entry.stop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getName() + "[" + this.name + "]";
+    }
+
+    /**
+     * Listens to property changes of a model and notifies the property state listeners. The listener is registered for
+     * all properties so an event without a property name (i.e. all properties changed) is received, events of other
+     * properties are ignored.
+     */
+    private final class SourceEntry implements PropertyChangeListener {
+        private final S source;
+        private Object cachedValue;
+
+        SourceEntry(S source) {
+            this.source = source;
+        }
+
+        void start() {
+            this.cachedValue = value();
+            if (this.source != null) {
+                this.source.addPropertyChangeListener(this);
+            }
+        }
+
+        void stop() {
+            if (this.source != null) {
+                this.source.removePropertyChangeListener(this);
+            }
+            this.cachedValue = null;
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            String propertyName = evt.getPropertyName();
+            if (propertyName != null && !propertyName.equals(ModelProperty.this.name)) {
+                return;
+            }
+            Object oldValue = this.cachedValue;
+            Object newValue = value();
+            this.cachedValue = newValue;
+            if (oldValue != newValue && (oldValue == null || !oldValue.equals(newValue))) {
+                firePropertyStateChange(new PropertyStateEvent(ModelProperty.this, this.source, true, oldValue,
+                                newValue, false, isWriteable(this.source)));
+            }
+        }
+
+        private Object value() {
+            return this.source == null ? PropertyStateEvent.UNREADABLE : read(this.source);
+        }
+    }
+
+}
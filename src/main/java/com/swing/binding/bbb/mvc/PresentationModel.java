@@ -10,6 +10,8 @@ import org.jdesktop.beansbinding.BeanProperty;
 import org.jdesktop.beansbinding.Property;
 
 import com.swing.binding.PropertyChangeSupport2;
+import com.swing.binding.PropertyChangeSupport2.PauseMode;
+import com.swing.binding.bbb.AccessorProperty;
 
 /**
  * The base class for models that participate in an MVC framework that uses BetterBeansBinding to synchronise the view
@@ -38,6 +40,19 @@ public class PresentationModel {
         protected static <B extends PresentationModel, V> Property<B, V> create(String name) {
             return BeanProperty.create(name);
         }
+
+        /**
+         * Create a property for the name that reads and writes through cached accessors, for models whose properties
+         * are read often (e.g. the rows of a large table). A property name is resolved to an {@link AccessorProperty},
+         * a path (e.g. "a.b") to a {@link BeanProperty}. Unlike {@link #create(String)} a property of a model that
+         * is a {@link java.util.Map} is not resolved to its entry.
+         */
+        protected static <B extends PresentationModel, V> Property<B, V> createAccessor(String name) {
+            if (name != null && name.length() > 0 && name.indexOf('.') < 0) {
+                return AccessorProperty.create(name);
+            }
+            return BeanProperty.create(name);
+        }
     }
 
     // Instance
@@ -81,6 +96,34 @@ public class PresentationModel {
         }
     }
 
+    /**
+     * Pause the underlying {@link PropertyChangeSupport} using the given {@link PauseMode}, e.g. {@link PauseMode#COALESCE} for a bulk load so only one
+     * event per property is fired when unpaused. NB. this is only supported if the underlying {@link PropertyChangeSupport} is an instance of
+     * {@link PropertyChangeSupport2}.
+     * 
+     * @param pauseMode
+     *            how events are held while paused
+     * @see #unpausePropertyChangeSupport()
+     * @throws UnsupportedOperationException
+     *             if the underlying {@link PropertyChangeSupport} is not an instance of {@link PropertyChangeSupport2}.
+     * @throws IllegalStateException
+     *             if already paused with a different {@link PauseMode}.
+     */
+    public final void pausePropertyChangeSupport(PauseMode pauseMode) {
+        if (!(this.propertyChangeSupport instanceof PropertyChangeSupport2)) {
+            throw new UnsupportedOperationException("propertyChangeSupport does not support enabling/disabling");
+        }
+        synchronized (this) {
+            PropertyChangeSupport2 pcs = (PropertyChangeSupport2) this.propertyChangeSupport;
+            if (!pcs.isPaused()) {
+                pcs.setPauseMode(pauseMode);
+            } else if (pcs.getPauseMode() != pauseMode) {
+                throw new IllegalStateException("already paused with pause mode " + pcs.getPauseMode());
+            }
+            pcs.setPaused(true);
+        }
+    }
+
     /**
      * Stop the pause of the underlying {@link PropertyChangeSupport}. NB. this is only supported if the underlying {@link PropertyChangeSupport} is an instance of
      * {@link PropertyChangeSupport2}.
@@ -98,6 +141,27 @@ public class PresentationModel {
         }
     }
 
+    /**
+     * Pause the underlying {@link PropertyChangeSupport} if it is supported (an instance of {@link PropertyChangeSupport2}) and not already paused. The
+     * test and the pause are atomic, so of several threads only one pauses and is responsible for
+     * {@link #unpausePropertyChangeSupport() unpausing}.
+     * 
+     * @return {@code true} if paused by this invocation, otherwise {@code false} (not supported or already paused)
+     */
+    public final boolean pausePropertyChangeSupportIfUnpaused() {
+        if (!(this.propertyChangeSupport instanceof PropertyChangeSupport2)) {
+            return false;
+        }
+        synchronized (this) {
+            PropertyChangeSupport2 pcs = (PropertyChangeSupport2) this.propertyChangeSupport;
+            if (pcs.isPaused()) {
+                return false;
+            }
+            pcs.setPaused(true);
+            return true;
+        }
+    }
+
     public String getTitle() {
         return this.title;
     }
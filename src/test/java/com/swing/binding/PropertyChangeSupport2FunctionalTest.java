@@ -0,0 +1,263 @@
+package com.swing.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.beans.IndexedPropertyChangeEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.swing.binding.PropertyChangeSupport2.EventCounters;
+import com.swing.binding.PropertyChangeSupport2.EventLogLevel;
+import com.swing.binding.PropertyChangeSupport2.EventLogMode;
+import com.swing.binding.PropertyChangeSupport2.PauseMode;
+
+/**
+ * Tests the functionality of {@link PropertyChangeSupport2}.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public class PropertyChangeSupport2FunctionalTest {
+
+    /**
+     * Test every event held while paused is fired in order when no longer paused.
+     */
+    @Test
+    public void testQueue() {
+        PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this);
+        List<String> events = listen(pcs);
+        pcs.setPaused(true);
+        pcs.firePropertyChange("a", 0, 1);
+        pcs.firePropertyChange("b", 0, 1);
+        pcs.firePropertyChange("a", 1, 2);
+        assertEquals(0, events.size());
+
+        pcs.setPaused(false);
+        assertEquals(Arrays.asList("a 0 1", "b 0 1", "a 1 2"), events);
+    }
+
+    /**
+     * Test one event per property is fired when no longer paused, with the first old value and the last new value, in
+     * the order the properties first changed.
+     */
+    @Test
+    public void testCoalesce() {
+        PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this, PauseMode.COALESCE);
+        List<String> events = listen(pcs);
+        pcs.setPaused(true);
+        for (int i = 0; i < 100; i++) {
+            pcs.firePropertyChange("a", i, i + 1);
+            pcs.firePropertyChange("b", i, i + 1);
+        }
+        pcs.firePropertyChange(null, null, null);
+        pcs.firePropertyChange("c", 0, 1);
+        assertEquals(0, events.size());
+
+        pcs.setPaused(false);
+        assertEquals(Arrays.asList("a 0 100", "b 0 100", "null null null", "c 0 1"), events);
+
+        // The buffers are reused
+        events.clear();
+        pcs.setPaused(true);
+        pcs.firePropertyChange("c", 1, 2);
+        pcs.firePropertyChange("a", 100, 101);
+        pcs.firePropertyChange("c", 2, 3);
+        pcs.setPaused(false);
+        assertEquals(Arrays.asList("c 1 3", "a 100 101"), events);
+    }
+
+    /**
+     * Test indexed events are not coalesced and the order of the events of a property is kept.
+     */
+    @Test
+    public void testCoalesceIndexed() {
+        PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this, PauseMode.COALESCE);
+        List<String> events = listen(pcs);
+        pcs.setPaused(true);
+        pcs.firePropertyChange("list", 0, 1);
+        pcs.fireIndexedPropertyChange("list", 0, "a", "b");
+        pcs.fireIndexedPropertyChange("list", 1, "c", "d");
+        pcs.firePropertyChange("list", 1, 2);
+        pcs.firePropertyChange("list", 2, 3);
+        pcs.setPaused(false);
+        assertEquals(Arrays.asList("list 0 1", "list[0] a b", "list[1] c d", "list 1 3"), events);
+    }
+
+    /**
+     * Test no event is lost when a listener pauses and resumes while the held events are fired.
+     */
+    @Test
+    public void testCoalesceReentrantPause() {
+        final PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this, PauseMode.COALESCE);
+        List<String> events = listen(pcs);
+        pcs.addPropertyChangeListener("a", new PropertyChangeListener() {
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                pcs.setPaused(true);
+                pcs.firePropertyChange("x", 0, 1);
+                pcs.setPaused(false);
+                pcs.setPaused(true);
+                pcs.firePropertyChange("y", 0, 1);
+            }
+        });
+        pcs.setPaused(true);
+        pcs.firePropertyChange("a", 0, 1);
+        pcs.firePropertyChange("b", 0, 1);
+        pcs.firePropertyChange("c", 0, 1);
+        pcs.setPaused(false);
+        // The listener paused again, the events after "a" are held
+        assertTrue(pcs.isPaused());
+        assertEquals(Arrays.asList("a 0 1", "x 0 1"), events);
+
+        pcs.setPaused(false);
+        assertEquals(Arrays.asList("a 0 1", "x 0 1", "y 0 1", "b 0 1", "c 0 1"), events);
+    }
+
+    /**
+     * Test the queued events are held again when a listener pauses while they are fired.
+     */
+    @Test
+    public void testQueueReentrantPause() {
+        final PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this);
+        List<String> events = listen(pcs);
+        pcs.addPropertyChangeListener("a", new PropertyChangeListener() {
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                pcs.setPaused(true);
+            }
+        });
+        pcs.setPaused(true);
+        pcs.firePropertyChange("a", 0, 1);
+        pcs.firePropertyChange("b", 0, 1);
+        pcs.setPaused(false);
+        assertTrue(pcs.isPaused());
+        assertEquals(Arrays.asList("a 0 1"), events);
+
+        pcs.setPaused(false);
+        assertEquals(Arrays.asList("a 0 1", "b 0 1"), events);
+    }
+
+    /**
+     * Test an event without a property name (i.e. all properties changed) is always fired and counted as fired, while
+     * an event of a property whose value did not change is ignored.
+     */
+    @Test
+    public void testAllPropertiesChanged() {
+        PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this);
+        List<String> events = listen(pcs);
+        pcs.firePropertyChange(null, null, null);
+        pcs.firePropertyChange(null, null, null);
+        // An unchanged value of a property is ignored
+        pcs.firePropertyChange(new PropertyChangeEvent(this, "a", 1, 1));
+        assertEquals(Arrays.asList("null null null", "null null null"), events);
+
+        pcs.setEventLogMode(EventLogMode.COUNT);
+        pcs.firePropertyChange(null, null, null);
+        pcs.firePropertyChange(new PropertyChangeEvent(this, "a", 1, 1));
+        EventCounters counters = pcs.getEventCounters();
+        assertEquals(1L, counters.getFireCount(null));
+        assertEquals(0L, counters.getIgnoreCount(null));
+        assertEquals(1L, counters.getIgnoreCount("a"));
+        assertEquals(3, events.size());
+    }
+
+    /**
+     * Test the pause mode can't be changed while paused.
+     */
+    @Test
+    public void testPauseMode() {
+        PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this);
+        assertEquals(PauseMode.QUEUE, pcs.getPauseMode());
+        pcs.setPauseMode(null);
+        assertEquals(PauseMode.QUEUE, pcs.getPauseMode());
+        pcs.setPaused(true);
+        try {
+            pcs.setPauseMode(PauseMode.COALESCE);
+            fail("the pause mode was changed while paused");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Test the events fired, ignored and paused are counted per property in {@link EventLogMode#COUNT} mode only.
+     */
+    @Test
+    public void testEventCounters() {
+        PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this);
+        List<String> events = listen(pcs);
+        pcs.firePropertyChange("a", 0, 1);
+        EventCounters counters = pcs.getEventCounters();
+        assertEquals(0L, counters.getFireCount("a"));
+
+        pcs.setEventLogMode(EventLogMode.COUNT);
+        pcs.firePropertyChange("a", 1, 2);
+        pcs.firePropertyChange("a", 2, 3);
+        pcs.firePropertyChange("b", null, null);
+        pcs.firePropertyChange(null, null, null);
+        pcs.setPaused(true);
+        pcs.firePropertyChange("a", 3, 4);
+        assertEquals(2L, counters.getFireCount("a"));
+        assertEquals(1L, counters.getPauseCount("a"));
+        assertEquals(0L, counters.getIgnoreCount("a"));
+        assertEquals(1L, counters.getIgnoreCount("b"));
+        assertEquals(1L, counters.getFireCount(null));
+        // The held event is counted as fired when no longer paused
+        pcs.setPaused(false);
+        assertEquals(3L, counters.getFireCount("a"));
+        assertEquals(Arrays.asList("a 0 1", "a 1 2", "a 2 3", "null null null", "a 3 4"), events);
+
+        counters.reset();
+        assertEquals(0L, counters.getFireCount("a"));
+        pcs.setEventLogMode(null);
+        assertEquals(EventLogMode.OFF, pcs.getEventLogMode());
+        pcs.firePropertyChange("a", 4, 5);
+        assertEquals(0L, counters.getFireCount("a"));
+    }
+
+    /**
+     * Test the level events are logged at, events are fired at every level.
+     */
+    @Test
+    public void testEventLogLevel() {
+        PropertyChangeSupport2 pcs = new PropertyChangeSupport2(this);
+        List<String> events = listen(pcs);
+        assertEquals(EventLogMode.LOG, pcs.getEventLogMode());
+        assertEquals(EventLogLevel.INFO, pcs.getEventLogLevel());
+        for (EventLogLevel level : EventLogLevel.values()) {
+            pcs.setEventLogLevel(level);
+            assertEquals(level, pcs.getEventLogLevel());
+            pcs.firePropertyChange("a", level.ordinal(), level.ordinal() + 1);
+        }
+        assertEquals(Arrays.asList("a 0 1", "a 1 2", "a 2 3"), events);
+        try {
+            pcs.setEventLogLevel(null);
+            fail("the event log level was set to null");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    private static List<String> listen(PropertyChangeSupport2 pcs) {
+        final List<String> events = new ArrayList<String>();
+        pcs.addPropertyChangeListener(new PropertyChangeListener() {
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                String name = evt.getPropertyName();
+                if (evt instanceof IndexedPropertyChangeEvent) {
+                    name += "[" + ((IndexedPropertyChangeEvent) evt).getIndex() + "]";
+                }
+                events.add(name + " " + evt.getOldValue() + " " + evt.getNewValue());
+            }
+        });
+        return events;
+    }
+
+}
@@ -8,6 +8,7 @@ import org.apache.commons.lang.builder.ToStringStyle;
 import org.jdesktop.beansbinding.Property;
 import org.jdesktop.observablecollections.ObservableList;
 
+import com.swing.binding.bbb.TextBuffer;
 import com.swing.binding.bbb.mvc.PresentationModel;
 
 public class TestBean extends PresentationModel {
@@ -23,6 +24,7 @@ public class TestBean extends PresentationModel {
         public static Property<TestBean, List<String>> STRING_LIST = create("stringList");
         public static Property<TestBean, List<TestBean>> TEST_BEANS = create("testBeans");
         public static Property<TestBean, List<TestBean>> TEST_BEANS_SELECTED = create("testBeansSelected");
+        public static Property<TestBean, TextBuffer> TEXT_BUFFER = create("textBuffer");
     }
 
     private Date date;
@@ -32,6 +34,7 @@ public class TestBean extends PresentationModel {
     private String string;
     private ObservableList<TestBean> testBeans;
     private ObservableList<TestBean> testBeansSelected;
+    private TextBuffer textBuffer;
 
     private boolean statePrimitive;
     private Boolean state;
@@ -130,6 +133,16 @@ public class TestBean extends PresentationModel {
         getPropertyChangeSupport().firePropertyChange("testBeansSelected", oldValue, newValue);
     }
 
+    public TextBuffer getTextBuffer() {
+        return this.textBuffer;
+    }
+
+    public void setTextBuffer(TextBuffer newValue) {
+        TextBuffer oldValue = this.textBuffer;
+        this.textBuffer = newValue;
+        getPropertyChangeSupport().firePropertyChange("textBuffer", oldValue, newValue);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE, false);
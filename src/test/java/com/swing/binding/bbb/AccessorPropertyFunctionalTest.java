@@ -0,0 +1,128 @@
+package com.swing.binding.bbb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdesktop.beansbinding.BeanProperty;
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyResolutionException;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+import org.jdesktop.beansbinding.PropertyStateListener;
+import org.junit.Test;
+
+import com.swing.binding.TestBean;
+
+/**
+ * Tests the functionality of {@link AccessorProperty}.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public class AccessorPropertyFunctionalTest {
+
+    /**
+     * Test reading and writing a value.
+     */
+    @Test
+    public void testGetSetValue() {
+        TestBean bean = new TestBean();
+        AccessorProperty<TestBean, String> p = AccessorProperty.create("string");
+        assertTrue(p.isReadable(bean));
+        assertTrue(p.isWriteable(bean));
+        assertFalse(p.isReadable(null));
+        assertEquals(String.class, p.getWriteType(bean));
+        assertEquals(null, p.getValue(bean));
+        p.setValue(bean, "value");
+        assertEquals("value", bean.getString());
+        assertEquals("value", p.getValue(bean));
+
+        AccessorProperty<TestBean, Object> missing = AccessorProperty.create("missing");
+        assertFalse(missing.isReadable(bean));
+        assertFalse(missing.isWriteable(bean));
+    }
+
+    /**
+     * Test writing a value of the wrong type is a {@link PropertyResolutionException}, as for a {@link BeanProperty}.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test(expected = PropertyResolutionException.class)
+    public void testSetValueWrongType() {
+        Property p = AccessorProperty.create("integr");
+        p.setValue(new TestBean(), "value");
+    }
+
+    /**
+     * Test a property state event is fired when the bean property changes.
+     */
+    @Test
+    public void testPropertyStateListener() {
+        TestBean bean = new TestBean();
+        AccessorProperty<TestBean, Integer> p = AccessorProperty.create("integr");
+        final List<PropertyStateEvent> events = new ArrayList<PropertyStateEvent>();
+        PropertyStateListener l = new PropertyStateListener() {
+            @Override
+            public void propertyStateChanged(PropertyStateEvent pse) {
+                events.add(pse);
+            }
+        };
+        p.addPropertyStateListener(bean, l);
+        bean.setIntegr(Integer.valueOf(1));
+        // A change to a different property is not an event for this property
+        bean.setString("value");
+        assertEquals(1, events.size());
+        assertEquals(null, events.get(0).getOldValue());
+        assertEquals(Integer.valueOf(1), events.get(0).getNewValue());
+
+        p.removePropertyStateListener(bean, l);
+        bean.setIntegr(Integer.valueOf(2));
+        assertEquals(1, events.size());
+    }
+
+    /**
+     * Test an {@link AccessorProperty} behaves as the {@link BeanProperty} of the same name: the values, write types
+     * and the events fired when the bean property changes are the same.
+     */
+    @Test
+    public void testBeanPropertyCompatibility() {
+        TestBean bean = new TestBean();
+        bean.setString("value");
+        String[] names = { "string", "integr", "duble", "date", "title", "missing" };
+        for (String name : names) {
+            Property<TestBean, Object> expected = BeanProperty.create(name);
+            Property<TestBean, Object> actual = AccessorProperty.create(name);
+            assertEquals(name, expected.isReadable(bean), actual.isReadable(bean));
+            assertEquals(name, expected.isWriteable(bean), actual.isWriteable(bean));
+            assertEquals(name, expected.isReadable(null), actual.isReadable(null));
+            if (expected.isReadable(bean)) {
+                assertEquals(name, expected.getValue(bean), actual.getValue(bean));
+                assertEquals(name, expected.getWriteType(bean), actual.getWriteType(bean));
+            }
+        }
+
+        Property<TestBean, Object> expected = BeanProperty.create("string");
+        Property<TestBean, Object> actual = AccessorProperty.create("string");
+        List<String> expectedEvents = listen(expected, bean);
+        List<String> actualEvents = listen(actual, bean);
+        actual.setValue(bean, "a");
+        expected.setValue(bean, "b");
+        bean.setString(null);
+        assertEquals(3, expectedEvents.size());
+        assertEquals(expectedEvents, actualEvents);
+    }
+
+    private static List<String> listen(Property<TestBean, Object> p, TestBean bean) {
+        final List<String> events = new ArrayList<String>();
+        p.addPropertyStateListener(bean, new PropertyStateListener() {
+            @Override
+            public void propertyStateChanged(PropertyStateEvent pse) {
+                events.add(pse.getOldValue() + " " + pse.getNewValue() + " " + pse.getValueChanged());
+            }
+        });
+        return events;
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.swing.binding.bbb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+
+import org.jdesktop.beansbinding.BeanProperty;
+import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
+import org.jdesktop.swingbinding.JTableBinding;
+import org.junit.Test;
+
+import com.swing.binding.TestBean;
+import com.swing.test.TestUtils;
+
+/**
+ * Tests the functionality of {@link BatchObservableList}.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public class BatchObservableListFunctionalTest {
+
+    /**
+     * Test changes made in a batch are notified as one event per run when the batch ends.
+     */
+    @Test
+    public void testBatchEvents() {
+        BatchObservableList<String> list = new BatchObservableList<String>();
+        List<String> events = new ArrayList<String>();
+        list.addObservableListListener(new RecordingListener(events));
+
+        // Outside a batch each change is notified
+        list.add("a");
+        list.add("b");
+        assertEquals(2, events.size());
+        assertEquals("added 0 1", events.get(0));
+        events.clear();
+
+        // Elements added one at a time in a batch
+        list.beginBatch();
+        for (int i = 0; i < 10000; i++) {
+            list.add("x" + i);
+        }
+        // Nested batch does not notify when it ends
+        list.beginBatch();
+        list.remove(0);
+        list.endBatch();
+        assertTrue(list.isBatch());
+        assertEquals(0, events.size());
+        list.endBatch();
+        assertFalse(list.isBatch());
+        assertEquals(2, events.size());
+        assertEquals("removed 0 1", events.get(0));
+        assertEquals("added 1 10000", events.get(1));
+        events.clear();
+
+        // Replacing an element in a batch is notified as a replacement
+        list.beginBatch();
+        list.set(1, "y");
+        list.endBatch();
+        assertEquals(1, events.size());
+        assertEquals("replaced 1", events.get(0));
+        events.clear();
+
+        // Removing a range is a single event
+        list.subList(1, 101).clear();
+        assertEquals(1, events.size());
+        assertEquals("removed 1 100", events.get(0));
+    }
+
+    /**
+     * Test a table bound to the list is notified of a single insert for a batch.
+     */
+    @Test
+    public void testBatchTable() {
+        // Setup
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        final BatchObservableList<TestBean> list = new BatchObservableList<TestBean>();
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        JTableBinding<TestBean, TestBean, JTable> binding = ListBinding.model(bean, bP, table, map);
+        binding.bind();
+        final List<TableModelEvent> events = new ArrayList<TableModelEvent>();
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                table.getModel().addTableModelListener(new TableModelListener() {
+                    @Override
+                    public void tableChanged(TableModelEvent e) {
+                        events.add(e);
+                    }
+                });
+            }
+        });
+
+        list.beginBatch();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                TestBean b = new TestBean();
+                b.setString("value" + i);
+                list.add(b);
+            }
+        } finally {
+            list.endBatch();
+        }
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(1000, table.getModel().getRowCount());
+                assertEquals("value999", table.getValueAt(999, 0));
+                assertEquals(1, events.size());
+                assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+                assertEquals(0, events.get(0).getFirstRow());
+                assertEquals(999, events.get(0).getLastRow());
+            }
+        });
+
+        binding.unbind();
+    }
+
+    /**
+     * Records list events as strings.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class RecordingListener implements ObservableListListener {
+        private final List<String> events;
+
+        RecordingListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void listElementsAdded(ObservableList list, int index, int length) {
+            this.events.add("added " + index + " " + length);
+        }
+
+        @Override
+        public void listElementsRemoved(ObservableList list, int index, List oldElements) {
+            this.events.add("removed " + index + " " + oldElements.size());
+        }
+
+        @Override
+        public void listElementReplaced(ObservableList list, int index, Object oldElement) {
+            this.events.add("replaced " + index);
+        }
+
+        @Override
+        public void listElementPropertyChanged(ObservableList list, int index) {
+            this.events.add("changed " + index);
+        }
+    }
+
+}
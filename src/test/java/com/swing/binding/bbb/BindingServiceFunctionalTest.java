@@ -6,12 +6,19 @@ package com.swing.binding.bbb;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.beans.PropertyChangeSupport;
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JComboBox;
 import javax.swing.JTextField;
@@ -26,6 +33,7 @@ import org.junit.Test;
 
 import com.swing.test.TestUtils;
 import com.swing.binding.TestBean;
+import com.swing.binding.bbb.mvc.PresentationModel;
 
 /**
  * Tests the functionality of {@link BindingService}.
@@ -221,6 +229,32 @@ public class BindingServiceFunctionalTest {
         manager.release();
     }
 
+    /**
+     * Test method for {@link com.swing.binding.bbb.BindingService#release()} invoked while binding. The release is
+     * deferred until the binding returns.
+     */
+    @Test
+    public void testReleaseWhileBinding() {
+        TestBean bean = new TestBean();
+        Binding<?, ?, ?, ?> binding = Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, bean,
+                        BeanProperty.create("string"), new JTextField(), BeanProperty.create("text"));
+        final BindingService manager = new BindingService();
+        final boolean[] releasedInListener = new boolean[1];
+        binding.addBindingListener(new AbstractBindingListener() {
+            @Override
+            public void bindingBecameBound(@SuppressWarnings("rawtypes") Binding b) {
+                manager.release();
+                releasedInListener[0] = (Boolean) TestUtils.getInternalState(manager, "released");
+            }
+        });
+        manager.bind(binding);
+
+        // Released when bind returned, not by the listener
+        assertFalse(releasedInListener[0]);
+        assertTrue((Boolean) TestUtils.getInternalState(manager, "released"));
+        assertFalse(binding.isBound());
+    }
+
     /**
      * Test method for {@link com.swing.binding.bbb.BindingService#release(java.util.List)}.
      */
@@ -284,4 +318,274 @@ public class BindingServiceFunctionalTest {
         assertEquals(0, binding.getBindingListeners().length);
     }
 
+    /**
+     * Test method for {@link com.swing.binding.bbb.BindingService#release(java.lang.Object)} with the
+     * {@link BindingService.Registry#WEAK_IDENTITY} registry.
+     */
+    @Test
+    public void testReleaseObjectWeakIdentity() {
+        BindingService manager = new BindingService(BindingService.Registry.WEAK_IDENTITY);
+        assertNull(TestUtils.getInternalState(manager, "bindingMap"));
+        TestBean bean1 = new TestBean();
+        TestBean bean2 = new TestBean();
+
+        Binding<?, ?, ?, ?> binding1 = Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, bean1,
+                        BeanProperty.create("string"), new JTextField(), BeanProperty.create("text"));
+        manager.bind(binding1);
+        BeanProperty<TestBean, List<String>> bP = BeanProperty.create("stringList");
+        Binding<?, ?, ?, ?> binding2 = SwingBindings.createJComboBoxBinding(UpdateStrategy.READ_WRITE, bean2, bP,
+                        new JComboBox());
+        manager.bind(binding2);
+        assertTrue(binding1.isBound());
+        assertTrue(binding2.isBound());
+
+        WeakBindingRegistry registry = (WeakBindingRegistry) TestUtils.getInternalState(manager, "weakRegistry");
+        assertEquals(2, registry.size());
+
+        manager.release(bean1);
+        assertFalse(binding1.isBound());
+        assertTrue(binding2.isBound());
+        assertEquals(1, registry.size());
+
+        manager.release();
+        assertFalse(binding2.isBound());
+        assertEquals(0, registry.size());
+    }
+
+    /**
+     * Test the entries of beans that are garbage collected without being released are drained from the
+     * {@link BindingService.Registry#WEAK_IDENTITY} registry, a bean bound to a target that is referenced is not. The
+     * garbage collector is simulated by enqueuing the references to the other beans, so the test does not depend on
+     * when (or whether) {@link System#gc()} collects them.
+     */
+    @Test
+    public void testExpungeStaleEntriesWeakIdentity() {
+        BindingService manager = new BindingService(BindingService.Registry.WEAK_IDENTITY);
+        WeakBindingRegistry registry = (WeakBindingRegistry) TestUtils.getInternalState(manager, "weakRegistry");
+        TestBean bean = new TestBean();
+        Binding<?, ?, ?, ?> kept = Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, bean,
+                        BeanProperty.create("string"), new JTextField(), BeanProperty.create("text"));
+        manager.bind(kept);
+        for (int i = 0; i < 10; i++) {
+            manager.bind(Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, new TestBean(),
+                            BeanProperty.create("string"), new JTextField(), BeanProperty.create("text")));
+        }
+        assertEquals(0, registry.expungeStaleEntries());
+
+        Map<?, ?> entries = (Map<?, ?>) TestUtils.getInternalState(registry, "entries");
+        for (Object key : entries.keySet()) {
+            Reference<?> ref = (Reference<?>) key;
+            if (ref.get() != bean) {
+                assertTrue(ref.enqueue());
+            }
+        }
+        assertEquals(10, registry.expungeStaleEntries());
+        assertEquals(0, registry.expungeStaleEntries());
+        assertEquals(1, registry.size());
+        assertTrue(kept.isBound());
+
+        manager.release();
+        assertFalse(kept.isBound());
+        assertEquals(0, registry.size());
+    }
+
+    /**
+     * Test method for {@link com.swing.binding.bbb.BindingService#bind(org.jdesktop.beansbinding.Binding)} invoked
+     * concurrently for different beans. All bindings must be registered and released.
+     */
+    @Test
+    public void testBindConcurrent() throws InterruptedException {
+        final BindingService manager = new BindingService();
+        final int threadCount = 4;
+        final int beansPerThread = 50;
+        final List<Binding<?, ?, ?, ?>> localList = Collections.synchronizedList(new ArrayList<Binding<?, ?, ?, ?>>());
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = 0; i < beansPerThread; i++) {
+                            Binding<?, ?, ?, ?> binding = Bindings.createAutoBinding(UpdateStrategy.READ_WRITE,
+                                            new TestBean(), BeanProperty.create("string"), new JTextField(),
+                                            BeanProperty.create("text"));
+                            manager.bind(binding);
+                            localList.add(binding);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+
+        @SuppressWarnings("unchecked")
+        Map<Object, List<Binding<?, ?, ?, ?>>> managerMap = (Map<Object, List<Binding<?, ?, ?, ?>>>) TestUtils.getInternalState(manager, "bindingMap");
+        assertEquals(threadCount * beansPerThread, managerMap.size());
+        assertEquals(threadCount * beansPerThread, localList.size());
+
+        manager.release();
+        for (Binding<?, ?, ?, ?> b : localList) {
+            assertFalse(b.isBound());
+        }
+        assertTrue(managerMap.isEmpty());
+    }
+
+    /**
+     * Test method for {@link com.swing.binding.bbb.BindingService#bind(org.jdesktop.beansbinding.Binding)} concurrent
+     * with {@link com.swing.binding.bbb.BindingService#release(Object)} of the same beans. A binding is either
+     * registered and bound, or released and not bound.
+     */
+    @Test
+    public void testBindReleaseObjectConcurrent() throws InterruptedException {
+        final BindingService manager = new BindingService();
+        final TestBean[] beans = new TestBean[8];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = new TestBean();
+        }
+        final List<Binding<?, ?, ?, ?>> localList = Collections.synchronizedList(new ArrayList<Binding<?, ?, ?, ?>>());
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch bound = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    start.await();
+                    for (int i = 0; i < 2000; i++) {
+                        Binding<?, ?, ?, ?> binding = Bindings.createAutoBinding(UpdateStrategy.READ_WRITE,
+                                        beans[i % beans.length], BeanProperty.create("string"), new JTextField(),
+                                        BeanProperty.create("text"));
+                        localList.add(binding);
+                        manager.bind(binding);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    bound.countDown();
+                    done.countDown();
+                }
+            }
+        }).start();
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    start.await();
+                    for (int i = 0; bound.getCount() > 0; i++) {
+                        manager.release(beans[i % beans.length]);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }
+        }).start();
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+
+        @SuppressWarnings("unchecked")
+        Map<Object, List<Binding<?, ?, ?, ?>>> managerMap = (Map<Object, List<Binding<?, ?, ?, ?>>>) TestUtils.getInternalState(manager, "bindingMap");
+        for (Binding<?, ?, ?, ?> b : localList) {
+            List<Binding<?, ?, ?, ?>> registered = managerMap.get(b.getSourceObject());
+            assertEquals(registered != null && registered.contains(b), b.isBound());
+        }
+
+        manager.release();
+        for (Binding<?, ?, ?, ?> b : localList) {
+            assertFalse(b.isBound());
+        }
+    }
+
+    /**
+     * Test method for {@link com.swing.binding.bbb.BindingService#bindAll(java.util.Collection)} of a model whose
+     * {@link PropertyChangeSupport} does not support pausing, the bindings are bound without pausing it.
+     */
+    @Test
+    public void testBindAllPauseUnsupported() throws Exception {
+        TestBean bean = new TestBean();
+        Field f = PresentationModel.class.getDeclaredField("propertyChangeSupport");
+        f.setAccessible(true);
+        f.set(bean, new PropertyChangeSupport(bean));
+        List<Binding<?, ?, ?, ?>> bindings = createBindings(bean, 10);
+        BindingService manager = new BindingService();
+        manager.bindAll(bindings);
+        for (Binding<?, ?, ?, ?> b : bindings) {
+            assertTrue(b.isBound());
+        }
+        manager.release();
+    }
+
+    /**
+     * Test method for {@link com.swing.binding.bbb.BindingService#bindAll(java.util.Collection)}.
+     */
+    @Test
+    public void testBindAll() {
+        TestBean bean = new TestBean();
+        List<Binding<?, ?, ?, ?>> bindings = createBindings(bean, 10);
+        BindingService manager = new BindingService();
+        manager.bindAll(bindings);
+
+        @SuppressWarnings("unchecked")
+        Map<Object, List<Binding<?, ?, ?, ?>>> managerMap = (Map<Object, List<Binding<?, ?, ?, ?>>>) TestUtils.getInternalState(manager, "bindingMap");
+        assertEquals(bindings.size(), managerMap.get(bean).size());
+        for (Binding<?, ?, ?, ?> b : bindings) {
+            assertTrue(b.isBound());
+        }
+        assertFalse(bean.isPropertyChangeSupportPaused());
+
+        manager.release();
+        for (Binding<?, ?, ?, ?> b : bindings) {
+            assertFalse(b.isBound());
+        }
+    }
+
+    /**
+     * Test method for {@link com.swing.binding.bbb.BindingService#bindAllDeferred(java.util.Collection)}. Bindings are
+     * bound in the EDT unless released first.
+     */
+    @Test
+    public void testBindAllDeferred() {
+        TestBean bean1 = new TestBean();
+        TestBean bean2 = new TestBean();
+        final List<Binding<?, ?, ?, ?>> bindings1 = createBindings(bean1, 10);
+        final List<Binding<?, ?, ?, ?>> bindings2 = createBindings(bean2, 10);
+        List<Binding<?, ?, ?, ?>> bindings = new ArrayList<Binding<?, ?, ?, ?>>(bindings1);
+        bindings.addAll(bindings2);
+        BindingService manager = new BindingService();
+        // The test does not run in the EDT so binding is deferred
+        manager.bindAllDeferred(bindings);
+        manager.release(bean2);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                for (Binding<?, ?, ?, ?> b : bindings1) {
+                    assertTrue(b.isBound());
+                }
+                for (Binding<?, ?, ?, ?> b : bindings2) {
+                    assertFalse(b.isBound());
+                }
+            }
+        });
+
+        // Release (this does not form part of the test it is here for good practice)
+        manager.release();
+    }
+
+    private static List<Binding<?, ?, ?, ?>> createBindings(TestBean bean, int count) {
+        List<Binding<?, ?, ?, ?>> bindings = new ArrayList<Binding<?, ?, ?, ?>>(count);
+        for (int i = 0; i < count; i++) {
+            bindings.add(Bindings.createAutoBinding(UpdateStrategy.READ_WRITE, bean, BeanProperty.create("string"),
+                            new JTextField(), BeanProperty.create("text")));
+        }
+        return bindings;
+    }
+
 }
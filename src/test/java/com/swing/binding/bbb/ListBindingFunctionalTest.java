@@ -1,9 +1,13 @@
 package com.swing.binding.bbb;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.LinkedHashMap;
@@ -14,12 +18,20 @@ import javax.swing.DefaultComboBoxModel;
 import javax.swing.JComboBox;
 import javax.swing.JTable;
 import javax.swing.ListSelectionModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
 
 import org.jdesktop.beansbinding.BeanProperty;
 import org.jdesktop.beansbinding.Binding;
 import org.jdesktop.observablecollections.ObservableCollections;
 import org.jdesktop.observablecollections.ObservableList;
+import org.jdesktop.observablecollections.ObservableListListener;
 import org.jdesktop.swingbinding.JComboBoxBinding;
 import org.jdesktop.swingbinding.JTableBinding;
 import org.junit.Test;
@@ -108,6 +120,180 @@ public class ListBindingFunctionalTest {
         binding.unbind();
     }
 
+    /**
+     * Test for {@link ListBinding#model(Object, org.jdesktop.beansbinding.Property, JComboBox, ListDiff)}. Verifies
+     * replacing the list of the bean updates the combo box with the differences and retains the selection.
+     */
+    @Test
+    public void testModelComboBoxDiff() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final JComboBox comboBox = new JComboBox();
+        bean.setStringList(ObservableCollections.observableList(new ArrayList<String>(Arrays.asList("a", "b", "c"))));
+
+        // Bind
+        BeanProperty<TestBean, List<String>> bP = BeanProperty.create("stringList");
+        JComboBoxBinding<String, TestBean, JComboBox> binding = ListBinding.model(bean, bP, comboBox,
+                        ListDiff.<String> identity());
+        binding.bind();
+        final List<ListDataEvent> events = new ArrayList<ListDataEvent>();
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                comboBox.setSelectedItem("b");
+                comboBox.getModel().addListDataListener(new ListDataListener() {
+                    @Override
+                    public void intervalAdded(ListDataEvent e) {
+                        events.add(e);
+                    }
+
+                    @Override
+                    public void intervalRemoved(ListDataEvent e) {
+                        events.add(e);
+                    }
+
+                    @Override
+                    public void contentsChanged(ListDataEvent e) {
+                        // Selection changes are reported as contents changed
+                    }
+                });
+            }
+        });
+
+        // Replace the list, "a" is removed and "d" is added
+        bean.setStringList(ObservableCollections.observableList(new ArrayList<String>(Arrays.asList("b", "c", "d"))));
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(3, comboBox.getModel().getSize());
+                assertEquals("b", comboBox.getItemAt(0));
+                assertEquals("d", comboBox.getItemAt(2));
+                assertEquals("b", comboBox.getSelectedItem());
+                assertEquals(2, events.size());
+                assertEquals(ListDataEvent.INTERVAL_ADDED, events.get(0).getType());
+                assertEquals(3, events.get(0).getIndex0());
+                assertEquals(ListDataEvent.INTERVAL_REMOVED, events.get(1).getType());
+                assertEquals(0, events.get(1).getIndex0());
+            }
+        });
+
+        // Changes to the new list are applied
+        bean.getStringList().add("e");
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(4, comboBox.getModel().getSize());
+                assertEquals("e", comboBox.getItemAt(3));
+            }
+        });
+
+        binding.unbind();
+    }
+
+    /**
+     * Test for {@link ListBinding#asyncModel(Object, org.jdesktop.beansbinding.Property, JComboBox)}. Verifies the
+     * selection is shown before the elements are loaded, the elements are loaded in chunks and type-ahead by prefix.
+     */
+    @Test
+    public void testAsyncModelComboBox() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final JComboBox comboBox = new JComboBox();
+        List<String> l = new ArrayList<String>();
+        for (int i = 0; i < 5000; i++) {
+            l.add(String.format("item%05d", Integer.valueOf(i)));
+        }
+        bean.setStringList(ObservableCollections.observableList(l));
+        bean.setString("item04500");
+
+        // Bind
+        BeanProperty<TestBean, List<String>> bP = BeanProperty.create("stringList");
+        AsyncComboBoxBinding<String, TestBean> binding = ListBinding.asyncModel(bean, bP, comboBox);
+        binding.bind();
+        BeanProperty<TestBean, String> bP2 = BeanProperty.create("string");
+        Binding<TestBean, String, JComboBox, String> selectionBinding = ListBinding.selection(bean, bP2, binding);
+        selectionBinding.bind();
+        final AsyncComboBoxModel<String> model = binding.getModel();
+
+        // The first chunk is loaded and the selection is shown
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertTrue(comboBox.getModel() == model);
+                assertTrue(model.getSize() > 0);
+                assertTrue(model.getSize() < 5000);
+                assertEquals("item04500", comboBox.getSelectedItem());
+            }
+        });
+        waitForLoad(model);
+
+        // Type-ahead loads the chunks up to the element
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(5000, model.getSize());
+                assertEquals(4321, model.indexOfPrefix("ITEM04321"));
+                assertEquals(-1, model.indexOfPrefix("x"));
+                // Selecting in the combo box updates the bean
+                comboBox.setSelectedIndex(10);
+                assertEquals("item00010", bean.getString());
+            }
+        });
+
+        // Changes of the list are applied to the elements and the index without reloading
+        List<String> list = bean.getStringList();
+        list.add(0, "first");
+        list.remove(4322);
+        list.set(2, "Second");
+        list.addAll(Arrays.asList("last1", "last2"));
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertFalse(model.isLoading());
+                assertEquals(5002, model.getSize());
+                assertEquals("first", model.getElementAt(0));
+                assertEquals("Second", model.getElementAt(2));
+                assertEquals("last2", model.getElementAt(5001));
+                assertEquals(0, model.indexOfPrefix("F"));
+                assertEquals(2, model.indexOfPrefix("second"));
+                assertEquals(-1, model.indexOfPrefix("item04321"));
+                assertEquals(4322, model.indexOfPrefix("item04322"));
+                assertEquals(5000, model.indexOfPrefix("last"));
+            }
+        });
+
+        // Replace the list, the selection is retained
+        bean.setStringList(ObservableCollections.observableList(new ArrayList<String>(Arrays.asList("x", "y"))));
+        waitForLoad(model);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(2, model.getSize());
+                assertEquals(1, model.indexOfPrefix("Y"));
+                assertEquals("item00010", comboBox.getSelectedItem());
+            }
+        });
+
+        selectionBinding.unbind();
+        binding.unbind();
+    }
+
+    private static void waitForLoad(final AsyncComboBoxModel<?> model) {
+        final boolean[] loading = new boolean[1];
+        for (int i = 0; i < 100; i++) {
+            TestUtils.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    loading[0] = model.isLoading();
+                }
+            });
+            if (!loading[0]) {
+                return;
+            }
+        }
+        fail("not loaded");
+    }
+
     /**
      * Test for {@link ListBinding#selection(Object, org.jdesktop.beansbinding.Property, JComboBox). Verifies binding
      * updates correctly in both directions.
@@ -155,38 +341,542 @@ public class ListBindingFunctionalTest {
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                assertEquals(value2, bean.getString());
+                assertEquals(value2, bean.getString());
+            }
+        });
+        comboBox.setSelectedItem(null);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(null, bean.getString());
+            }
+        });
+
+        // Unbind to ensure no error occurs
+        binding.unbind();
+    }
+
+    /**
+     * Test for {@link ListBinding#model(Object, org.jdesktop.beansbinding.Property, JTable, Map)}. Verifies binding in
+     * both directions.
+     */
+    @Test
+    public void testModelTable() {
+        // Setup
+        final JTable table = new JTable();
+        // The bean list must be set prior to binding for it to be bound to the list instance
+        final List<TestBean> l = new ArrayList<TestBean>();
+        final TestBean bean = new TestBean();
+        final Date date = Calendar.getInstance().getTime();
+        for (int i = 0; i < 3; i++) {
+            final TestBean b = new TestBean();
+            b.setString("value" + i);
+            b.setDate(date);
+            b.setDuble(Double.valueOf(i));
+            l.add(b);
+        }
+        final ObservableList<TestBean> list = ObservableCollections.observableList(l);
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        map.put("duble", "Double");
+        map.put("date", "Date");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        JTableBinding<TestBean, TestBean, JTable> binding = ListBinding.model(bean, bP, table, map);
+        binding.bind();
+
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
+                assertEquals(list.size(), table.getModel().getRowCount());
+                for (int i = 0; i < list.size(); i++) {
+                    TestBean entry = list.get(i);
+                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
+                    assertEquals(entry.getString(), table.getValueAt(i, 0));
+                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
+                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
+                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
+                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
+                }
+            }
+        });
+
+        // Add another entry into the list
+        int i = list.size();
+        final TestBean b = new TestBean();
+        b.setString("value" + i);
+        b.setDate(date);
+        b.setDuble(Double.valueOf(i));
+        list.add(b);
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
+                assertEquals(list.size(), table.getModel().getRowCount());
+                for (int i = 0; i < list.size(); i++) {
+                    TestBean entry = list.get(i);
+                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
+                    assertEquals(entry.getString(), table.getValueAt(i, 0));
+                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
+                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
+                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
+                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
+                }
+            }
+        });
+
+        // Remove an entry from the list
+        list.remove(0);
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
+                assertEquals(list.size(), table.getModel().getRowCount());
+                for (int i = 0; i < list.size(); i++) {
+                    TestBean entry = list.get(i);
+                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
+                    assertEquals(entry.getString(), table.getValueAt(i, 0));
+                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
+                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
+                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
+                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
+                }
+            }
+        });
+
+        // Change an entry in the list
+        TestBean change = list.get(0);
+        change.setDuble(Double.valueOf(10));
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
+                assertEquals(list.size(), table.getModel().getRowCount());
+                for (int i = 0; i < list.size(); i++) {
+                    TestBean entry = list.get(i);
+                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
+                    assertEquals(entry.getString(), table.getValueAt(i, 0));
+                    ListBindingFunctionalTest.this.logger.info("duble = " + entry.getDuble());
+                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
+                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
+                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
+                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
+                }
+            }
+        });
+
+        // Change an entry in the table
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                table.setValueAt(Double.valueOf(20), 0, 1);
+            }
+        });
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
+                assertEquals(list.size(), table.getModel().getRowCount());
+                for (int i = 0; i < list.size(); i++) {
+                    TestBean entry = list.get(i);
+                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
+                    assertEquals(entry.getString(), table.getValueAt(i, 0));
+                    ListBindingFunctionalTest.this.logger.info("duble = " + entry.getDuble());
+                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
+                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
+                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
+                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
+                }
+            }
+        });
+
+        // Changing the table model updates the bean! Do this test last.
+        table.setModel(new DefaultTableModel());
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertNull(bean.getStringList());
+                assertEquals(0, table.getModel().getRowCount());
+            }
+        });
+
+        // Unbind to ensure no error occurs (test will fail if it does)
+        binding.unbind();
+    }
+
+    /**
+     * Test for {@link ListBinding#model(Object, org.jdesktop.beansbinding.Property, JTable, Map, ListDiff)}. Verifies
+     * replacing the list of the bean updates the rows that differ (matched by key) and retains the selection.
+     */
+    @Test
+    public void testModelTableDiff() {
+        // Setup
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        bean.setTestBeans(ObservableCollections.observableList(createTestBeans("a", "b", "c")));
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        ListDiff<TestBean> diff = ListDiff.byKey(new ListDiff.Key<TestBean>() {
+            @Override
+            public Object getKey(TestBean element) {
+                return element.getString();
+            }
+        });
+        JTableBinding<TestBean, TestBean, JTable> binding = ListBinding.model(bean, bP, table, map, diff);
+        binding.bind();
+        final List<TableModelEvent> events = new ArrayList<TableModelEvent>();
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                table.getSelectionModel().setSelectionInterval(1, 1);
+                table.getModel().addTableModelListener(new TableModelListener() {
+                    @Override
+                    public void tableChanged(TableModelEvent e) {
+                        events.add(e);
+                    }
+                });
+            }
+        });
+
+        // Replace the list with new instances, "x" is inserted before "b"
+        final List<TestBean> l2 = createTestBeans("a", "x", "b", "c");
+        bean.setTestBeans(ObservableCollections.observableList(l2));
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(4, table.getModel().getRowCount());
+                for (int i = 0; i < l2.size(); i++) {
+                    assertEquals(l2.get(i).getString(), table.getValueAt(i, 0));
+                }
+                // The selected row "b" moved down
+                assertEquals(2, table.getSelectedRow());
+                // One insert and an update for each matched row, no change of the whole table
+                assertEquals(4, events.size());
+                assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+                assertEquals(1, events.get(0).getFirstRow());
+                for (TableModelEvent e : events) {
+                    assertTrue(e.getFirstRow() != TableModelEvent.HEADER_ROW);
+                    assertTrue(e.getLastRow() != Integer.MAX_VALUE);
+                }
+            }
+        });
+
+        binding.unbind();
+    }
+
+    /**
+     * Test for {@link ListBinding#sorter(JTableBinding)}. Verifies sorting and filtering a list large enough to be
+     * sorted in parallel and a row inserted while sorted.
+     */
+    @Test
+    public void testModelTableSorter() throws InterruptedException {
+        // Setup, values are a permutation of 0 to n - 1
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        final int n = BackgroundRowSorter.PARALLEL_THRESHOLD * 2;
+        List<TestBean> l = new ArrayList<TestBean>();
+        for (int i = 0; i < n; i++) {
+            TestBean b = new TestBean();
+            b.setIntegr(Integer.valueOf((i * 7919) % n));
+            l.add(b);
+        }
+        final ObservableList<TestBean> list = ObservableCollections.observableList(l);
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("integr", "Integer");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        JTableBinding<TestBean, TestBean, JTable> binding = ListBinding.model(bean, bP, table, map);
+        binding.bind();
+        final BackgroundRowSorter<TestBean> sorter = ListBinding.sorter(binding);
+
+        // Sort ascending
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                table.setRowSorter(sorter);
+                sorter.toggleSortOrder(0);
+            }
+        });
+        waitForSort(sorter);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(n, table.getRowCount());
+                for (int i = 0; i < n; i++) {
+                    assertEquals(Integer.valueOf(i), table.getValueAt(i, 0));
+                }
+            }
+        });
+
+        // Filter even values and sort descending
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                sorter.setFilter(new BackgroundRowSorter.Filter<TestBean>() {
+                    @Override
+                    public boolean include(TestBean element) {
+                        return element.getIntegr().intValue() % 2 == 0;
+                    }
+                });
+                sorter.toggleSortOrder(0);
+            }
+        });
+        waitForSort(sorter);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(n / 2, table.getRowCount());
+                for (int i = 0; i < n / 2; i++) {
+                    assertEquals(Integer.valueOf(n - 2 - 2 * i), table.getValueAt(i, 0));
+                }
+                table.getSelectionModel().setSelectionInterval(0, 0);
+            }
+        });
+
+        // Insert a row, it is shown at the end until sorted then first
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                TestBean b = new TestBean();
+                b.setIntegr(Integer.valueOf(n));
+                list.add(0, b);
+                assertEquals(n / 2 + 1, table.getRowCount());
+                assertEquals(Integer.valueOf(n), table.getValueAt(n / 2, 0));
+                assertEquals(Integer.valueOf(n - 2), table.getValueAt(0, 0));
+            }
+        });
+        waitForSort(sorter);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(n / 2 + 1, table.getRowCount());
+                assertEquals(Integer.valueOf(n), table.getValueAt(0, 0));
+                assertEquals(Integer.valueOf(n - 2), table.getValueAt(1, 0));
+                // The selection follows the element
+                assertEquals(1, table.getSelectedRow());
+            }
+        });
+
+        binding.unbind();
+    }
+
+    private static void waitForSort(final BackgroundRowSorter<?> sorter) throws InterruptedException {
+        final boolean[] sorting = new boolean[1];
+        for (int i = 0; i < 1000; i++) {
+            TestUtils.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    sorting[0] = sorter.isSorting();
+                }
+            });
+            if (!sorting[0]) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("not sorted");
+    }
+
+    private static List<TestBean> createTestBeans(String... strings) {
+        List<TestBean> l = new ArrayList<TestBean>();
+        for (String s : strings) {
+            TestBean b = new TestBean();
+            b.setString(s);
+            l.add(b);
+        }
+        return l;
+    }
+
+    /**
+     * Test for {@link ListBinding#virtualModel(Object, org.jdesktop.beansbinding.Property, JTable, Map)}. Verifies the
+     * table is updated from the list and only the rows requested from the model listen to their element.
+     */
+    @Test
+    public void testVirtualModelTable() {
+        // Setup
+        final JTable table = new JTable();
+        final TableModel originalModel = table.getModel();
+        final List<TestBean> l = new ArrayList<TestBean>();
+        final TestBean bean = new TestBean();
+        final Date date = Calendar.getInstance().getTime();
+        for (int i = 0; i < 1000; i++) {
+            final TestBean b = new TestBean();
+            b.setString("value" + i);
+            b.setDate(date);
+            b.setDuble(Double.valueOf(i));
+            l.add(b);
+        }
+        final ObservableList<TestBean> list = ObservableCollections.observableList(l);
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        map.put("duble", "Double");
+        map.put("date", "Date");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        VirtualTableBinding<TestBean, TestBean> binding = ListBinding.virtualModel(bean, bP, table, map);
+        binding.bind();
+
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(list.size(), table.getModel().getRowCount());
+                assertEquals(3, table.getModel().getColumnCount());
+                assertEquals("Double", table.getModel().getColumnName(1));
+                for (int i = 0; i < 3; i++) {
+                    TestBean entry = list.get(i);
+                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
+                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
+                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
+                    assertTrue(entry.getPropertyChangeListeners().length > 0);
+                }
+                // Rows not requested do not listen to their element
+                assertEquals(0, list.get(list.size() - 1).getPropertyChangeListeners().length);
+            }
+        });
+
+        // Add another entry into the list
+        final TestBean b = new TestBean();
+        b.setString("added");
+        list.add(0, b);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(list.size(), table.getModel().getRowCount());
+                // The cached rows are moved, not discarded
+                assertTrue(list.get(3).getPropertyChangeListeners().length > 0);
+                assertEquals("added", table.getModel().getValueAt(0, 0));
+                assertEquals(list.get(1).getString(), table.getModel().getValueAt(1, 0));
+            }
+        });
+
+        // Change an entry moved by the insert
+        list.get(3).setString("moved");
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals("moved", table.getModel().getValueAt(3, 0));
+            }
+        });
+
+        // Remove an entry from the list
+        list.remove(0);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(list.size(), table.getModel().getRowCount());
+                assertEquals(list.get(0).getString(), table.getModel().getValueAt(0, 0));
+                assertEquals(0, b.getPropertyChangeListeners().length);
+            }
+        });
+
+        // Change an entry in the list
+        list.get(0).setDuble(Double.valueOf(-1));
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(Double.valueOf(-1), table.getModel().getValueAt(0, 1));
+            }
+        });
+
+        // Replace the list
+        final List<TestBean> l2 = new ArrayList<TestBean>();
+        l2.add(b);
+        bean.setTestBeans(ObservableCollections.observableList(l2));
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(1, table.getModel().getRowCount());
+                assertEquals("added", table.getModel().getValueAt(0, 0));
+                assertEquals(0, list.get(0).getPropertyChangeListeners().length);
+            }
+        });
+
+        // Unbind restores the table model and removes the listeners
+        binding.unbind();
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(originalModel, table.getModel());
+                assertEquals(0, b.getPropertyChangeListeners().length);
+            }
+        });
+    }
+
+    /**
+     * Test for {@link ListBinding#virtualModel(Object, org.jdesktop.beansbinding.Property, JTable, Map, boolean)}.
+     * Verifies the values are read through accessors and a path is still resolved.
+     */
+    @Test
+    public void testVirtualModelAccessors() {
+        // Setup
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        final ObservableList<TestBean> list = ObservableCollections.observableList(createTestBeans("a", "b"));
+        list.get(1).setDate(new Date(1000L));
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        map.put("date.time", "Time");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        VirtualTableBinding<TestBean, TestBean> binding = ListBinding.virtualModel(bean, bP, table, map, true);
+        binding.bind();
+
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals("a", table.getModel().getValueAt(0, 0));
+                assertEquals(null, table.getModel().getValueAt(0, 1));
+                assertEquals("b", table.getModel().getValueAt(1, 0));
+                assertEquals(Long.valueOf(1000L), table.getModel().getValueAt(1, 1));
             }
         });
-        comboBox.setSelectedItem(null);
+
+        // Change an entry in the list
+        list.get(1).setString("c");
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                assertEquals(null, bean.getString());
+                assertEquals("c", table.getModel().getValueAt(1, 0));
             }
         });
-
-        // Unbind to ensure no error occurs
         binding.unbind();
     }
 
     /**
-     * Test for {@link ListBinding#model(Object, org.jdesktop.beansbinding.Property, JTable, Map)}. Verifies binding in
-     * both directions.
+     * Test for {@link ListBinding#columnarModel(Object, org.jdesktop.beansbinding.Property, JTable, Map)}. Verifies
+     * numeric columns are stored as primitives and refreshed from the list and its elements.
      */
     @Test
-    public void testModelTable() {
+    public void testColumnarModelTable() {
         // Setup
         final JTable table = new JTable();
-        // The bean list must be set prior to binding for it to be bound to the list instance
+        final TableModel originalModel = table.getModel();
         final List<TestBean> l = new ArrayList<TestBean>();
         final TestBean bean = new TestBean();
-        final Date date = Calendar.getInstance().getTime();
-        for (int i = 0; i < 3; i++) {
+        for (int i = 0; i < 100; i++) {
             final TestBean b = new TestBean();
             b.setString("value" + i);
-            b.setDate(date);
-            b.setDuble(Double.valueOf(i));
+            b.setIntegr(Integer.valueOf(i));
+            b.setDuble(i % 2 == 0 ? Double.valueOf(i) : null);
             l.add(b);
         }
         final ObservableList<TestBean> list = ObservableCollections.observableList(l);
@@ -195,134 +885,128 @@ public class ListBindingFunctionalTest {
         // Bind
         Map<String, String> map = new LinkedHashMap<String, String>();
         map.put("string", "String");
+        map.put("integr", "Integer");
         map.put("duble", "Double");
-        map.put("date", "Date");
         BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
-        JTableBinding<TestBean, TestBean, JTable> binding = ListBinding.model(bean, bP, table, map);
+        VirtualTableBinding<TestBean, TestBean> binding = ListBinding.columnarModel(bean, bP, table, map);
         binding.bind();
 
         // Test
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
-                assertEquals(list.size(), table.getModel().getRowCount());
+                ColumnarTableModel<?> model = (ColumnarTableModel<?>) table.getModel();
+                assertEquals(list.size(), model.getRowCount());
+                assertEquals(String.class, model.getColumnClass(0));
+                assertEquals(Integer.class, model.getColumnClass(1));
+                assertEquals(Double.class, model.getColumnClass(2));
                 for (int i = 0; i < list.size(); i++) {
                     TestBean entry = list.get(i);
-                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
-                    assertEquals(entry.getString(), table.getValueAt(i, 0));
-                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
-                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
-                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
-                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
+                    assertEquals(entry.getString(), model.getValueAt(i, 0));
+                    assertEquals(entry.getIntegr(), model.getValueAt(i, 1));
+                    assertEquals(entry.getIntegr().intValue(), model.getInt(i, 1));
+                    assertEquals(entry.getDuble(), model.getValueAt(i, 2));
+                    assertEquals(entry.getDuble() == null, model.isNull(i, 2));
                 }
+                assertEquals(4d, model.getDouble(4, 2), 0d);
             }
         });
 
         // Add another entry into the list
-        int i = list.size();
         final TestBean b = new TestBean();
-        b.setString("value" + i);
-        b.setDate(date);
-        b.setDuble(Double.valueOf(i));
-        list.add(b);
-        // Test
+        b.setIntegr(Integer.valueOf(-1));
+        list.add(0, b);
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
-                assertEquals(list.size(), table.getModel().getRowCount());
-                for (int i = 0; i < list.size(); i++) {
-                    TestBean entry = list.get(i);
-                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
-                    assertEquals(entry.getString(), table.getValueAt(i, 0));
-                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
-                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
-                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
-                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
-                }
+                ColumnarTableModel<?> model = (ColumnarTableModel<?>) table.getModel();
+                assertEquals(list.size(), model.getRowCount());
+                assertEquals(-1, model.getInt(0, 1));
+                assertEquals(0, model.getInt(1, 1));
             }
         });
 
-        // Remove an entry from the list
-        list.remove(0);
-        // Test
+        // Change entries, including one whose row moved
+        b.setIntegr(Integer.valueOf(-2));
+        list.get(10).setDuble(Double.valueOf(0.5));
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
-                assertEquals(list.size(), table.getModel().getRowCount());
-                for (int i = 0; i < list.size(); i++) {
-                    TestBean entry = list.get(i);
-                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
-                    assertEquals(entry.getString(), table.getValueAt(i, 0));
-                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
-                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
-                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
-                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
-                }
+                ColumnarTableModel<?> model = (ColumnarTableModel<?>) table.getModel();
+                assertEquals(-2, model.getInt(0, 1));
+                assertEquals(0.5d, model.getDouble(10, 2), 0d);
             }
         });
 
-        // Change an entry in the list
-        TestBean change = list.get(0);
-        change.setDuble(Double.valueOf(10));
-        // Test
+        // Remove an entry from the list
+        list.remove(0);
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
                 assertEquals(list.size(), table.getModel().getRowCount());
-                for (int i = 0; i < list.size(); i++) {
-                    TestBean entry = list.get(i);
-                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
-                    assertEquals(entry.getString(), table.getValueAt(i, 0));
-                    ListBindingFunctionalTest.this.logger.info("duble = " + entry.getDuble());
-                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
-                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
-                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
-                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
-                }
+                assertEquals(Integer.valueOf(0), table.getModel().getValueAt(0, 1));
+                assertEquals(0, b.getPropertyChangeListeners().length);
             }
         });
 
-        // Change an entry in the table
+        // Unbind
+        binding.unbind();
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                table.setValueAt(Double.valueOf(20), 0, 1);
+                assertTrue(table.getModel() == originalModel);
+                assertEquals(0, list.get(0).getPropertyChangeListeners().length);
             }
         });
-        // Test
+    }
+
+    /**
+     * Test for {@link ListBinding#columnarModel(Object, org.jdesktop.beansbinding.Property, JTable, Map)} of a list that
+     * notifies the property changes of its elements. Verifies the elements are not listened to and a change is applied
+     * once.
+     */
+    @Test
+    public void testColumnarModelElementPropertyChanged() {
+        // Setup
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        final ObservableCollections.ObservableListHelper<TestBean> helper = ObservableCollections
+                        .observableListHelper(createTestBeans("a", "b"));
+        final ObservableList<TestBean> list = helper.getObservableList();
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        VirtualTableBinding<TestBean, TestBean> binding = ListBinding.columnarModel(bean, bP, table, map);
+        binding.bind();
+        final List<TableModelEvent> events = new ArrayList<TableModelEvent>();
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                ListBindingFunctionalTest.this.logger.info("size = " + list.size());
-                assertEquals(list.size(), table.getModel().getRowCount());
-                for (int i = 0; i < list.size(); i++) {
-                    TestBean entry = list.get(i);
-                    assertEquals(entry.getString(), table.getModel().getValueAt(i, 0));
-                    assertEquals(entry.getString(), table.getValueAt(i, 0));
-                    ListBindingFunctionalTest.this.logger.info("duble = " + entry.getDuble());
-                    assertEquals(entry.getDuble(), table.getModel().getValueAt(i, 1));
-                    assertEquals(entry.getDuble(), table.getValueAt(i, 1));
-                    assertEquals(entry.getDate(), table.getModel().getValueAt(i, 2));
-                    assertEquals(entry.getDate(), table.getValueAt(i, 2));
-                }
+                assertEquals(0, list.get(0).getPropertyChangeListeners().length);
+                table.getModel().addTableModelListener(new TableModelListener() {
+                    @Override
+                    public void tableChanged(TableModelEvent e) {
+                        events.add(e);
+                    }
+                });
             }
         });
 
-        // Changing the table model updates the bean! Do this test last.
-        table.setModel(new DefaultTableModel());
+        // Change an element and notify the change through the list
         TestUtils.invokeAndWait(new Runnable() {
             @Override
             public void run() {
-                assertNull(bean.getStringList());
-                assertEquals(0, table.getModel().getRowCount());
+                list.get(1).setString("c");
+                assertEquals("b", table.getModel().getValueAt(1, 0));
+                helper.fireElementChanged(1);
+                assertEquals("c", table.getModel().getValueAt(1, 0));
+                assertEquals(1, events.size());
+                assertEquals(1, events.get(0).getFirstRow());
             }
         });
-
-        // Unbind to ensure no error occurs (test will fail if it does)
         binding.unbind();
     }
 
@@ -525,4 +1209,274 @@ public class ListBindingFunctionalTest {
         listBinding.unbind();
         selectionBinding.unbind();
     }
+
+    /**
+     * Test for {@link ListBinding#selection(Object, org.jdesktop.beansbinding.Property, Binding)}. Verifies the bean
+     * property is a live view of the selection that notifies changes, and the table selection follows the bean.
+     */
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void testSelectionTableView() {
+        // Setup
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        final ObservableList<TestBean> list = ObservableCollections.observableList(createTestBeans("a", "b", "c",
+                        "d", "e"));
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        JTableBinding<TestBean, TestBean, JTable> listBinding = ListBinding.model(bean, bP, table, map);
+        listBinding.bind();
+        BeanProperty<TestBean, List<TestBean>> bP2 = BeanProperty.create("testBeansSelected");
+        Binding<JTable, List<TestBean>, TestBean, List<TestBean>> selectionBinding = ListBinding.selection(bean, bP2,
+                        listBinding);
+        selectionBinding.bind();
+        assertFalse(table.getSelectionModel() instanceof BitSetSelectionModel);
+        final ObservableList<TestBean> view = bean.getTestBeansSelected();
+        final List<String> events = new ArrayList<String>();
+        view.addObservableListListener(new ObservableListListener() {
+            @Override
+            public void listElementsAdded(ObservableList list, int index, int length) {
+                events.add("added " + index + " " + length);
+            }
+
+            @Override
+            public void listElementsRemoved(ObservableList list, int index, List oldElements) {
+                events.add("removed " + index + " " + oldElements.size());
+            }
+
+            @Override
+            public void listElementReplaced(ObservableList list, int index, Object oldElement) {
+                events.add("replaced " + index);
+            }
+
+            @Override
+            public void listElementPropertyChanged(ObservableList list, int index) {
+                events.add("changed " + index);
+            }
+        });
+
+        // Select rows in the table, the view notifies the rows selected and deselected
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(0, view.size());
+                table.selectAll();
+                assertEquals(list.size(), view.size());
+                assertEquals(Arrays.asList("added 0 5"), events);
+                table.getSelectionModel().removeSelectionInterval(1, 2);
+                assertEquals(Arrays.asList(list.get(0), list.get(3), list.get(4)), view);
+                assertEquals("removed 1 2", events.get(1));
+                // The bean property is not replaced
+                assertTrue(bean.getTestBeansSelected() == view);
+            }
+        });
+
+        // Change the view, the table selection follows
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                view.clear();
+                assertEquals(0, table.getSelectedRowCount());
+                view.add(list.get(2));
+                assertEquals(2, table.getSelectedRow());
+                assertEquals(1, view.size());
+            }
+        });
+
+        // Set the bean property to another list, the rows of its elements are selected
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                bean.setTestBeansSelected(ObservableCollections.observableList(Arrays.asList(list.get(1),
+                                list.get(4))));
+                assertEquals(2, table.getSelectedRowCount());
+                assertTrue(table.isRowSelected(1));
+                assertTrue(table.isRowSelected(4));
+            }
+        });
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                // Then the bean property is the view again
+                assertTrue(bean.getTestBeansSelected() == view);
+                assertEquals(Arrays.asList(list.get(1), list.get(4)), view);
+            }
+        });
+
+        selectionBinding.unbind();
+        listBinding.unbind();
+    }
+
+    /**
+     * Test for {@link ListBinding#selection(Object, org.jdesktop.beansbinding.Property, Binding)}. Verifies the table
+     * selection model is replaced with a {@link BitSetSelectionModel}, a selection set from the bean is applied as a
+     * single change, and rows removed or replaced in the model are notified by the selection view.
+     */
+    @Test
+    public void testSelectionTableBitSet() {
+        // Setup
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        String[] strings = new String[10000];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = Integer.toString(i);
+        }
+        final ObservableList<TestBean> list = ObservableCollections.observableList(createTestBeans(strings));
+        bean.setTestBeans(list);
+
+        // Bind, the table selection model is replaced
+        final ListSelectionModel original = table.getSelectionModel();
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        JTableBinding<TestBean, TestBean, JTable> listBinding = ListBinding.model(bean, bP, table, map);
+        listBinding.bind();
+        BeanProperty<TestBean, List<TestBean>> bP2 = BeanProperty.create("testBeansSelected");
+        Binding<JTable, List<TestBean>, TestBean, List<TestBean>> selectionBinding = ListBinding.selection(bean, bP2,
+                        listBinding, true);
+        selectionBinding.bind();
+        assertTrue(table.getSelectionModel() instanceof BitSetSelectionModel);
+        final ObservableList<TestBean> view = bean.getTestBeansSelected();
+        final int[] events = new int[1];
+        table.getSelectionModel().addListSelectionListener(new ListSelectionListener() {
+            @Override
+            public void valueChanged(ListSelectionEvent e) {
+                events[0]++;
+            }
+        });
+
+        // Set the bean property to every other element, selected as a single change
+        final List<TestBean> selected = new ArrayList<TestBean>();
+        for (int i = 0; i < list.size(); i += 2) {
+            selected.add(list.get(i));
+        }
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                bean.setTestBeansSelected(ObservableCollections.observableList(selected));
+                assertEquals(1, events[0]);
+                assertEquals(selected.size(), table.getSelectedRowCount());
+                assertTrue(table.isRowSelected(9998));
+                assertFalse(table.isRowSelected(9999));
+            }
+        });
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertTrue(bean.getTestBeansSelected() == view);
+                assertEquals(selected, view);
+            }
+        });
+
+        // Rows removed from the model are removed from the selection, the rows after are shifted and not notified
+        final List<String> viewEvents = new ArrayList<String>();
+        final List<Object> oldElements = new ArrayList<Object>();
+        view.addObservableListListener(new ObservableListListener() {
+            @Override
+            public void listElementsAdded(ObservableList l, int index, int length) {
+                viewEvents.add("added " + index + " " + length);
+            }
+
+            @Override
+            public void listElementsRemoved(ObservableList l, int index, List removed) {
+                viewEvents.add("removed " + index + " " + removed.size());
+                oldElements.addAll(removed);
+            }
+
+            @Override
+            public void listElementReplaced(ObservableList l, int index, Object oldElement) {
+                viewEvents.add("replaced " + index);
+                oldElements.add(oldElement);
+            }
+
+            @Override
+            public void listElementPropertyChanged(ObservableList l, int index) {
+                viewEvents.add("changed " + index);
+            }
+        });
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                TestBean first = list.get(0);
+                list.remove(0);
+                assertEquals(selected.size() - 1, view.size());
+                assertTrue(table.isRowSelected(1));
+                assertFalse(table.isRowSelected(0));
+                assertEquals(Arrays.asList("removed 0 1"), viewEvents);
+                assertEquals(Arrays.asList(first), oldElements);
+                assertEquals(selected.subList(1, selected.size()), view);
+            }
+        });
+
+        // An element of a selected row replaced in the model is notified as replaced
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                viewEvents.clear();
+                oldElements.clear();
+                TestBean old = list.get(1);
+                TestBean replacement = createTestBeans("x").get(0);
+                list.set(1, replacement);
+                assertEquals(Arrays.asList("replaced 0"), viewEvents);
+                assertEquals(Arrays.asList(old), oldElements);
+                assertTrue(view.get(0) == replacement);
+            }
+        });
+
+        // Unbind, the original selection model is restored with the selection
+        final int count = table.getSelectedRowCount();
+        selectionBinding.unbind();
+        assertTrue(table.getSelectionModel() == original);
+        assertEquals(count, table.getSelectedRowCount());
+        assertTrue(table.isRowSelected(1));
+        listBinding.unbind();
+    }
+
+    /**
+     * Test for {@link ListBinding#scrollToElement(Binding, Object)}. Verifies the row of an element is found by
+     * identity and follows elements added, removed and replaced in the list, -1 for an element not in the list.
+     */
+    @Test
+    public void testScrollToElement() {
+        // Setup
+        final JTable table = new JTable();
+        final TestBean bean = new TestBean();
+        final ObservableList<TestBean> list = ObservableCollections.observableList(createTestBeans("a", "b", "c",
+                        "d", "e"));
+        bean.setTestBeans(list);
+
+        // Bind
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        map.put("string", "String");
+        BeanProperty<TestBean, List<TestBean>> bP = BeanProperty.create("testBeans");
+        final JTableBinding<TestBean, TestBean, JTable> listBinding = ListBinding.model(bean, bP, table, map);
+        listBinding.bind();
+
+        // The rows of elements follow the changes of the list
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                TestBean c = list.get(2);
+                assertEquals(2, ListBinding.scrollToElement(listBinding, c));
+                list.add(0, new TestBean());
+                assertEquals(3, ListBinding.scrollToElement(listBinding, c));
+                list.remove(1);
+                assertEquals(2, ListBinding.scrollToElement(listBinding, c));
+                TestBean e = list.get(4);
+                list.set(2, e);
+                assertEquals(2, ListBinding.scrollToElement(listBinding, e));
+                assertEquals(-1, ListBinding.scrollToElement(listBinding, c));
+                list.remove(2);
+                assertEquals(3, ListBinding.scrollToElement(listBinding, e));
+                assertEquals(-1, ListBinding.scrollToElement(listBinding, new TestBean()));
+            }
+        });
+
+        listBinding.unbind();
+    }
+
 }
@@ -0,0 +1,183 @@
+package com.swing.binding.bbb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Locale;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+
+import org.junit.Test;
+
+/**
+ * Tests the functionality of {@link NumberText}, the parsing of the boundaries of the types and of the notations
+ * accepted, and the caches of small values.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public class NumberTextFunctionalTest {
+
+    private static final NumberText US = NumberText.getInstance(Locale.US);
+    private static final NumberText GERMAN = NumberText.getInstance(Locale.GERMANY);
+
+    /**
+     * Test the boundaries of {@code int} and {@code long}, a value that overflows the type is invalid.
+     */
+    @Test
+    public void testParseOverflow() throws BadLocationException {
+        NumberText.Parser ints = US.new Parser(Integer.class, false);
+        assertLong(Integer.MAX_VALUE, ints, "2147483647");
+        assertInvalid(ints, "2147483648");
+        assertLong(Integer.MIN_VALUE, ints, "-2147483648");
+        assertInvalid(ints, "-2147483649");
+
+        NumberText.Parser longs = US.new Parser(Long.class, false);
+        assertLong(Long.MAX_VALUE, longs, "9223372036854775807");
+        assertInvalid(longs, "9223372036854775808");
+        assertLong(Long.MIN_VALUE, longs, "-9223372036854775808");
+        assertInvalid(longs, "-9223372036854775809");
+        assertInvalid(longs, "99999999999999999999");
+
+        assertEquals("-9223372036854775808", US.format(Long.valueOf(Long.MIN_VALUE), false));
+        assertEquals("-9,223,372,036,854,775,808", US.format(Long.valueOf(Long.MIN_VALUE), true));
+        assertEquals("9.223.372.036.854.775.807", GERMAN.format(Long.valueOf(Long.MAX_VALUE), true));
+    }
+
+    /**
+     * Test exponents, and "NaN" and "Infinity" are not parsed (an exponent that overflows is infinite, as per
+     * {@link Double#valueOf(String)}).
+     */
+    @Test
+    public void testParseExponent() throws BadLocationException {
+        NumberText.Parser doubles = US.new Parser(Double.class, false);
+        assertDouble(1000d, doubles, "1e3");
+        assertDouble(1000d, doubles, "1E+3");
+        assertDouble(0.0015d, doubles, "1.5E-3");
+        assertDouble(-2.5e10d, doubles, " -2.5e10 ");
+        assertDouble(Double.POSITIVE_INFINITY, doubles, "1e400");
+        assertDouble(0d, doubles, "1e-400");
+        assertInvalid(doubles, "1e");
+        assertInvalid(doubles, "1e+");
+        assertInvalid(doubles, "e3");
+        assertInvalid(doubles, "1e3.5");
+        assertInvalid(doubles, "NaN");
+        assertInvalid(doubles, "Infinity");
+        assertInvalid(doubles, "-Infinity");
+        // Integers have no exponent
+        assertInvalid(US.new Parser(Long.class, false), "1e3");
+
+        assertEquals("NaN", US.format(Double.valueOf(Double.NaN), true));
+        assertEquals("Infinity", US.format(Double.valueOf(Double.POSITIVE_INFINITY), true));
+        assertEquals("-Infinity", GERMAN.format(Double.valueOf(Double.NEGATIVE_INFINITY), true));
+    }
+
+    /**
+     * Test grouping separators are accepted between the digits of the integer part only, and only when grouping.
+     */
+    @Test
+    public void testParseGrouping() throws BadLocationException {
+        NumberText.Parser grouped = US.new Parser(Long.class, true);
+        assertLong(1000L, grouped, "1,000");
+        assertLong(-1234567L, grouped, "-1,234,567");
+        // The size of a group is not checked
+        assertLong(100L, grouped, "1,00");
+        assertInvalid(grouped, ",100");
+        assertInvalid(grouped, "-,100");
+        assertInvalid(grouped, "100,");
+        assertInvalid(grouped, "1,,000");
+        assertInvalid(US.new Parser(Long.class, false), "1,000");
+
+        NumberText.Parser doubles = GERMAN.new Parser(Double.class, true);
+        assertDouble(1000.5d, doubles, "1.000,5");
+        assertInvalid(doubles, "1,000.5");
+        assertInvalid(doubles, "1,5.0");
+        assertDouble(1000000d, doubles, "1.000e3");
+        assertInvalid(doubles, ".5");
+
+        // A locale that groups with a no-break space accepts a space
+        NumberText french = NumberText.getInstance(Locale.FRANCE);
+        NumberText.Parser spaced = french.new Parser(Long.class, true);
+        assertLong(1000000L, spaced, "1 000 000");
+        assertLong(1000L, spaced, "1 000 ");
+    }
+
+    /**
+     * Test the values computed exactly (at most 15 digits and a power of ten up to 22) and the values either side of
+     * the limits are the values of {@link Double#parseDouble(String)}.
+     */
+    @Test
+    public void testParseExactLimits() throws BadLocationException {
+        NumberText.Parser doubles = US.new Parser(Double.class, false);
+        String[] texts = { "0.1", "0.3", "123456789012345", "1234567890123456", "999999999999999e22",
+                "999999999999999e23", "1e22", "1e23", "1e-22", "1e-23", "123456789012345e-22", "9007199254740993",
+                "9007199254740993.0", "0.000000000000000000000000001", "123456789012345678901234567890",
+                "1000000000000000000000", "4.9e-324", "1.7976931348623157e308", "2.2250738585072014E-308" };
+        for (String text : texts) {
+            assertDouble(Double.parseDouble(text), doubles, text);
+            assertDouble(-Double.parseDouble(text), doubles, "-" + text);
+        }
+    }
+
+    /**
+     * Test the boundaries of the caches of small integers, {@code [-1000, 1000)}.
+     */
+    @Test
+    public void testSmallCache() {
+        assertSame(NumberText.box(-1000, Integer.class), NumberText.box(-1000, Integer.class));
+        assertSame(NumberText.box(999, Long.class), NumberText.box(999, Long.class));
+        assertEquals(Integer.valueOf(-1001), NumberText.box(-1001, Integer.class));
+        assertEquals(Integer.valueOf(1000), NumberText.box(1000, Integer.class));
+        assertEquals(Long.valueOf(1000), NumberText.box(1000, Long.class));
+        assertTrue(NumberText.box(-1000, Long.class) instanceof Long);
+
+        // Less than four digits is cached, the same text grouped or not
+        assertSame(US.format(Integer.valueOf(999), false), US.format(Integer.valueOf(999), true));
+        assertSame(US.format(Integer.valueOf(-999), false), US.format(Long.valueOf(-999), true));
+        assertEquals("-999", US.format(Integer.valueOf(-999), true));
+        assertEquals("1,000", US.format(Integer.valueOf(1000), true));
+        assertEquals("1000", US.format(Integer.valueOf(1000), false));
+        assertEquals("-1,000", US.format(Integer.valueOf(-1000), true));
+        assertEquals("-1000", US.format(Integer.valueOf(-1000), false));
+    }
+
+    /**
+     * Test doubles are formatted in plain notation below 1e21, so they are grouped.
+     */
+    @Test
+    public void testFormatDouble() {
+        assertEquals("12.345.678,0", GERMAN.format(Double.valueOf(1.2345678E7), true));
+        assertEquals("12345678,9", GERMAN.format(Double.valueOf(12345678.9), false));
+        assertEquals("10000000.0", US.format(Double.valueOf(1.0E7), false));
+        assertEquals("-100,000,000,000,000,000,000.0", US.format(Double.valueOf(-1.0E20), true));
+        assertEquals("1.0E21", US.format(Double.valueOf(1.0E21), true));
+        assertEquals("1,0E-4", GERMAN.format(Double.valueOf(1.0E-4), true));
+        assertEquals("999,5", GERMAN.format(Double.valueOf(999.5), true));
+        assertEquals("0.001", US.format(Double.valueOf(0.001), true));
+    }
+
+    private static void assertLong(long expected, NumberText.Parser parser, String text)
+                    throws BadLocationException {
+        assertEquals(text, NumberText.Parser.VALID, parser.parse(document(text)));
+        assertEquals(text, expected, parser.longValue());
+    }
+
+    private static void assertDouble(double expected, NumberText.Parser parser, String text)
+                    throws BadLocationException {
+        assertEquals(text, NumberText.Parser.VALID, parser.parse(document(text)));
+        assertEquals(text, Double.doubleToLongBits(expected), Double.doubleToLongBits(parser.doubleValue()));
+    }
+
+    private static void assertInvalid(NumberText.Parser parser, String text) throws BadLocationException {
+        assertEquals(text, NumberText.Parser.INVALID, parser.parse(document(text)));
+    }
+
+    private static PlainDocument document(String text) throws BadLocationException {
+        PlainDocument document = new PlainDocument();
+        document.insertString(0, text, null);
+        return document;
+    }
+
+}
@@ -2,8 +2,12 @@ package com.swing.binding.bbb;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+import java.util.List;
+
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
+import javax.swing.JLabel;
 import javax.swing.JTextField;
 import javax.swing.text.JTextComponent;
 
@@ -610,4 +614,64 @@ public class StateBindingFunctionalTest {
         binding.unbind();
     }
 
+    /**
+     * Test {@link StateBinding#group(Object, List, StateGroup)} where the
+     * bean properties are {@link Boolean} and primitive {@code boolean}, only
+     * the components of the flags that changed are updated.
+     */
+    @Test
+    public void testGroupFlags() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final JTextField textField = new JTextField();
+        final JLabel label = new JLabel();
+        final StateGroup group = new StateGroup().editable(textField, 0).enabled(label, 0).visible(label, 1);
+
+        // Bind
+        Property<TestBean, Boolean> state = BeanProperty.create("state");
+        Property<TestBean, Boolean> statePrimitive = BeanProperty.create("statePrimitive");
+        List<Property<TestBean, Boolean>> flags = Arrays.asList(state, statePrimitive);
+        Binding<TestBean, Long, StateGroup, Long> binding = StateBinding.group(bean, flags, group);
+        binding.bind();
+
+        // Test
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(0L, group.getMask());
+                assertEquals(false, textField.isEditable());
+                assertEquals(false, label.isEnabled());
+                assertEquals(false, label.isVisible());
+            }
+        });
+
+        // Update the bean values
+        bean.setState(true);
+        bean.setStatePrimitive(true);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(3L, group.getMask());
+                assertEquals(true, textField.isEditable());
+                assertEquals(true, label.isEnabled());
+                assertEquals(true, label.isVisible());
+            }
+        });
+        // Reverse the state via the component, a change of another flag does
+        // not update it
+        textField.setEditable(false);
+        bean.setStatePrimitive(false);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(1L, group.getMask());
+                assertEquals(false, textField.isEditable());
+                assertEquals(false, label.isVisible());
+            }
+        });
+
+        // Unbind to ensure no error occurs
+        binding.unbind();
+    }
+
 }
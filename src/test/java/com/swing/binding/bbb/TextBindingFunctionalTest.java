@@ -1,17 +1,30 @@
 package com.swing.binding.bbb;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.math.BigDecimal;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 
 import javax.swing.JComponent;
 import javax.swing.JLabel;
+import javax.swing.JTextArea;
 import javax.swing.JTextField;
+import javax.swing.text.BadLocationException;
 
 import org.jdesktop.beansbinding.Binding;
+import org.jdesktop.beansbinding.Converter;
 import org.junit.Test;
 
 import com.swing.test.TestUtils;
@@ -458,4 +471,356 @@ public class TextBindingFunctionalTest {
         binding.unbind();
     }
 
+    /**
+     * Test {@link TextBinding#text(Object, org.jdesktop.beansbinding.Property, JLabel)} when the bean is updated many
+     * times outside of the EDT, the label must reflect the last value.
+     */
+    @Test
+    public void testBindTextJLabelCoalesceUpdates() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final JLabel label = new JLabel();
+
+        // Bind
+        Binding<TestBean, Integer, JComponent, String> binding = TextBinding.text(bean, Properties.INTEGER, label);
+        binding.bind();
+
+        // Update the bean value repeatedly (the test does not run in the EDT)
+        final int count = 1000;
+        for (int i = 1; i <= count; i++) {
+            bean.setIntegr(Integer.valueOf(i));
+        }
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(String.valueOf(count), label.getText());
+            }
+        });
+
+        // Unbind to ensure no error occurs
+        binding.unbind();
+    }
+
+    /**
+     * Test {@link TextBinding#text(Object, org.jdesktop.beansbinding.Property, javax.swing.text.JTextComponent,
+     * TextBinding.WriteBack, int)} with {@link TextBinding.WriteBack#DEBOUNCED}, changes of the text are written to
+     * the bean once after the delay. The delay is not waited for, the {@link DebounceTimer} is flushed.
+     */
+    @Test
+    public void testTextJTextFieldDebounced() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final JTextField textField = new JTextField();
+        final List<Object> values = new ArrayList<Object>();
+        bean.addPropertyChangeListener("string", new PropertyChangeListener() {
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                values.add(evt.getNewValue());
+            }
+        });
+
+        // Bind
+        Binding<TestBean, String, JComponent, String> binding = TextBinding.text(bean, Properties.STRING, textField,
+                        TextBinding.WriteBack.DEBOUNCED, 60000);
+        binding.bind();
+
+        // Type, the bean is not updated until the delay has passed
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                textField.setText("v");
+                textField.setText("va");
+                textField.setText("val");
+                assertEquals(null, bean.getString());
+                assertEquals(1, DebounceTimer.getInstance().flush());
+                assertEquals("val", bean.getString());
+                assertEquals(Arrays.asList("val"), values);
+            }
+        });
+
+        // Update the bean value, the text field is updated and the bean is not written back
+        bean.setString("value");
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(0, DebounceTimer.getInstance().flush());
+                assertEquals("value", textField.getText());
+                assertEquals(Arrays.asList("val", "value"), values);
+            }
+        });
+
+        // Type then unbind before the delay has passed, the pending change is written
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                textField.setText("last");
+            }
+        });
+        binding.unbind();
+        assertEquals("last", bean.getString());
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                // Nothing is pending, the task is cancelled or does nothing
+                DebounceTimer.getInstance().flush();
+                assertEquals(Arrays.asList("val", "value", "last"), values);
+            }
+        });
+    }
+
+    /**
+     * Test {@link TextBinding#text(Object, org.jdesktop.beansbinding.Property, javax.swing.text.JTextComponent,
+     * TextBinding.WriteBack)} with {@link TextBinding.WriteBack#COMMIT}, the text is written to the bean when Enter is
+     * pressed.
+     */
+    @Test
+    public void testTextJTextFieldCommit() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final JTextField textField = new JTextField();
+
+        // Bind
+        Binding<TestBean, Integer, JComponent, String> binding = TextBinding.text(bean, Properties.INTEGER, textField,
+                        TextBinding.WriteBack.COMMIT);
+        binding.bind();
+
+        // Type then commit
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                textField.setText("12");
+                assertEquals(null, bean.getIntegr());
+                textField.postActionEvent();
+                assertEquals(Integer.valueOf(12), bean.getIntegr());
+            }
+        });
+
+        // Unbind to ensure no error occurs
+        binding.unbind();
+    }
+
+    /**
+     * Test the converter of {@link TextBinding#text(Object, org.jdesktop.beansbinding.Property, JComponent, DateFormat)}
+     * converting in many threads at once with the same format.
+     */
+    @Test
+    public void testDateConverterConcurrent() throws InterruptedException {
+        final Converter<Date, String> converter = Converter2.newDateString(DateFormat
+                        .getDateInstance(DateFormat.SHORT));
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        Calendar c = Calendar.getInstance();
+                        for (int i = 0; i < 2000; i++) {
+                            c.clear();
+                            c.set(2000 + offset, i % 12, 1 + i % 28);
+                            Date date = c.getTime();
+                            String text = converter.convertForward(date);
+                            assertEquals(date, converter.convertReverse(text));
+                            assertEquals(null, converter.convertReverse("x" + text));
+                        }
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Collections.emptyList(), errors);
+    }
+
+    /**
+     * Test {@link ConverterRegistry} finds the converter of the nearest supertype, of the wrapper of a primitive type
+     * and a converter registered later.
+     */
+    @Test
+    public void testConverterRegistry() {
+        ConverterRegistry registry = ConverterRegistry.getDefault();
+        assertEquals("12", registry.get(Integer.class, String.class).convertForward(Integer.valueOf(12)));
+        assertEquals(Integer.valueOf(12), registry.get(Integer.TYPE, String.class).convertReverse("12"));
+        assertEquals(new BigDecimal("1.50"), registry.get(BigDecimal.class, String.class).convertReverse("1.50"));
+        assertNotNull(registry.get(java.sql.Timestamp.class, String.class));
+        assertNull(registry.get(String.class, String.class));
+
+        // A registered converter replaces the cached lookup
+        registry = new ConverterRegistry();
+        assertNull(registry.get(StringBuilder.class, String.class));
+        registry.register(CharSequence.class, String.class, new Converter<CharSequence, String>() {
+            @Override
+            public String convertForward(CharSequence value) {
+                return value.toString();
+            }
+
+            @Override
+            public CharSequence convertReverse(String value) {
+                return new StringBuilder(value);
+            }
+        });
+        assertEquals("a", registry.get(StringBuilder.class, String.class).convertForward(new StringBuilder("a")));
+    }
+
+    /**
+     * Test the date converter of the default {@link ConverterRegistry} formats with the default locale at the time of
+     * the conversion.
+     */
+    @Test
+    public void testConverterRegistryDefaultLocale() {
+        Converter<Date, String> converter = ConverterRegistry.getDefault().get(Date.class, String.class);
+        Date date = new Date();
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.US);
+            assertEquals(DateFormat.getDateInstance(DateFormat.DEFAULT, Locale.US).format(date),
+                            converter.convertForward(date));
+            Locale.setDefault(Locale.GERMANY);
+            assertEquals(DateFormat.getDateInstance(DateFormat.DEFAULT, Locale.GERMANY).format(date),
+                            converter.convertForward(date));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    /**
+     * Test {@link TextBinding#number(Object, org.jdesktop.beansbinding.Property, javax.swing.text.JTextComponent,
+     * Locale, boolean)} for a {@link JTextField} and properties of type {@link Integer} and {@link Double}.
+     */
+    @Test
+    public void testNumberJTextField() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final JTextField integerField = new JTextField();
+        final JTextField doubleField = new JTextField();
+
+        // Bind
+        Binding<TestBean, Integer, JComponent, Integer> integerBinding = TextBinding.number(bean, Properties.INTEGER,
+                        integerField, Locale.US, true);
+        integerBinding.bind();
+        Binding<TestBean, Double, JComponent, Double> doubleBinding = TextBinding.number(bean, Properties.DOUBLE,
+                        doubleField, Locale.GERMANY, false);
+        doubleBinding.bind();
+
+        // Update the bean values
+        bean.setIntegr(1234567);
+        bean.setDuble(-1.5);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals("1,234,567", integerField.getText());
+                assertEquals("-1,5", doubleField.getText());
+            }
+        });
+
+        // Update the text fields
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                integerField.setText(" 2,000 ");
+                assertEquals(Integer.valueOf(2000), bean.getIntegr());
+                doubleField.setText("0,25");
+                assertEquals(Double.valueOf(0.25), bean.getDuble());
+
+                // Text that is not a number is not written
+                integerField.setText("2,000x");
+                assertEquals(Integer.valueOf(2000), bean.getIntegr());
+                doubleField.setText("0.25");
+                assertEquals(Double.valueOf(0.25), bean.getDuble());
+
+                // Empty text is null, a removal is written after the EDT checks it is not replaced
+                integerField.setText("");
+            }
+        });
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertNull(bean.getIntegr());
+            }
+        });
+
+        // A value equal to the number in the text does not replace the text
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                doubleField.setText("1,50");
+                assertEquals(Double.valueOf(1.5), bean.getDuble());
+            }
+        });
+        bean.setDuble(1.5);
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals("1,50", doubleField.getText());
+            }
+        });
+
+        // Unbind to ensure no error occurs
+        integerBinding.unbind();
+        doubleBinding.unbind();
+    }
+
+    /**
+     * Test {@link TextBinding#buffer(Object, org.jdesktop.beansbinding.Property, javax.swing.text.JTextComponent)}, the
+     * edits of the document and the changes of the buffer are applied to the other.
+     */
+    @Test
+    public void testBufferJTextArea() {
+        // Setup
+        final TestBean bean = new TestBean();
+        final TextBuffer buffer = new TextBuffer("hello");
+        bean.setTextBuffer(buffer);
+        final JTextArea textArea = new JTextArea("replaced");
+
+        // Bind
+        TextBufferBinding<TestBean> binding = TextBinding.buffer(bean, Properties.TEXT_BUFFER, textArea);
+        binding.bind();
+
+        // Edit the document and the buffer in the EDT
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals("hello", textArea.getText());
+                try {
+                    textArea.getDocument().insertString(5, " world", null);
+                } catch (BadLocationException e) {
+                    throw new IllegalStateException(e);
+                }
+                assertEquals("hello world", buffer.toString());
+                buffer.replace(0, 5, "goodbye");
+                assertEquals("goodbye world", textArea.getText());
+            }
+        });
+
+        // Append to the buffer outside of the EDT
+        for (int i = 0; i < 100; i++) {
+            buffer.append("\nline " + i);
+        }
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(buffer.toString(), textArea.getText());
+            }
+        });
+
+        // Replace the buffer
+        bean.setTextBuffer(new TextBuffer("new"));
+        TestUtils.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals("new", textArea.getText());
+                buffer.append("ignored");
+                assertEquals("new", textArea.getText());
+            }
+        });
+
+        // Unbind to ensure no error occurs
+        binding.unbind();
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.swing.binding;
+
+import java.util.Date;
+
+import org.jdesktop.beansbinding.Property;
+
+import com.swing.binding.bbb.mvc.PresentationModel;
+
+/**
+ * Model used by the benchmarks.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public class BenchmarkBean extends PresentationModel {
+
+    /**
+     * Defines properties that can be bound on this model.
+     */
+    public static class Properties extends PresentationModel.Properties {
+        public static final Property<BenchmarkBean, Date> DATE = create("date");
+        public static final Property<BenchmarkBean, Integer> INTEGER = create("integr");
+        public static final Property<BenchmarkBean, String> STRING = create("string");
+    }
+
+    private Date date;
+    private Integer integr;
+    private String string;
+
+    public BenchmarkBean() {
+        super();
+    }
+
+    public Date getDate() {
+        return this.date;
+    }
+
+    public void setDate(Date newValue) {
+        Date oldValue = this.date;
+        this.date = newValue;
+        getPropertyChangeSupport().firePropertyChange("date", oldValue, newValue);
+    }
+
+    public Integer getIntegr() {
+        return this.integr;
+    }
+
+    public void setIntegr(Integer newValue) {
+        Integer oldValue = this.integr;
+        this.integr = newValue;
+        getPropertyChangeSupport().firePropertyChange("integr", oldValue, newValue);
+    }
+
+    public String getString() {
+        return this.string;
+    }
+
+    public void setString(String newValue) {
+        String oldValue = this.string;
+        this.string = newValue;
+        getPropertyChangeSupport().firePropertyChange("string", oldValue, newValue);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.swing.binding;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.swing.binding.PropertyChangeSupport2.EventLogMode;
+import com.swing.binding.PropertyChangeSupport2.PauseMode;
+
+/**
+ * Benchmarks {@link PropertyChangeSupport2#firePropertyChange(PropertyChangeEvent)} when an event is fired, ignored
+ * (old and new value are equal) and paused.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PropertyChangeSupport2Benchmark {
+
+    private static final String[] PROPERTY_NAMES = { "date", "integr", "string", "title" };
+    private static final int PAUSED_EVENTS = 256;
+
+    @Param({ "QUEUE", "COALESCE" })
+    private PauseMode pauseMode;
+
+    @Param({ "OFF", "COUNT", "LOG" })
+    private EventLogMode eventLogMode;
+
+    private PropertyChangeSupport2 pcs;
+    private PropertyChangeEvent ignoredEvent;
+    private int value;
+    private int received;
+
+    @Setup
+    public void setUp() {
+        this.pcs = new PropertyChangeSupport2(this, this.pauseMode);
+        this.pcs.setEventLogMode(this.eventLogMode);
+        this.pcs.addPropertyChangeListener(new PropertyChangeListener() {
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                PropertyChangeSupport2Benchmark.this.received++;
+            }
+        });
+        Integer same = Integer.valueOf(1);
+        this.ignoredEvent = new PropertyChangeEvent(this, "integr", same, same);
+    }
+
+    /**
+     * Fire an event that is delivered to the listener.
+     */
+    @Benchmark
+    public int fire() {
+        int oldValue = this.value++;
+        this.pcs.firePropertyChange(new PropertyChangeEvent(this, "integr", oldValue, this.value));
+        return this.received;
+    }
+
+    /**
+     * Fire an event that is ignored because the old and new values are equal. The event is fired directly, the
+     * {@code firePropertyChange(String, Object, Object)} variants discard equal values before the event is created.
+     */
+    @Benchmark
+    public int ignore() {
+        this.pcs.firePropertyChange(this.ignoredEvent);
+        return this.received;
+    }
+
+    /**
+     * Pause, fire a number of events across a few properties then unpause, reported per paused event.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PAUSED_EVENTS)
+    public int pauseAndUnpause() {
+        this.pcs.setPaused(true);
+        for (int i = 0; i < PAUSED_EVENTS; i++) {
+            int oldValue = this.value++;
+            this.pcs.firePropertyChange(new PropertyChangeEvent(this, PROPERTY_NAMES[i & 3], oldValue, this.value));
+        }
+        this.pcs.setPaused(false);
+        return this.received;
+    }
+
+}
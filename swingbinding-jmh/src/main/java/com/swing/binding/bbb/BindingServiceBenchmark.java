@@ -0,0 +1,134 @@
+package com.swing.binding.bbb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JTextField;
+
+import org.jdesktop.beansbinding.Binding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.swing.binding.BenchmarkBean;
+import com.swing.binding.bbb.BindingService.Registry;
+
+/**
+ * Benchmarks {@link BindingService#bind(Binding)}, {@link BindingService#release()} and
+ * {@link BindingService#release(Object)} for a varying number of beans and bindings per bean. Each invocation operates
+ * on all the bindings, the bindings are created (and bound for a release) outside of the measurement.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BindingServiceBenchmark {
+
+    /**
+     * Bind all the bindings.
+     */
+    @Benchmark
+    public BindingService bind(Unbound state) {
+        for (Binding<?, ?, ?, ?> b : state.bindings) {
+            state.service.bind(b);
+        }
+        return state.service;
+    }
+
+    /**
+     * Bind all the bindings as one group.
+     */
+    @Benchmark
+    public BindingService bindAll(Unbound state) {
+        state.service.bindAll(state.bindings);
+        return state.service;
+    }
+
+    /**
+     * Release all the bindings.
+     */
+    @Benchmark
+    public BindingService release(Bound state) {
+        state.service.release();
+        return state.service;
+    }
+
+    /**
+     * Release the bindings of a single bean.
+     */
+    @Benchmark
+    public BindingService releaseBean(Bound state) {
+        state.service.release(state.beans.get(state.beans.size() / 2));
+        return state.service;
+    }
+
+    /**
+     * A service and bindings that have not been bound, created for each invocation.
+     */
+    @State(Scope.Thread)
+    public static class Unbound {
+
+        @Param({ "1", "10", "100" })
+        private int beanCount;
+
+        @Param({ "10", "100" })
+        private int bindingsPerBean;
+
+        @Param({ "EQUALITY", "WEAK_IDENTITY" })
+        private Registry registry;
+
+        BindingService service;
+        List<BenchmarkBean> beans;
+        List<Binding<?, ?, ?, ?>> bindings;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            this.service = new BindingService(this.registry);
+            this.beans = new ArrayList<BenchmarkBean>(this.beanCount);
+            this.bindings = new ArrayList<Binding<?, ?, ?, ?>>(this.beanCount * this.bindingsPerBean);
+            for (int i = 0; i < this.beanCount; i++) {
+                BenchmarkBean bean = new BenchmarkBean();
+                this.beans.add(bean);
+                for (int j = 0; j < this.bindingsPerBean; j++) {
+                    this.bindings.add(TextBinding.text(bean, BenchmarkBean.Properties.STRING, new JTextField()));
+                }
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            this.service.release();
+        }
+
+    }
+
+    /**
+     * As {@link Unbound} but the bindings are bound by the service before the invocation, JMH runs the setup of the
+     * superclass first.
+     */
+    @State(Scope.Thread)
+    public static class Bound extends Unbound {
+
+        @Setup(Level.Invocation)
+        public void bind() {
+            this.service.bindAll(this.bindings);
+        }
+
+    }
+
+}
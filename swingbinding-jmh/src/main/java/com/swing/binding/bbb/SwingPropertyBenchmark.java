@@ -0,0 +1,116 @@
+package com.swing.binding.bbb;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JComponent;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SwingProperty#getValue(Object)} and {@link SwingProperty#setValue(Object, Object)} for the "text"
+ * of a {@link JTextField}. A value set on the EDT is set directly, a value set off the EDT is dispatched to the EDT.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class SwingPropertyBenchmark {
+
+    private static final int EDT_BATCH = 1024;
+    private static final String[] VALUES = { "a", "bb", "ccc", "dddd" };
+
+    private SwingProperty<JComponent, String> property;
+    private SwingProperty<JComponent, Integer> integerProperty;
+    private JTextField field;
+    private Runnable setValuesInEdt;
+    private int index;
+
+    @Setup
+    public void setUp() throws InterruptedException, InvocationTargetException {
+        this.property = SwingProperty.create("text");
+        this.integerProperty = SwingProperty.create("text", Integer.class);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                SwingPropertyBenchmark.this.field = new JTextField("1");
+            }
+        });
+        this.setValuesInEdt = new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < EDT_BATCH; i++) {
+                    SwingPropertyBenchmark.this.property.setValue(SwingPropertyBenchmark.this.field, VALUES[i & 3]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wait for values dispatched to the EDT so they are not left for the next iteration.
+     */
+    @TearDown(Level.Iteration)
+    public void drain() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                // Nothing to do, queued behind the dispatched values
+            }
+        });
+    }
+
+    /**
+     * Read the text.
+     */
+    @Benchmark
+    public String getValue() {
+        return this.property.getValue(this.field);
+    }
+
+    /**
+     * Read the text for a non-String bean property (empty text is read as {@code null}).
+     */
+    @Benchmark
+    public Object getValueNonString() {
+        return this.integerProperty.getValue(this.field);
+    }
+
+    /**
+     * Set the text off the EDT, the value is dispatched to the EDT.
+     */
+    @Benchmark
+    public JTextField setValueOffEdt() {
+        this.property.setValue(this.field, VALUES[this.index++ & 3]);
+        return this.field;
+    }
+
+    /**
+     * Set the text on the EDT, reported per value (the values are set in batches to amortise the hand off to the EDT).
+     */
+    @Benchmark
+    @OperationsPerInvocation(EDT_BATCH)
+    public JTextField setValueOnEdt() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(this.setValuesInEdt);
+        return this.field;
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.swing.binding.bbb;
+
+import java.lang.reflect.InvocationTargetException;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JComponent;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+
+import org.jdesktop.beansbinding.Binding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.swing.binding.BenchmarkBean;
+
+/**
+ * Benchmarks the conversions of bindings created by {@link TextBinding}, a round trip converts the bean value to text
+ * and the text of the component back to a bean value.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class TextBindingBenchmark {
+
+    private BenchmarkBean bean;
+    private Binding<BenchmarkBean, String, JComponent, String> stringBinding;
+    private Binding<BenchmarkBean, Integer, JComponent, String> integerBinding;
+    private Binding<BenchmarkBean, Date, JComponent, String> dateBinding;
+
+    @Setup
+    public void setUp() throws InterruptedException, InvocationTargetException {
+        this.bean = new BenchmarkBean();
+        this.bean.setString("value");
+        this.bean.setIntegr(Integer.valueOf(123456));
+        this.bean.setDate(new Date());
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                DateFormat format = new SimpleDateFormat("dd/MM/yyyy");
+                TextBindingBenchmark b = TextBindingBenchmark.this;
+                b.stringBinding = TextBinding.text(b.bean, BenchmarkBean.Properties.STRING, new JTextField());
+                b.integerBinding = TextBinding.text(b.bean, BenchmarkBean.Properties.INTEGER, new JTextField());
+                b.dateBinding = TextBinding.text(b.bean, BenchmarkBean.Properties.DATE, new JTextField(), format);
+                b.stringBinding.bind();
+                b.integerBinding.bind();
+                b.dateBinding.bind();
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                TextBindingBenchmark b = TextBindingBenchmark.this;
+                b.stringBinding.unbind();
+                b.integerBinding.unbind();
+                b.dateBinding.unbind();
+            }
+        });
+    }
+
+    @Benchmark
+    public void stringRoundTrip(Blackhole bh) {
+        roundTrip(this.stringBinding, bh);
+    }
+
+    @Benchmark
+    public void integerRoundTrip(Blackhole bh) {
+        roundTrip(this.integerBinding, bh);
+    }
+
+    @Benchmark
+    public void dateRoundTrip(Blackhole bh) {
+        roundTrip(this.dateBinding, bh);
+    }
+
+    private static void roundTrip(Binding<BenchmarkBean, ?, JComponent, String> binding, Blackhole bh) {
+        bh.consume(binding.getSourceValueForTarget());
+        bh.consume(binding.getTargetValueForSource());
+    }
+
+}
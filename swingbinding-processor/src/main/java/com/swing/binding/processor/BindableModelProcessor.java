@@ -0,0 +1,317 @@
+package com.swing.binding.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a model with bound properties for each class annotated with {@code com.swing.binding.bbb.mvc.BindableModel}.
+ * The generated class extends the annotated class and declares a getter, a property change firing setter and a typed
+ * {@code ModelProperty} constant for each non-private instance field. Refer to {@code BindableModel} for the naming of
+ * the generated class and properties. A property of a primitive field writes the default value of the primitive
+ * ({@code 0} or {@code false}) when set to {@code null}.
+ * <p>
+ * The processor has no dependency on the swingbinding library, annotations and types are referenced by name.
+ * </p>
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+@SupportedAnnotationTypes(BindableModelProcessor.BINDABLE_MODEL)
+public class BindableModelProcessor extends AbstractProcessor {
+
+    static final String BINDABLE_MODEL = "com.swing.binding.bbb.mvc.BindableModel";
+    private static final String PRESENTATION_MODEL = "com.swing.binding.bbb.mvc.PresentationModel";
+    private static final String SPEC_SUFFIX = "Spec";
+    private static final String MODEL_SUFFIX = "Model";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(BINDABLE_MODEL);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element e : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (validate(e)) {
+                generate((TypeElement) e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate the annotated element is a non-final, non-generic, top level subclass of the presentation model.
+     */
+    private boolean validate(Element e) {
+        if (e.getKind() != ElementKind.CLASS) {
+            error(e, "@BindableModel must annotate a class");
+            return false;
+        }
+        TypeElement type = (TypeElement) e;
+        if (type.getModifiers().contains(Modifier.FINAL)) {
+            error(e, "@BindableModel class must not be final");
+            return false;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            error(e, "@BindableModel class must not be generic");
+            return false;
+        }
+        if (type.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            error(e, "@BindableModel class must be a top level class");
+            return false;
+        }
+        if (!isPresentationModel(type)) {
+            error(e, "@BindableModel class must extend " + PRESENTATION_MODEL);
+            return false;
+        }
+        boolean valid = true;
+        for (VariableElement f : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> m = f.getModifiers();
+            if (m.contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (m.contains(Modifier.PRIVATE)) {
+                error(f, "@BindableModel field must not be private, it is accessed by the generated subclass");
+                valid = false;
+            } else if (m.contains(Modifier.FINAL)) {
+                error(f, "@BindableModel field must not be final");
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private boolean isPresentationModel(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            TypeElement s = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (s.getQualifiedName().contentEquals(PRESENTATION_MODEL)) {
+                return true;
+            }
+            superclass = s.getSuperclass();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement spec) {
+        String packageName = ((PackageElement) spec.getEnclosingElement()).getQualifiedName().toString();
+        String specName = spec.getSimpleName().toString();
+        String name = generatedName(spec);
+        List<Field> fields = new ArrayList<Field>();
+        for (VariableElement f : ElementFilter.fieldsIn(spec.getEnclosedElements())) {
+            if (!f.getModifiers().contains(Modifier.STATIC)) {
+                fields.add(new Field(f));
+            }
+        }
+        Set<String> declaredMethods = new HashSet<String>();
+        for (ExecutableElement m : ElementFilter.methodsIn(spec.getEnclosedElements())) {
+            declaredMethods.add(m.getSimpleName().toString());
+        }
+
+        String qualifiedName = packageName.length() == 0 ? name : packageName + "." + name;
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedName, spec);
+            PrintWriter w = new PrintWriter(file.openWriter());
+            try {
+                if (packageName.length() > 0) {
+                    w.println("package " + packageName + ";");
+                    w.println();
+                }
+                w.println("import org.jdesktop.beansbinding.Property;");
+                w.println();
+                w.println("import com.swing.binding.bbb.mvc.ModelProperty;");
+                w.println("import com.swing.binding.bbb.mvc.PresentationModel;");
+                w.println();
+                w.println("/**");
+                w.println(" * Generated by {@code " + getClass().getName() + "} from {@link " + specName
+                                + "}, do not edit.");
+                w.println(" */");
+                w.println("public class " + name + " extends " + specName + " {");
+                w.println();
+                writeProperties(w, name, fields);
+                writeConstructors(w, spec, name);
+                for (Field f : fields) {
+                    writeAccessors(w, f, declaredMethods);
+                }
+                w.println("}");
+            } finally {
+                w.close();
+            }
+        } catch (IOException e) {
+            error(spec, "failed to generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void writeProperties(PrintWriter w, String name, List<Field> fields) {
+        w.println("    /**");
+        w.println("     * Defines properties that can be bound on this model.");
+        w.println("     */");
+        w.println("    public static class Properties extends PresentationModel.Properties {");
+        for (Field f : fields) {
+            w.println("        public static final Property<" + name + ", " + f.boxedType + "> " + f.constant
+                            + " = new ModelProperty<" + name + ", " + f.boxedType + ">(\"" + f.name + "\", "
+                            + f.rawType + ".class, true) {");
+            w.println("            @Override");
+            w.println("            protected " + f.boxedType + " read(" + name + " source) {");
+            w.println("                return source." + f.getter + "();");
+            w.println("            }");
+            w.println();
+            w.println("            @Override");
+            w.println("            protected void write(" + name + " source, " + f.boxedType + " value) {");
+            if (f.defaultValue == null) {
+                w.println("                source." + f.setter + "(value);");
+            } else {
+                // Unboxing null would throw a NullPointerException
+                w.println("                source." + f.setter + "(value == null ? " + f.defaultValue + " : value);");
+            }
+            w.println("            }");
+            w.println("        };");
+        }
+        w.println("    }");
+        w.println();
+    }
+
+    private void writeConstructors(PrintWriter w, TypeElement spec, String name) {
+        for (ExecutableElement c : ElementFilter.constructorsIn(spec.getEnclosedElements())) {
+            if (c.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            StringBuilder params = new StringBuilder();
+            StringBuilder args = new StringBuilder();
+            for (VariableElement p : c.getParameters()) {
+                if (params.length() > 0) {
+                    params.append(", ");
+                    args.append(", ");
+                }
+                params.append(p.asType()).append(' ').append(p.getSimpleName());
+                args.append(p.getSimpleName());
+            }
+            StringBuilder throwsClause = new StringBuilder();
+            for (TypeMirror t : c.getThrownTypes()) {
+                throwsClause.append(throwsClause.length() == 0 ? " throws " : ", ").append(t);
+            }
+            w.println("    public " + name + "(" + params + ")" + throwsClause + " {");
+            w.println("        super(" + args + ");");
+            w.println("    }");
+            w.println();
+        }
+    }
+
+    private void writeAccessors(PrintWriter w, Field f, Set<String> declaredMethods) {
+        if (!declaredMethods.contains(f.getter)) {
+            w.println("    public " + f.type + " " + f.getter + "() {");
+            w.println("        return this." + f.name + ";");
+            w.println("    }");
+            w.println();
+        }
+        if (!declaredMethods.contains(f.setter)) {
+            w.println("    public void " + f.setter + "(" + f.type + " newValue) {");
+            w.println("        " + f.type + " oldValue = this." + f.name + ";");
+            w.println("        this." + f.name + " = newValue;");
+            w.println("        firePropertyChange(\"" + f.name + "\", oldValue, newValue);");
+            w.println("    }");
+            w.println();
+        }
+    }
+
+    private String generatedName(TypeElement spec) {
+        for (AnnotationMirror a : spec.getAnnotationMirrors()) {
+            if (((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(BINDABLE_MODEL)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : a.getElementValues()
+                                .entrySet()) {
+                    if (e.getKey().getSimpleName().contentEquals("name")) {
+                        String name = (String) e.getValue().getValue();
+                        if (name.length() > 0) {
+                            return name;
+                        }
+                    }
+                }
+            }
+        }
+        String specName = spec.getSimpleName().toString();
+        if (specName.endsWith(SPEC_SUFFIX) && specName.length() > SPEC_SUFFIX.length()) {
+            return specName.substring(0, specName.length() - SPEC_SUFFIX.length());
+        }
+        return specName + MODEL_SUFFIX;
+    }
+
+    private void error(Element e, String message) {
+        this.processingEnv.getMessager().printMessage(Kind.ERROR, message, e);
+    }
+
+    /**
+     * The names and types of a field used to generate its accessors and property.
+     */
+    private final class Field {
+        private final String name;
+        private final String type;
+        private final String boxedType;
+        private final String rawType;
+        private final String defaultValue;
+        private final String getter;
+        private final String setter;
+        private final String constant;
+
+        Field(VariableElement f) {
+            TypeMirror t = f.asType();
+            this.name = f.getSimpleName().toString();
+            this.type = t.toString();
+            if (t.getKind().isPrimitive()) {
+                this.boxedType = BindableModelProcessor.this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) t)
+                                .getQualifiedName().toString();
+                this.defaultValue = t.getKind() == TypeKind.BOOLEAN ? "false" : "(" + this.type + ") 0";
+            } else {
+                this.boxedType = this.type;
+                this.defaultValue = null;
+            }
+            this.rawType = BindableModelProcessor.this.processingEnv.getTypeUtils().erasure(t).toString();
+            String capitalised = Character.toUpperCase(this.name.charAt(0)) + this.name.substring(1);
+            this.getter = (t.getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalised;
+            this.setter = "set" + capitalised;
+            this.constant = constantName(this.name);
+        }
+
+        private String constantName(String fieldName) {
+            StringBuilder sb = new StringBuilder(fieldName.length() + 4);
+            for (int i = 0; i < fieldName.length(); i++) {
+                char c = fieldName.charAt(i);
+                if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(fieldName.charAt(i - 1))) {
+                    sb.append('_');
+                }
+                sb.append(Character.toUpperCase(c));
+            }
+            return sb.toString();
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.swing.binding.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.jdesktop.beansbinding.Property;
+import org.jdesktop.beansbinding.PropertyStateEvent;
+import org.jdesktop.beansbinding.PropertyStateListener;
+import org.junit.Test;
+
+import com.swing.binding.bbb.mvc.ModelProperty;
+import com.swing.binding.bbb.mvc.PresentationModel;
+
+/**
+ * Tests the functionality of {@link BindableModelProcessor}. The sample models are compiled with the processor by the
+ * system Java compiler and the generated model is loaded and bound.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+public class BindableModelProcessorTest {
+
+    /**
+     * Test the generated accessors and properties of the sample model.
+     */
+    @Test
+    public void testGeneratedModel() throws Exception {
+        ClassLoader loader = compile("testGeneratedModel", source("sample.PersonSpec",
+                        resource("sample/PersonSpec.java")));
+        Class<?> type = loader.loadClass("sample.Person");
+        PresentationModel person = (PresentationModel) type.getConstructor(String.class).newInstance("Ann");
+
+        // The properties read and write through the accessors
+        ModelProperty<PresentationModel, Object> firstName = property(loader, "FIRST_NAME");
+        assertEquals("firstName", firstName.getName());
+        assertEquals(String.class, firstName.getWriteType(person));
+        assertEquals("Ann", firstName.getValue(person));
+        firstName.setValue(person, "Bob");
+        assertEquals("Bob", type.getMethod("getFirstName").invoke(person));
+
+        ModelProperty<PresentationModel, Object> age = property(loader, "AGE");
+        assertEquals(Integer.TYPE, age.getWriteType(person));
+        age.setValue(person, Integer.valueOf(200));
+        // The declared getter is used
+        assertEquals(Integer.valueOf(150), age.getValue(person));
+        // null is written as the default value of a primitive
+        age.setValue(person, null);
+        assertEquals(Integer.valueOf(0), age.getValue(person));
+
+        ModelProperty<PresentationModel, Object> active = property(loader, "ACTIVE");
+        type.getMethod("setActive", Boolean.TYPE).invoke(person, Boolean.TRUE);
+        assertEquals(Boolean.TRUE, active.getValue(person));
+        assertEquals(Boolean.TRUE, type.getMethod("isActive").invoke(person));
+        active.setValue(person, null);
+        assertEquals(Boolean.FALSE, active.getValue(person));
+
+        ModelProperty<PresentationModel, Object> nickNames = property(loader, "NICK_NAMES");
+        assertEquals(List.class, nickNames.getWriteType(person));
+        nickNames.setValue(person, Arrays.asList("B"));
+        assertEquals(Arrays.asList("B"), type.getMethod("getNickNames").invoke(person));
+    }
+
+    /**
+     * Test a property state event is fired when the setter is invoked and when all properties change (a property
+     * change event without a property name).
+     */
+    @Test
+    public void testPropertyStateListener() throws Exception {
+        ClassLoader loader = compile("testPropertyStateListener", source("sample.PersonSpec",
+                        resource("sample/PersonSpec.java")));
+        Class<?> type = loader.loadClass("sample.Person");
+        PresentationModel person = (PresentationModel) type.getConstructor().newInstance();
+        ModelProperty<PresentationModel, Object> firstName = property(loader, "FIRST_NAME");
+        final List<PropertyStateEvent> events = new ArrayList<PropertyStateEvent>();
+        PropertyStateListener l = new PropertyStateListener() {
+            @Override
+            public void propertyStateChanged(PropertyStateEvent pse) {
+                events.add(pse);
+            }
+        };
+        firstName.addPropertyStateListener(person, l);
+
+        type.getMethod("setFirstName", String.class).invoke(person, "Ann");
+        // A change to a different property is not an event for this property
+        type.getMethod("setAge", Integer.TYPE).invoke(person, Integer.valueOf(1));
+        assertEquals(1, events.size());
+        assertEquals(null, events.get(0).getOldValue());
+        assertEquals("Ann", events.get(0).getNewValue());
+
+        // Change the field without an event for the property then notify all properties changed
+        Field f = loader.loadClass("sample.PersonSpec").getDeclaredField("firstName");
+        f.setAccessible(true);
+        f.set(person, "Bob");
+        person.firePropertyChange(null, null, null);
+        assertEquals(2, events.size());
+        assertEquals("Ann", events.get(1).getOldValue());
+        assertEquals("Bob", events.get(1).getNewValue());
+
+        firstName.removePropertyStateListener(person, l);
+        type.getMethod("setFirstName", String.class).invoke(person, "Cat");
+        assertEquals(2, events.size());
+    }
+
+    /**
+     * Test an invalid model is a compilation error.
+     */
+    @Test
+    public void testPrivateField() throws Exception {
+        JavaFileObject source = source("sample.InvalidSpec", "package sample;\n"
+                        + "@com.swing.binding.bbb.mvc.BindableModel\n"
+                        + "public class InvalidSpec extends com.swing.binding.bbb.mvc.PresentationModel {\n"
+                        + "    private String name;\n" + "}\n");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        assertFalse(call("testPrivateField", diagnostics, source));
+        boolean reported = false;
+        for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+            reported |= d.getKind() == Diagnostic.Kind.ERROR
+                            && d.getMessage(Locale.ENGLISH).contains("must not be private");
+        }
+        assertTrue(reported);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModelProperty<PresentationModel, Object> property(ClassLoader loader, String name)
+                    throws Exception {
+        Property<?, ?> p = (Property<?, ?>) loader.loadClass("sample.Person$Properties").getField(name).get(null);
+        return (ModelProperty<PresentationModel, Object>) p;
+    }
+
+    /**
+     * Compile the sources with the processor and load the classes compiled.
+     */
+    private static ClassLoader compile(String name, JavaFileObject... sources) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        boolean compiled = call(name, diagnostics, sources);
+        assertTrue(diagnostics.getDiagnostics().toString(), compiled);
+        return new URLClassLoader(new URL[] { output(name).toURI().toURL() },
+                        BindableModelProcessorTest.class.getClassLoader());
+    }
+
+    private static boolean call(String name, DiagnosticCollector<JavaFileObject> diagnostics,
+                    JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        try {
+            File output = output(name);
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(output));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(output));
+            // The library and beans binding, where the classes the generated model uses are loaded from
+            fileManager.setLocation(StandardLocation.CLASS_PATH, Arrays.asList(location(PresentationModel.class),
+                            location(Property.class)));
+            CompilationTask task = compiler.getTask(null, fileManager, diagnostics, null, null, Arrays
+                            .asList(sources));
+            task.setProcessors(Collections.singleton(new BindableModelProcessor()));
+            return task.call().booleanValue();
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    private static File output(String name) {
+        File output = new File("target/processor-test/" + name);
+        output.mkdirs();
+        return output;
+    }
+
+    private static File location(Class<?> type) {
+        try {
+            return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String resource(String name) throws IOException {
+        InputStream in = BindableModelProcessorTest.class.getClassLoader().getResourceAsStream(name);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] b = new byte[4096];
+            for (int n = in.read(b); n >= 0; n = in.read(b)) {
+                out.write(b, 0, n);
+            }
+            return out.toString("UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    private static JavaFileObject source(String className, final String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+}
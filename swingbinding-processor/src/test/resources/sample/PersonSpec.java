@@ -0,0 +1,40 @@
+package sample;
+
+import java.util.List;
+
+import com.swing.binding.bbb.mvc.BindableModel;
+import com.swing.binding.bbb.mvc.PresentationModel;
+
+/**
+ * A sample model compiled by {@code BindableModelProcessorTest}, {@code Person} is generated.
+ *
+ * @author Stephen Neal
+ * @since 17/10/2026
+ */
+@BindableModel
+public class PersonSpec extends PresentationModel {
+
+    static final int MAX_AGE = 150;
+
+    String firstName;
+    int age;
+    boolean active;
+    List<String> nickNames;
+
+    public PersonSpec() {
+        super();
+    }
+
+    public PersonSpec(String firstName) {
+        super();
+        this.firstName = firstName;
+    }
+
+    /**
+     * A declared getter is not generated.
+     */
+    public int getAge() {
+        return Math.min(this.age, MAX_AGE);
+    }
+
+}